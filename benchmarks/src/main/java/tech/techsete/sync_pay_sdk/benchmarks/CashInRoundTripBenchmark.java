@@ -0,0 +1,123 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.CashInResponse;
+import tech.techsete.sync_pay_sdk.services.PixService;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede uma chamada completa de {@link PixService#createCashInAsync(CashInRequest)} contra um
+ * servidor HTTP local que simula a API SyncPay.
+ * <p>
+ * O SDK é iniciado pela auto-configuração, como em uma aplicação, e percorre todo o caminho da
+ * requisição: validação, filtros, token de acesso, serialização, pool de conexões e
+ * desserialização da resposta. O limitador de taxa é desabilitado para que o resultado reflita
+ * o custo do cliente, e não o limite configurado para a API.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CashInRoundTripBenchmark {
+
+    private static final String AUTH_JSON = "{\"access_token\":\"token\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+    private static final String CASH_IN_JSON = "{\"message\":\"Cobrança criada\",\"pix_code\":\"00020126580014br.gov.bcb.pix\","
+            + "\"identifier\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\"}";
+
+    private DisposableServer server;
+    private ConfigurableApplicationContext context;
+    private PixService pixService;
+    private CashInRequest cashInRequest;
+
+    @Setup
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/api/partner/v1/auth-token", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just(AUTH_JSON), StandardCharsets.UTF_8))
+                        .post("/api/partner/v1/cash-in", (request, response) -> request.receive().then(response
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just(CASH_IN_JSON), StandardCharsets.UTF_8)
+                                .then())))
+                .bindNow();
+
+        context = new SpringApplicationBuilder(StubApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--syncpay.http.base-url=http://127.0.0.1:" + server.port(),
+                        "--syncpay.auth.client-id=benchmark",
+                        "--syncpay.auth.client-secret=benchmark",
+                        "--syncpay.rate-limit.enabled=false");
+        pixService = context.getBean(PixService.class);
+
+        cashInRequest = CashInRequest.builder()
+                .amount(new BigDecimal("150.75"))
+                .description("Pedido 12345")
+                .client(CashInRequest.Client.builder()
+                        .name("Fulano de Tal")
+                        .cpf("12345678909")
+                        .email("fulano@example.com")
+                        .phone("11999999999")
+                        .build())
+                .split(List.of(
+                        CashInRequest.Split.builder().percentage(70).userId("9f1c2a9e-0001").build(),
+                        CashInRequest.Split.builder().percentage(30).userId("9f1c2a9e-0002").build()))
+                .build();
+
+        pixService.createCashInAsync(cashInRequest).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public CashInResponse createCashIn() {
+        return pixService.createCashInAsync(cashInRequest).block();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CashInResponse createCashInConcurrent() {
+        return pixService.createCashInAsync(cashInRequest).block();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    static class StubApplication {
+    }
+}
@@ -0,0 +1,137 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.enums.WebhookEventStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo de decodificação dos DTOs do SDK entre o {@link Jackson2JsonDecoder}
+ * padrão do {@code WebClient} e os codecs dedicados de {@link SyncPayJsonCodecs}.
+ * <p>
+ * {@code statusLookup*} isola a conversão de enums: a tabela pré-calculada de
+ * {@link WebhookEventStatus#fromValue(String)} contra a busca linear anterior.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final String TRANSACTION_JSON = "{\"data\":{\"reference_id\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\","
+            + "\"currency\":\"BRL\",\"amount\":150.75,\"transaction_date\":\"2024-05-05T10:11:12.123456-03:00\","
+            + "\"status\":\"completed\",\"description\":\"Pagamento\",\"pix_code\":\"00020126580014br.gov.bcb.pix\"}}";
+
+    private static final String WEBHOOK_JSON = "{\"id\":42,\"title\":\"Cash-In\",\"url\":\"https://example.com/webhooks/cashin\","
+            + "\"event\":\"cashin\",\"trigger_all_products\":true,\"token\":\"token-42\","
+            + "\"created_at\":\"2024-05-05T10:11:12.000000Z\",\"updated_at\":\"2024-05-06T08:00:00.000000Z\"}";
+
+    private static final String WEBHOOK_EVENT_JSON = "{\"data\":{\"id\":\"9b0e\",\"amount\":15075,\"status\":\"PAID_OUT\","
+            + "\"user_id\":\"u-1\",\"checkout\":{\"utm_term\":\"pix\",\"utm_medium\":\"cpc\",\"utm_source\":\"google\","
+            + "\"utm_content\":\"banner\",\"utm_campaign\":\"maio\"},\"client_name\":\"Fulano de Tal\","
+            + "\"paymentcode\":\"00020126580014br.gov.bcb.pix\",\"client_email\":\"fulano@example.com\","
+            + "\"data_registro\":\"2024-05-05 10:11:12\",\"idtransaction\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\","
+            + "\"taxa_deposito\":1.5,\"adquirente_ref\":\"ref-1\",\"client_document\":\"12345678909\","
+            + "\"taxa_adquirente\":0.5,\"deposito_liquido\":148.75,\"externalreference\":\"ext-1\","
+            + "\"paymentCodeBase64\":\"MDAwMjAxMjY=\"}}";
+
+    private static final ResolvableType TRANSACTION_TYPE = ResolvableType.forClass(TransactionResponse.class);
+    private static final ResolvableType WEBHOOK_TYPE = ResolvableType.forClass(WebhookResponse.class);
+    private static final ResolvableType WEBHOOK_EVENT_TYPE = ResolvableType.forClass(WebhookEventRequest.class);
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private Decoder<Object> defaultDecoder;
+    private Decoder<Object> sdkDecoder;
+    private byte[] transaction;
+    private byte[] webhook;
+    private byte[] webhookEvent;
+    private String status;
+
+    @Setup
+    public void setUp() {
+        defaultDecoder = new Jackson2JsonDecoder(Jackson2ObjectMapperBuilder.json().build());
+        sdkDecoder = new SyncPayJsonCodecs().getDecoder();
+        transaction = TRANSACTION_JSON.getBytes(StandardCharsets.UTF_8);
+        webhook = WEBHOOK_JSON.getBytes(StandardCharsets.UTF_8);
+        webhookEvent = WEBHOOK_EVENT_JSON.getBytes(StandardCharsets.UTF_8);
+        status = new String("WAITING_FOR_APPROVAL".toCharArray());
+    }
+
+    @Benchmark
+    public Object transactionDefault() {
+        return decode(defaultDecoder, transaction, TRANSACTION_TYPE);
+    }
+
+    @Benchmark
+    public Object transactionSdk() {
+        return decode(sdkDecoder, transaction, TRANSACTION_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookDefault() {
+        return decode(defaultDecoder, webhook, WEBHOOK_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookSdk() {
+        return decode(sdkDecoder, webhook, WEBHOOK_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookEventDefault() {
+        return decode(defaultDecoder, webhookEvent, WEBHOOK_EVENT_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookEventSdk() {
+        return decode(sdkDecoder, webhookEvent, WEBHOOK_EVENT_TYPE);
+    }
+
+    @Benchmark
+    public WebhookEventStatus statusLookupLegacy() {
+        return legacyFromValue(status);
+    }
+
+    @Benchmark
+    public WebhookEventStatus statusLookupSdk() {
+        return WebhookEventStatus.fromValue(status);
+    }
+
+    private Object decode(Decoder<Object> decoder, byte[] json, ResolvableType type) {
+        return decoder.decode(bufferFactory.wrap(json), type, MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    private static WebhookEventStatus legacyFromValue(String value) {
+        for (WebhookEventStatus status : WebhookEventStatus.values()) {
+            if (status.getValue().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Status inválido: " + value);
+    }
+}
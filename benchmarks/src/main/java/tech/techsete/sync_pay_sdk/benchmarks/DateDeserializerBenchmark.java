@@ -0,0 +1,116 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.benchmarks.legacy.LegacyMultiFormatDateDeserializer;
+import tech.techsete.sync_pay_sdk.benchmarks.legacy.LegacyWebhookResponse;
+import tech.techsete.sync_pay_sdk.deserializers.MultiFormatDateDeserializer;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o {@link MultiFormatDateDeserializer} com a implementação anterior.
+ * <p>
+ * {@code field*} mede um único campo em cada formato aceito; {@code webhooks*} mede a
+ * desserialização de uma lista de {@link WebhookResponse} com datas ISO, o caso mais comum
+ * nas respostas de webhooks.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateDeserializerBenchmark {
+
+    @Param({"2024-05-05 10:11:12", "2024-05-05T10:11:12.123456-03:00", "2024-05-05T10:11:12.123Z"})
+    public String date;
+
+    @Param({"100"})
+    public int webhooks;
+
+    private ObjectReader currentFieldReader;
+    private ObjectReader legacyFieldReader;
+    private ObjectReader currentWebhooksReader;
+    private ObjectReader legacyWebhooksReader;
+    private String fieldJson;
+    private String webhooksJson;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        currentFieldReader = mapper.readerFor(CurrentField.class);
+        legacyFieldReader = mapper.readerFor(LegacyField.class);
+        currentWebhooksReader = mapper.readerFor(new TypeReference<List<WebhookResponse>>() { });
+        legacyWebhooksReader = mapper.readerFor(new TypeReference<List<LegacyWebhookResponse>>() { });
+
+        fieldJson = "{\"date\":\"" + date + "\"}";
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < webhooks; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"title\":\"Webhook ").append(i)
+                    .append("\",\"url\":\"https://example.com/webhooks/").append(i)
+                    .append("\",\"event\":\"cashin\",\"trigger_all_products\":true,\"token\":\"token-").append(i)
+                    .append("\",\"created_at\":\"").append(date)
+                    .append("\",\"updated_at\":\"").append(date)
+                    .append("\"}");
+        }
+        webhooksJson = json.append(']').toString();
+    }
+
+    @Benchmark
+    public OffsetDateTime fieldCurrent() throws Exception {
+        return currentFieldReader.<CurrentField>readValue(fieldJson).date;
+    }
+
+    @Benchmark
+    public OffsetDateTime fieldLegacy() throws Exception {
+        return legacyFieldReader.<LegacyField>readValue(fieldJson).date;
+    }
+
+    @Benchmark
+    public List<WebhookResponse> webhooksCurrent() throws Exception {
+        return currentWebhooksReader.readValue(webhooksJson);
+    }
+
+    @Benchmark
+    public List<LegacyWebhookResponse> webhooksLegacy() throws Exception {
+        return legacyWebhooksReader.readValue(webhooksJson);
+    }
+
+    public static class CurrentField {
+
+        @JsonProperty("date")
+        @JsonDeserialize(using = MultiFormatDateDeserializer.class)
+        public OffsetDateTime date;
+    }
+
+    public static class LegacyField {
+
+        @JsonProperty("date")
+        @JsonDeserialize(using = LegacyMultiFormatDateDeserializer.class)
+        public OffsetDateTime date;
+    }
+}
@@ -0,0 +1,62 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOperation;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOutcome;
+import tech.techsete.sync_pay_sdk.metrics.SyncPayClientMetrics;
+import tech.techsete.sync_pay_sdk.properties.SyncPayMetricsProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo de registrar uma chamada nas métricas do SDK.
+ * <p>
+ * {@code preRegistered} utiliza {@link SyncPayClientMetrics}, com os medidores criados na
+ * inicialização. {@code dynamicTags} reproduz a abordagem comum de montar as tags e obter o
+ * timer do registro a cada chamada.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private MeterRegistry meterRegistry;
+    private SyncPayClientMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SyncPayClientMetrics(meterRegistry, new SyncPayMetricsProperties());
+    }
+
+    @Benchmark
+    public void preRegistered() {
+        metrics.start(SyncPayOperation.CASH_IN).stop(SyncPayOutcome.SUCCESS);
+    }
+
+    @Benchmark
+    public void dynamicTags() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        sample.stop(meterRegistry.timer(SyncPayClientMetrics.REQUESTS, Tags.of(
+                "operation", SyncPayOperation.CASH_IN.getValue(),
+                "outcome", SyncPayOutcome.SUCCESS.name(),
+                "status", SyncPayOutcome.SUCCESS.getStatus())));
+    }
+}
@@ -0,0 +1,171 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.domain.Page;
+import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
+import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.enums.DocumentType;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização e a desserialização dos DTOs do caminho de pagamento pelos codecs
+ * que o {@code WebClient} do SDK utiliza ({@link SyncPayJsonCodecs}).
+ * <p>
+ * {@code cashIn} e {@code cashOut} serializam os corpos das requisições, com splits no caso
+ * do Cash-In. {@code transaction}, {@code webhookPage} e {@code webhookEvent} desserializam
+ * uma consulta de transação, uma página de 50 webhooks e uma notificação recebida.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final String TRANSACTION_JSON = "{\"data\":{\"reference_id\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\","
+            + "\"currency\":\"BRL\",\"amount\":150.75,\"transaction_date\":\"2024-05-05T10:11:12.123456-03:00\","
+            + "\"status\":\"completed\",\"description\":\"Pagamento\",\"pix_code\":\"00020126580014br.gov.bcb.pix\"}}";
+
+    private static final String WEBHOOK_EVENT_JSON = "{\"data\":{\"id\":\"9b0e\",\"amount\":15075,\"status\":\"PAID_OUT\","
+            + "\"user_id\":\"u-1\",\"checkout\":{\"utm_term\":\"pix\",\"utm_medium\":\"cpc\",\"utm_source\":\"google\","
+            + "\"utm_content\":\"banner\",\"utm_campaign\":\"maio\"},\"client_name\":\"Fulano de Tal\","
+            + "\"paymentcode\":\"00020126580014br.gov.bcb.pix\",\"client_email\":\"fulano@example.com\","
+            + "\"data_registro\":\"2024-05-05 10:11:12\",\"idtransaction\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\","
+            + "\"taxa_deposito\":1.5,\"adquirente_ref\":\"ref-1\",\"client_document\":\"12345678909\","
+            + "\"taxa_adquirente\":0.5,\"deposito_liquido\":148.75,\"externalreference\":\"ext-1\","
+            + "\"paymentCodeBase64\":\"MDAwMjAxMjY=\"}}";
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final ResolvableType CASH_IN_TYPE = ResolvableType.forClass(CashInRequest.class);
+    private static final ResolvableType CASH_OUT_TYPE = ResolvableType.forClass(CashOutRequest.class);
+    private static final ResolvableType TRANSACTION_TYPE = ResolvableType.forClass(TransactionResponse.class);
+    private static final ResolvableType WEBHOOK_PAGE_TYPE = ResolvableType.forClassWithGenerics(Page.class, WebhookResponse.class);
+    private static final ResolvableType WEBHOOK_EVENT_TYPE = ResolvableType.forClass(WebhookEventRequest.class);
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private Jackson2JsonEncoder encoder;
+    private Decoder<Object> decoder;
+    private CashInRequest cashInRequest;
+    private CashOutRequest cashOutRequest;
+    private byte[] transaction;
+    private byte[] webhookPage;
+    private byte[] webhookEvent;
+
+    @Setup
+    public void setUp() {
+        SyncPayJsonCodecs codecs = new SyncPayJsonCodecs();
+        encoder = codecs.getEncoder();
+        decoder = codecs.getDecoder();
+
+        cashInRequest = CashInRequest.builder()
+                .amount(new BigDecimal("150.75"))
+                .description("Pedido 12345")
+                .webhookUrl("https://example.com/webhooks/cashin")
+                .client(CashInRequest.Client.builder()
+                        .name("Fulano de Tal")
+                        .cpf("12345678909")
+                        .email("fulano@example.com")
+                        .phone("11999999999")
+                        .build())
+                .split(List.of(
+                        CashInRequest.Split.builder().percentage(70).userId("9f1c2a9e-0001").build(),
+                        CashInRequest.Split.builder().percentage(20).userId("9f1c2a9e-0002").build(),
+                        CashInRequest.Split.builder().percentage(10).userId("9f1c2a9e-0003").build()))
+                .build();
+
+        cashOutRequest = CashOutRequest.builder()
+                .amount(new BigDecimal("99.90"))
+                .description("Saque")
+                .pixKeyType(PixKeyType.EVP)
+                .pixKey("123e4567-e89b-12d3-a456-426614174000")
+                .document(CashOutRequest.Document.builder().type(DocumentType.CPF).number("12345678909").build())
+                .build();
+
+        transaction = TRANSACTION_JSON.getBytes(StandardCharsets.UTF_8);
+        webhookPage = webhookPageJson().getBytes(StandardCharsets.UTF_8);
+        webhookEvent = WEBHOOK_EVENT_JSON.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int cashIn() {
+        return encode(cashInRequest, CASH_IN_TYPE);
+    }
+
+    @Benchmark
+    public int cashOut() {
+        return encode(cashOutRequest, CASH_OUT_TYPE);
+    }
+
+    @Benchmark
+    public Object transaction() {
+        return decode(transaction, TRANSACTION_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookPage() {
+        return decode(webhookPage, WEBHOOK_PAGE_TYPE);
+    }
+
+    @Benchmark
+    public Object webhookEvent() {
+        return decode(webhookEvent, WEBHOOK_EVENT_TYPE);
+    }
+
+    private int encode(Object value, ResolvableType type) {
+        DataBuffer buffer = encoder.encodeValue(value, bufferFactory, type, MediaType.APPLICATION_JSON, Map.of());
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    private Object decode(byte[] json, ResolvableType type) {
+        return decoder.decode(bufferFactory.wrap(json), type, MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    private static String webhookPageJson() {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"title\":\"Webhook ").append(i)
+                    .append("\",\"url\":\"https://example.com/webhooks/").append(i)
+                    .append("\",\"event\":\"").append(i % 2 == 0 ? "cashin" : "cashout")
+                    .append("\",\"trigger_all_products\":true,\"token\":\"token-").append(i)
+                    .append("\",\"created_at\":\"2024-05-05 10:11:12\",\"updated_at\":\"2024-05-06T08:00:00.000000Z\"}");
+        }
+        return json.append("],\"meta\":{\"currentPage\":1,\"per_page\":").append(PAGE_SIZE)
+                .append(",\"has_more_pages\":true}}").toString();
+    }
+}
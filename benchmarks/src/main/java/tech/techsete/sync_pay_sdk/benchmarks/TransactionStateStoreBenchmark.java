@@ -0,0 +1,62 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.enums.WebhookEventStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionStateProperties;
+import tech.techsete.sync_pay_sdk.state.TransactionStateStore;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atualizações do {@link TransactionStateStore} com 8 threads sobre 1 milhão de transações.
+ * <p>
+ * Cada chamada aplica um status ao acaso a uma transação ao acaso, como webhooks fora de ordem
+ * misturados a consultas: a maior parte é descartada como repetida ou atrasada, e o restante
+ * avança a transação e avisa um ouvinte vazio.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class TransactionStateStoreBenchmark {
+
+    private static final int TRANSACTIONS = 1_000_000;
+    private static final WebhookEventStatus[] STATUSES = WebhookEventStatus.values();
+
+    private String[] ids;
+    private TransactionStateStore stateStore;
+
+    @Setup
+    public void setUp() {
+        stateStore = new TransactionStateStore(new SyncPayTransactionStateProperties());
+        stateStore.addListener(change -> { });
+
+        ids = new String[TRANSACTIONS];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            stateStore.update(ids[i], WebhookEventStatus.PENDING);
+        }
+    }
+
+    @Benchmark
+    public boolean update() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return stateStore.update(ids[random.nextInt(TRANSACTIONS)], STATUSES[random.nextInt(STATUSES.length)]);
+    }
+}
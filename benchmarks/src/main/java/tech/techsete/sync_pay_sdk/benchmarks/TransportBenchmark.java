@@ -0,0 +1,113 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.CashInResponse;
+import tech.techsete.sync_pay_sdk.services.PixService;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os transportes HTTP do SDK em chamadas síncronas com alta concorrência.
+ * <p>
+ * Sessenta e quatro threads chamam {@link PixService#createCashIn(CashInRequest)} contra um
+ * servidor local que responde após {@code 2 ms}. O modo {@code thrpt} mede a vazão e o modo
+ * {@code sample} a distribuição das latências, incluindo o p99. No transporte {@code jdk}, as
+ * threads virtuais só são utilizadas em Java 21 ou superior.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class TransportBenchmark {
+
+    private static final String AUTH_JSON = "{\"access_token\":\"token\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+    private static final String CASH_IN_JSON = "{\"message\":\"Cobrança criada\",\"pix_code\":\"00020126580014br.gov.bcb.pix\","
+            + "\"identifier\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\"}";
+
+    @Param({"reactor-netty", "jdk"})
+    private String transport;
+
+    private DisposableServer server;
+    private ConfigurableApplicationContext context;
+    private PixService pixService;
+    private CashInRequest cashInRequest;
+
+    @Setup
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/api/partner/v1/auth-token", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just(AUTH_JSON), StandardCharsets.UTF_8))
+                        .post("/api/partner/v1/cash-in", (request, response) -> request.receive().then(response
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just(CASH_IN_JSON).delayElement(Duration.ofMillis(2)), StandardCharsets.UTF_8)
+                                .then())))
+                .bindNow();
+
+        context = new SpringApplicationBuilder(StubApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--syncpay.http.base-url=http://127.0.0.1:" + server.port(),
+                        "--syncpay.http.transport=" + transport,
+                        "--syncpay.auth.client-id=benchmark",
+                        "--syncpay.auth.client-secret=benchmark",
+                        "--syncpay.rate-limit.enabled=false");
+        pixService = context.getBean(PixService.class);
+
+        cashInRequest = CashInRequest.builder()
+                .amount(new BigDecimal("150.75"))
+                .description("Pedido 12345")
+                .build();
+
+        pixService.createCashIn(cashInRequest);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public CashInResponse createCashIn() {
+        return pixService.createCashIn(cashInRequest);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    static class StubApplication {
+    }
+}
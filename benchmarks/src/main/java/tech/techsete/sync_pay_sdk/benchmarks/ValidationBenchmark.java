@@ -0,0 +1,170 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
+import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
+import tech.techsete.sync_pay_sdk.enums.DocumentType;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+import tech.techsete.sync_pay_sdk.properties.SyncPayValidationProperties;
+import tech.techsete.sync_pay_sdk.validation.SyncPayRequestValidator;
+import tech.techsete.sync_pay_sdk.validation.PixKeys;
+import tech.techsete.sync_pay_sdk.validation.TaxIds;
+import tech.techsete.sync_pay_sdk.validation.Violation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o {@link SyncPayRequestValidator} ao Hibernate Validator sobre as mesmas anotações.
+ * <p>
+ * Mede um Cash-In válido completo (cliente e splits), um Cash-In com violações em todos os
+ * níveis, um Cash-Out válido e um lote de 1.000 Cash-Outs, além da verificação isolada de CPF
+ * e da normalização de uma chave PIX de telefone, com e sem o cache de chaves verificadas.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private SyncPayRequestValidator requestValidator;
+    private ValidatorFactory validatorFactory;
+    private Validator hibernateValidator;
+    private CashInRequest validCashIn;
+    private CashInRequest invalidCashIn;
+    private CashOutRequest validCashOut;
+    private List<CashOutRequest> cashOutBatch;
+
+    @Setup
+    public void setUp() {
+        requestValidator = new SyncPayRequestValidator(new SyncPayValidationProperties());
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        hibernateValidator = validatorFactory.getValidator();
+
+        validCashIn = CashInRequest.builder()
+                .amount(new BigDecimal("150.75"))
+                .description("Pedido 12345")
+                .client(CashInRequest.Client.builder()
+                        .name("Fulano de Tal")
+                        .cpf("529.982.247-25")
+                        .email("fulano@example.com")
+                        .phone("11999999999")
+                        .build())
+                .split(List.of(
+                        CashInRequest.Split.builder().percentage(70).userId("9f1c2a9e-0001").build(),
+                        CashInRequest.Split.builder().percentage(30).userId("9f1c2a9e-0002").build()))
+                .build();
+
+        invalidCashIn = CashInRequest.builder()
+                .amount(new BigDecimal("-1"))
+                .client(CashInRequest.Client.builder()
+                        .name("")
+                        .cpf("12345678900")
+                        .email("fulano@")
+                        .phone("123")
+                        .build())
+                .split(List.of(
+                        CashInRequest.Split.builder().percentage(70).userId(" ").build(),
+                        CashInRequest.Split.builder().percentage(130).userId("9f1c2a9e-0002").build()))
+                .build();
+
+        validCashOut = CashOutRequest.builder()
+                .amount(new BigDecimal("99.90"))
+                .pixKeyType(PixKeyType.CPF)
+                .pixKey("52998224725")
+                .document(CashOutRequest.Document.builder().type(DocumentType.CPF).number("52998224725").build())
+                .build();
+
+        cashOutBatch = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            cashOutBatch.add(validCashOut);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public List<Violation> validCashInSdk() {
+        return requestValidator.validate(validCashIn);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CashInRequest>> validCashInHibernate() {
+        return hibernateValidator.validate(validCashIn);
+    }
+
+    @Benchmark
+    public List<Violation> invalidCashInSdk() {
+        return requestValidator.validate(invalidCashIn);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CashInRequest>> invalidCashInHibernate() {
+        return hibernateValidator.validate(invalidCashIn);
+    }
+
+    @Benchmark
+    public List<Violation> validCashOutSdk() {
+        return requestValidator.validate(validCashOut);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CashOutRequest>> validCashOutHibernate() {
+        return hibernateValidator.validate(validCashOut);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Violation>> cashOutBatchSdk() {
+        return requestValidator.validateCashOuts(cashOutBatch);
+    }
+
+    @Benchmark
+    public int cashOutBatchHibernate() {
+        int invalid = 0;
+        for (CashOutRequest request : cashOutBatch) {
+            if (!hibernateValidator.validate(request).isEmpty()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public boolean cpfCheckDigits() {
+        return TaxIds.isValidCpf("529.982.247-25");
+    }
+
+    @Benchmark
+    public String phonePixKey() {
+        return PixKeys.normalize(PixKeyType.PHONE, "(11) 99999-9999");
+    }
+
+    @Benchmark
+    public String phonePixKeyCached() {
+        return requestValidator.normalizePixKey(PixKeyType.PHONE, "(11) 99999-9999");
+    }
+}
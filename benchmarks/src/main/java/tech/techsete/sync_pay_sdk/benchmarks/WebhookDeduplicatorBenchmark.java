@@ -0,0 +1,71 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookDedupProperties;
+import tech.techsete.sync_pay_sdk.webhooks.WebhookDeduplicator;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detecção de webhooks repetidos pelo {@link WebhookDeduplicator} com 8 threads, comparada a um
+ * {@link ConcurrentHashMap} com a concatenação do identificador da transação e do status.
+ * <p>
+ * As 65.536 transações são registradas na preparação, e cada chamada consulta uma delas ao
+ * acaso, como nas reentregas da SyncPay. O deduplicador ocupa memória fixa, de cerca de 35 bytes
+ * por webhook do período de retenção; o mapa guarda as chaves e cresce com o volume recebido.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class WebhookDeduplicatorBenchmark {
+
+    private static final int TRANSACTIONS = 1 << 16;
+    private static final String STATUS = "COMPLETED";
+
+    private String[] ids;
+    private WebhookDeduplicator deduplicator;
+    private ConcurrentHashMap<String, Boolean> seen;
+
+    @Setup
+    public void setUp() {
+        SyncPayWebhookDedupProperties dedupProperties = new SyncPayWebhookDedupProperties();
+        dedupProperties.setExpectedInsertions(TRANSACTIONS * 3L);
+        deduplicator = new WebhookDeduplicator(dedupProperties);
+        seen = new ConcurrentHashMap<>();
+
+        ids = new String[TRANSACTIONS];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            deduplicator.register(ids[i], STATUS);
+            seen.put(ids[i] + ':' + STATUS, Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public boolean deduplicator() {
+        return deduplicator.register(ids[ThreadLocalRandom.current().nextInt(TRANSACTIONS)], STATUS);
+    }
+
+    @Benchmark
+    public boolean concurrentHashMap() {
+        return seen.putIfAbsent(ids[ThreadLocalRandom.current().nextInt(TRANSACTIONS)] + ':' + STATUS, Boolean.TRUE) == null;
+    }
+}
@@ -0,0 +1,89 @@
+package tech.techsete.sync_pay_sdk.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.techsete.sync_pay_sdk.journal.WebhookJournal;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookJournalProperties;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vazão do {@link WebhookJournal} com 32 threads gravando um webhook típico, de cerca de 700 bytes.
+ * <p>
+ * {@code appendDurable} aguarda a sincronização com o disco de cada registro, como o receptor de
+ * webhooks faz antes de confirmar o recebimento; o {@code fsync} é compartilhado entre as
+ * threads que aguardam ao mesmo tempo. {@code append} mede apenas a cópia para a memória
+ * mapeada. O journal é criado em um diretório temporário, removido ao fim.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class WebhookJournalBenchmark {
+
+    private static final byte[] WEBHOOK_JSON = ("{\"data\":{\"id\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\",\"amount\":15075,"
+            + "\"status\":\"completed\",\"user_id\":\"9f1c2a9e-0001\",\"client_name\":\"Fulano de Tal\","
+            + "\"paymentcode\":\"00020126580014br.gov.bcb.pix0136123e4567-e12b-12d1-a456-4266554400005204000053039865802BR\","
+            + "\"client_email\":\"fulano@example.com\",\"data_registro\":\"2025-01-15 10:30:00\","
+            + "\"idtransaction\":\"3f1c2a9e-7a52-4a8e-9d7c-3b1e8f0a6c11\",\"taxa_deposito\":0.5,"
+            + "\"adquirente_ref\":\"ref-123\",\"client_document\":\"52998224725\",\"taxa_adquirente\":0.2,"
+            + "\"deposito_liquido\":150.05,\"externalreference\":\"pedido-12345\","
+            + "\"checkout\":{\"utm_source\":\"google\",\"utm_medium\":\"cpc\",\"utm_campaign\":\"black-friday\"}}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private Path directory;
+    private WebhookJournal journal;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("syncpay-journal-benchmark");
+        SyncPayWebhookJournalProperties journalProperties = new SyncPayWebhookJournalProperties();
+        journalProperties.setDirectory(directory);
+        journalProperties.setCompactionInterval(Duration.ofSeconds(1));
+        journal = new WebhookJournal(journalProperties);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long appendDurable() {
+        long offset = journal.append(ByteBuffer.wrap(WEBHOOK_JSON));
+        journal.commit("benchmark", offset);
+        return journal.sync(offset).join();
+    }
+
+    @Benchmark
+    public long append() {
+        long offset = journal.append(ByteBuffer.wrap(WEBHOOK_JSON));
+        journal.commit("benchmark", offset);
+        return offset;
+    }
+}
@@ -0,0 +1,41 @@
+package tech.techsete.sync_pay_sdk.benchmarks.legacy;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import tech.techsete.sync_pay_sdk.enums.WebhookEvent;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Equivalente a {@link tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse} com as datas
+ * desserializadas por {@link LegacyMultiFormatDateDeserializer}.
+ */
+public record LegacyWebhookResponse(
+
+        @JsonProperty("id")
+        Integer id,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("url")
+        String url,
+
+        @JsonProperty("event")
+        WebhookEvent event,
+
+        @JsonProperty("trigger_all_products")
+        boolean triggerAllProducts,
+
+        @JsonProperty("token")
+        String token,
+
+        @JsonProperty("created_at")
+        @JsonDeserialize(using = LegacyMultiFormatDateDeserializer.class)
+        OffsetDateTime createdAt,
+
+        @JsonProperty("updated_at")
+        @JsonDeserialize(using = LegacyMultiFormatDateDeserializer.class)
+        OffsetDateTime updatedAt
+) {
+}
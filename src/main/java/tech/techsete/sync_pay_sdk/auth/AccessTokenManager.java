@@ -0,0 +1,168 @@
+package tech.techsete.sync_pay_sdk.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tech.techsete.sync_pay_sdk.dtos.response.AuthenticationResponse;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayAuthenticationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Cache de token de acesso com renovação antecipada e requisição única em voo.
+ * <p>
+ * O token obtido em {@code /api/partner/v1/auth-token} é mantido em memória até
+ * {@code expiresAt - refreshSkew}. Dentro dessa janela de antecedência o token atual
+ * continua sendo entregue enquanto uma renovação ocorre em segundo plano; após a
+ * expiração, os chamadores aguardam a renovação. A antecedência é limitada à metade da
+ * validade do token, para que um token de vida curta não seja renovado a cada requisição.
+ * Uma resposta de autenticação sem token é tratada como falha de autenticação.
+ * </p>
+ * <p>
+ * Renovações concorrentes são agrupadas: independentemente de quantas requisições
+ * cheguem ao mesmo tempo, apenas uma chamada de autenticação fica em voo, e todas
+ * as demais recebem o mesmo resultado.
+ * </p>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.AccessTokenExchangeFilter
+ */
+@Slf4j
+public class AccessTokenManager {
+
+    private final Supplier<Mono<AuthenticationResponse>> tokenFetcher;
+    private final Duration refreshSkew;
+    private final Duration defaultTokenTtl;
+    private final Clock clock;
+
+    private final AtomicReference<Sinks.One<AccessToken>> inFlight = new AtomicReference<>();
+    private volatile AccessToken current;
+
+    /**
+     * Cria um gerenciador de tokens.
+     *
+     * @param tokenFetcher    Função que realiza a autenticação na API SyncPay.
+     * @param refreshSkew     Antecedência com que o token é renovado antes de expirar.
+     * @param defaultTokenTtl Validade assumida quando a resposta não informa a expiração.
+     * @param clock           Relógio utilizado para calcular a expiração.
+     */
+    public AccessTokenManager(Supplier<Mono<AuthenticationResponse>> tokenFetcher,
+                              Duration refreshSkew,
+                              Duration defaultTokenTtl,
+                              Clock clock
+    ) {
+        this.tokenFetcher = tokenFetcher;
+        this.refreshSkew = refreshSkew;
+        this.defaultTokenTtl = defaultTokenTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Retorna um token de acesso válido, renovando-o quando necessário.
+     *
+     * @return {@link Mono} com o valor do token de acesso.
+     */
+    public Mono<String> getAccessToken() {
+        return Mono.defer(() -> {
+            AccessToken token = current;
+            Instant now = clock.instant();
+
+            if (token == null || token.isExpired(now)) {
+                return refresh().map(AccessToken::value);
+            }
+
+            if (token.shouldRefresh(now)) {
+                refresh().subscribe(t -> { }, error -> log.warn("Falha ao renovar token SyncPay antecipadamente: {}", error.getMessage()));
+            }
+
+            return Mono.just(token.value());
+        });
+    }
+
+    /**
+     * Descarta o token atual caso ainda seja o informado, forçando uma nova autenticação
+     * na próxima requisição. Utilizado quando a API rejeita o token com HTTP 401.
+     *
+     * @param rejectedToken O token rejeitado pela API.
+     */
+    public void invalidate(String rejectedToken) {
+        AccessToken token = current;
+        if (token != null && token.value().equals(rejectedToken)) {
+            current = null;
+        }
+    }
+
+    private Mono<AccessToken> refresh() {
+        Sinks.One<AccessToken> sink = Sinks.one();
+        Sinks.One<AccessToken> existing = inFlight.compareAndExchange(null, sink);
+
+        if (existing != null) {
+            return existing.asMono();
+        }
+
+        AccessToken cached = current;
+        if (cached != null && !cached.shouldRefresh(clock.instant())) {
+            inFlight.set(null);
+            sink.tryEmitValue(cached);
+            return sink.asMono();
+        }
+
+        Mono.defer(tokenFetcher)
+                .map(this::toAccessToken)
+                .subscribe(
+                        token -> {
+                            current = token;
+                            inFlight.set(null);
+                            sink.tryEmitValue(token);
+                        },
+                        error -> {
+                            inFlight.set(null);
+                            sink.tryEmitError(error);
+                        },
+                        () -> {
+                            if (inFlight.compareAndSet(sink, null)) {
+                                sink.tryEmitError(new IllegalStateException("SyncPay authentication response was empty"));
+                            }
+                        }
+                );
+
+        return sink.asMono();
+    }
+
+    private AccessToken toAccessToken(AuthenticationResponse response) {
+        if (response.accessToken() == null || response.accessToken().isBlank()) {
+            throw new SyncPayAuthenticationException(HttpStatus.OK.value(), null,
+                    "SyncPay authentication response has no access token", null, false, null);
+        }
+
+        Instant now = clock.instant();
+        Instant expiresAt;
+
+        if (response.expiresAt() != null) {
+            expiresAt = response.expiresAt().toInstant();
+        } else if (response.expiresIn() != null) {
+            expiresAt = now.plusSeconds(response.expiresIn());
+        } else {
+            expiresAt = now.plus(defaultTokenTtl);
+        }
+
+        Duration halfTtl = Duration.between(now, expiresAt).dividedBy(2);
+        Duration skew = halfTtl.isNegative() ? Duration.ZERO : halfTtl.compareTo(refreshSkew) < 0 ? halfTtl : refreshSkew;
+        return new AccessToken(response.accessToken(), expiresAt, expiresAt.minus(skew));
+    }
+
+    private record AccessToken(String value, Instant expiresAt, Instant refreshAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        boolean shouldRefresh(Instant now) {
+            return !now.isBefore(refreshAt);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package tech.techsete.sync_pay_sdk.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.enums.TransactionStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionCacheProperties;
+
+/**
+ * Cache de transações com expiração conforme o status.
+ * <p>
+ * Baseado no Caffeine, com remoção por capacidade pela política W-TinyLFU. A expiração é
+ * calculada por entrada: transações em status final nunca expiram, e as demais expiram
+ * após {@code pending-ttl}. Acertos, faltas e remoções são contabilizados e podem ser
+ * consultados em {@link #stats()}.
+ * </p>
+ *
+ * @see SyncPayTransactionCacheProperties
+ */
+public class TransactionCache {
+
+    private final Cache<String, TransactionResponse> cache;
+
+    /**
+     * Cria o cache a partir das propriedades informadas.
+     *
+     * @param cacheProperties As propriedades do cache de transações.
+     */
+    public TransactionCache(SyncPayTransactionCacheProperties cacheProperties) {
+        long pendingTtlNanos = cacheProperties.getPendingTtl().toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfter(new StatusAwareExpiry(pendingTtlNanos))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retorna a transação em cache.
+     *
+     * @param id O identificador da transação.
+     * @return a transação, ou {@code null} se não estiver em cache.
+     */
+    public TransactionResponse get(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Armazena uma transação em cache.
+     *
+     * @param id       O identificador da transação.
+     * @param response A transação consultada.
+     */
+    public void put(String id, TransactionResponse response) {
+        cache.put(id, response);
+    }
+
+    /**
+     * Remove uma transação do cache.
+     *
+     * @param id O identificador da transação.
+     */
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Retorna os contadores de acertos, faltas e remoções do cache.
+     *
+     * @return as estatísticas acumuladas.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Retorna o número aproximado de transações em cache.
+     *
+     * @return o número de entradas.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record StatusAwareExpiry(long pendingTtlNanos) implements Expiry<String, TransactionResponse> {
+
+        @Override
+        public long expireAfterCreate(String id, TransactionResponse response, long currentTime) {
+            return isTerminal(response) ? Long.MAX_VALUE : pendingTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, TransactionResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, TransactionResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static boolean isTerminal(TransactionResponse response) {
+            TransactionStatus status = response.getData() != null ? response.getData().getStatus() : null;
+            return status != null && status.isTerminal();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package tech.techsete.sync_pay_sdk.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.domain.RequestOptions;
+import tech.techsete.sync_pay_sdk.domain.WebhookKey;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookRegistryProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Registro local dos webhooks de cada conta, indexados por {@link WebhookKey}.
+ * <p>
+ * As listagens são indexadas pela conta das opções, {@link RequestOptions#getAccount()}: opções
+ * que diferem apenas em outros cabeçalhos, como um identificador de requisição, ou no tempo
+ * limite compartilham a mesma listagem. A listagem de uma conta é carregada uma única vez,
+ * mesmo com reconciliações simultâneas, e expira após {@code ttl}. Falhas de carga não são mantidas em cache. As alterações
+ * aplicadas pelo SDK atualizam o registro diretamente, sem nova listagem.
+ * </p>
+ *
+ * @see SyncPayWebhookRegistryProperties
+ */
+public class WebhookRegistry {
+
+    private final AsyncCache<RequestOptions.Account, Entries> cache;
+
+    /**
+     * Cria o registro a partir das propriedades informadas.
+     *
+     * @param registryProperties As propriedades do registro de webhooks.
+     */
+    public WebhookRegistry(SyncPayWebhookRegistryProperties registryProperties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(registryProperties.getMaximumSize())
+                .expireAfterWrite(registryProperties.getTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Retorna os webhooks da conta, carregando a listagem se não estiver em cache.
+     *
+     * @param options As opções que identificam a conta.
+     * @param loader  Função que lista todos os webhooks da conta.
+     * @return {@link Mono} com os webhooks existentes da conta.
+     */
+    public Mono<Entries> get(RequestOptions options, Function<RequestOptions, Flux<WebhookResponse>> loader) {
+        return Mono.fromFuture(() -> cache.get(options.getAccount(), (account, executor) -> load(options, loader)), true);
+    }
+
+    /**
+     * Registra um webhook criado ou atualizado, se a listagem da conta estiver em cache.
+     *
+     * @param options  As opções que identificam a conta.
+     * @param response O webhook criado ou atualizado.
+     */
+    public void put(RequestOptions options, WebhookResponse response) {
+        Entries entries = getIfLoaded(options);
+        if (entries != null) {
+            entries.byKey.put(WebhookKey.of(response), response);
+        }
+    }
+
+    /**
+     * Remove um webhook da listagem da conta, se estiver em cache.
+     *
+     * @param options  As opções que identificam a conta.
+     * @param response O webhook removido.
+     */
+    public void remove(RequestOptions options, WebhookResponse response) {
+        Entries entries = getIfLoaded(options);
+        if (entries != null) {
+            entries.byKey.remove(WebhookKey.of(response), response);
+            entries.duplicates.remove(response);
+        }
+    }
+
+    /**
+     * Descarta a listagem em cache da conta.
+     *
+     * @param options As opções que identificam a conta.
+     */
+    public void invalidate(RequestOptions options) {
+        cache.synchronous().invalidate(options.getAccount());
+    }
+
+    private Entries getIfLoaded(RequestOptions options) {
+        CompletableFuture<Entries> future = cache.getIfPresent(options.getAccount());
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private CompletableFuture<Entries> load(RequestOptions options,
+                                            Function<RequestOptions, Flux<WebhookResponse>> loader
+    ) {
+        return loader.apply(options)
+                .collect(Entries::new, Entries::add)
+                .toFuture();
+    }
+
+    /**
+     * Webhooks existentes de uma conta.
+     * <p>
+     * Quando há mais de um webhook com a mesma {@link WebhookKey}, o primeiro listado é
+     * considerado o atual e os demais são mantidos em {@link #getDuplicates()}.
+     * </p>
+     */
+    public static final class Entries {
+
+        private final Map<WebhookKey, WebhookResponse> byKey = new ConcurrentHashMap<>();
+        private final List<WebhookResponse> duplicates = new CopyOnWriteArrayList<>();
+
+        private void add(WebhookResponse response) {
+            if (byKey.putIfAbsent(WebhookKey.of(response), response) != null) {
+                duplicates.add(response);
+            }
+        }
+
+        /**
+         * Retorna uma cópia dos webhooks indexados pela sua identidade.
+         *
+         * @return os webhooks existentes.
+         */
+        public Map<WebhookKey, WebhookResponse> getByKey() {
+            return Map.copyOf(byKey);
+        }
+
+        /**
+         * Retorna uma cópia dos webhooks repetidos.
+         *
+         * @return os webhooks com identidade repetida.
+         */
+        public List<WebhookResponse> getDuplicates() {
+            return List.copyOf(duplicates);
+        }
+    }
+}
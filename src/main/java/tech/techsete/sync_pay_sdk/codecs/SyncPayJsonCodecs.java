@@ -0,0 +1,52 @@
+package tech.techsete.sync_pay_sdk.codecs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.Getter;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codecs JSON dedicados do SDK SyncPay.
+ * <p>
+ * O SDK não utiliza o {@link ObjectMapper} da aplicação: mantém um mapeador próprio, com a
+ * mesma configuração padrão do Spring ({@link Jackson2ObjectMapperBuilder#json()}) e o módulo
+ * Blackbird, que substitui o acesso por reflexão a construtores, getters e setters por
+ * {@code LambdaMetafactory}. Assim, customizações do mapeador da aplicação não alteram o
+ * formato das mensagens trocadas com a API SyncPay.
+ * </p>
+ * <p>
+ * O {@link SyncPayJsonDecoder} e o {@link SyncPayJsonEncoder} reaproveitam leitores e
+ * escritores por tipo e são compartilhados por todos os clientes HTTP do SDK.
+ * </p>
+ */
+@Getter
+@Component("syncPayJsonCodecs")
+public class SyncPayJsonCodecs {
+
+    private final ObjectMapper objectMapper;
+    private final SyncPayJsonDecoder decoder;
+    private final SyncPayJsonEncoder encoder;
+
+    /**
+     * Cria os codecs com o mapeador do SDK.
+     */
+    public SyncPayJsonCodecs() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule())
+                .build();
+        this.decoder = new SyncPayJsonDecoder(objectMapper);
+        this.encoder = new SyncPayJsonEncoder(objectMapper);
+    }
+
+    /**
+     * Registra os codecs do SDK em um {@link ClientCodecConfigurer}.
+     *
+     * @param configurer O configurador de codecs do {@link org.springframework.web.reactive.function.client.WebClient}.
+     */
+    public void configure(ClientCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2JsonDecoder(decoder);
+        configurer.defaultCodecs().jackson2JsonEncoder(encoder);
+    }
+}
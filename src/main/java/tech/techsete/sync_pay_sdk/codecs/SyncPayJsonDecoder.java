@@ -0,0 +1,91 @@
+package tech.techsete.sync_pay_sdk.codecs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.log.LogFormatUtils;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonDecoder} que reaproveita um {@link ObjectReader} por tipo de destino.
+ * <p>
+ * O decodificador padrão cria um {@link ObjectReader} a cada corpo de resposta. Aqui, os
+ * leitores são criados uma única vez por tipo e mantidos em cache; como o SDK decodifica
+ * um conjunto pequeno e fixo de DTOs, o cache é limitado a {@value #MAX_CACHED_TYPES} tipos.
+ * Decodificações com {@code @JsonView} ou associadas a parâmetros de método seguem pelo
+ * caminho padrão.
+ * </p>
+ */
+public class SyncPayJsonDecoder extends Jackson2JsonDecoder {
+
+    private static final int MAX_CACHED_TYPES = 256;
+
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Cria o decodificador.
+     *
+     * @param objectMapper O {@link ObjectMapper} do SDK.
+     */
+    public SyncPayJsonDecoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints)
+            throws DecodingException {
+        ObjectReader reader = getCachedReader(targetType, mimeType, hints);
+        if (reader == null) {
+            return super.decode(dataBuffer, targetType, mimeType, hints);
+        }
+
+        try {
+            Object value = reader.readValue(dataBuffer.asInputStream());
+            if (!Hints.isLoggingSuppressed(hints)) {
+                LogFormatUtils.traceDebug(logger, traceOn -> Hints.getLogPrefix(hints) + "Decoded ["
+                        + LogFormatUtils.formatValue(value, !traceOn) + "]");
+            }
+            return value;
+        } catch (InvalidDefinitionException ex) {
+            throw new CodecException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new DecodingException("I/O error while parsing input stream", ex);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private ObjectReader getCachedReader(ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+        if ((hints != null && hints.containsKey(JSON_VIEW_HINT))
+                || targetType.getSource() instanceof MethodParameter
+                || selectObjectMapper(targetType, mimeType) != getObjectMapper()) {
+            return null;
+        }
+
+        Type type = targetType.getType();
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = getObjectMapper().readerFor(getJavaType(type, null));
+            if (readers.size() < MAX_CACHED_TYPES) {
+                readers.putIfAbsent(type, reader);
+            }
+        }
+        return reader;
+    }
+}
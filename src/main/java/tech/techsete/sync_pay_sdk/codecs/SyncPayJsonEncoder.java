@@ -0,0 +1,101 @@
+package tech.techsete.sync_pay_sdk.codecs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.log.LogFormatUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.MimeType;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Jackson2JsonEncoder} que reaproveita um {@link ObjectWriter} por tipo de valor.
+ * <p>
+ * Valores únicos em UTF-8, o caso de todos os corpos de requisição do SDK, são escritos com
+ * um escritor criado uma única vez por tipo. Fluxos, {@code @JsonView},
+ * {@link MappingJacksonValue} e outras codificações seguem pelo caminho padrão.
+ * </p>
+ */
+public class SyncPayJsonEncoder extends Jackson2JsonEncoder {
+
+    private static final int MAX_CACHED_TYPES = 256;
+
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Cria o codificador.
+     *
+     * @param objectMapper O {@link ObjectMapper} do SDK.
+     */
+    public SyncPayJsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        ObjectWriter writer = getCachedWriter(value, valueType, mimeType, hints);
+        if (writer == null) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+
+        if (!Hints.isLoggingSuppressed(hints)) {
+            LogFormatUtils.traceDebug(logger, traceOn -> Hints.getLogPrefix(hints) + "Encoding ["
+                    + LogFormatUtils.formatValue(value, !traceOn) + "]");
+        }
+
+        try {
+            return bufferFactory.wrap(writer.writeValueAsBytes(value));
+        } catch (InvalidDefinitionException ex) {
+            throw new CodecException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private ObjectWriter getCachedWriter(Object value, ResolvableType valueType, MimeType mimeType,
+                                         Map<String, Object> hints) {
+        if (value instanceof MappingJacksonValue
+                || (hints != null && hints.containsKey(JSON_VIEW_HINT))
+                || (mimeType != null && (!isUtf8(mimeType) || isStreamingMediaType(mimeType)))
+                || selectObjectMapper(valueType, mimeType) != getObjectMapper()) {
+            return null;
+        }
+
+        Type type = valueType.getType();
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            JavaType javaType = getJavaType(type, null);
+            writer = javaType.isContainerType()
+                    ? getObjectMapper().writerFor(javaType)
+                    : getObjectMapper().writer();
+            if (writers.size() < MAX_CACHED_TYPES) {
+                writers.putIfAbsent(type, writer);
+            }
+        }
+        return writer;
+    }
+
+    private boolean isUtf8(MimeType mimeType) {
+        return mimeType.getCharset() == null || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+
+    private boolean isStreamingMediaType(MimeType mimeType) {
+        return getStreamingMediaTypes().stream().anyMatch(mimeType::isCompatibleWith)
+                || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(mimeType);
+    }
+}
@@ -0,0 +1,45 @@
+package tech.techsete.sync_pay_sdk.configurations;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.techsete.sync_pay_sdk.auth.AccessTokenManager;
+import tech.techsete.sync_pay_sdk.properties.SyncPayAuthProperties;
+import tech.techsete.sync_pay_sdk.services.AuthenticationService;
+
+import java.time.Clock;
+
+/**
+ * Configuração da autenticação gerenciada pelo SDK SyncPay.
+ * <p>
+ * Registra o {@link AccessTokenManager} padrão, que obtém o token utilizando as
+ * credenciais de {@link SyncPayAuthProperties}. O {@link AuthenticationService} é
+ * resolvido de forma tardia, pois ele próprio depende do {@code syncPayWebClient}
+ * no qual o filtro de token é instalado.
+ * </p>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.AccessTokenExchangeFilter
+ */
+@Configuration("syncPayAuthenticationConfiguration")
+public class AuthenticationConfiguration {
+
+    /**
+     * Cria o gerenciador de tokens de acesso padrão do SDK.
+     *
+     * @param authProperties        As propriedades de autenticação do SDK.
+     * @param authenticationService Provedor tardio do serviço de autenticação.
+     * @return uma instância de {@link AccessTokenManager}
+     */
+    @Bean(name = "syncPayAccessTokenManager")
+    public AccessTokenManager syncPayAccessTokenManager(SyncPayAuthProperties authProperties,
+                                                        ObjectProvider<AuthenticationService> authenticationService
+    ) {
+        return new AccessTokenManager(
+                () -> authenticationService.getObject()
+                        .authenticateAsync(authProperties.getClientId(), authProperties.getClientSecret()),
+                authProperties.getRefreshSkew(),
+                authProperties.getDefaultTokenTtl(),
+                Clock.systemUTC()
+        );
+    }
+}
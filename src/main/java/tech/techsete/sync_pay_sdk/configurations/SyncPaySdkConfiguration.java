@@ -1,6 +1,7 @@
 package tech.techsete.sync_pay_sdk.configurations;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.ComponentScan;
 
 /**
@@ -20,6 +21,10 @@ import org.springframework.context.annotation.ComponentScan;
  * como beans no contexto da aplicação Spring.
  * </p>
  * <p>
+ * A anotação {@link ConfigurationPropertiesScan} registra as propriedades {@code syncpay.*}
+ * declaradas no pacote {@code tech.techsete.sync_pay_sdk.properties}.
+ * </p>
+ * <p>
  * Este SDK facilita a integração com os serviços da SyncPay, incluindo processamento
  * de cobranças via PIX e gerenciamento de transações.
  * </p>
@@ -32,4 +37,5 @@ import org.springframework.context.annotation.ComponentScan;
  */
 @AutoConfiguration
 @ComponentScan("tech.techsete.sync_pay_sdk")
+@ConfigurationPropertiesScan("tech.techsete.sync_pay_sdk.properties")
 public class SyncPaySdkConfiguration { }
\ No newline at end of file
@@ -1,11 +1,34 @@
 package tech.techsete.sync_pay_sdk.configurations;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.filters.AccessTokenExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.BulkheadExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.CircuitBreakerExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.ErrorHandlingExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.MetricsExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.RateLimiterExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.RetryExchangeFilter;
+import tech.techsete.sync_pay_sdk.metrics.SyncPayClientRequestObservationConvention;
+import tech.techsete.sync_pay_sdk.properties.SyncPayHttpProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayMetricsProperties;
+import tech.techsete.sync_pay_sdk.transport.JdkHttpClientTransport;
+import tech.techsete.sync_pay_sdk.transport.ReactorNettyTransport;
+import tech.techsete.sync_pay_sdk.transport.SyncPayTransport;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuração do cliente HTTP reativo para o SDK SyncPay.
@@ -17,8 +40,17 @@ import reactor.core.publisher.Mono;
  * O WebClient é configurado com:
  * <ul>
  *   <li>URL base da API SyncPay</li>
+ *   <li>Transporte HTTP configurável: Reactor Netty ou {@code HttpClient} do JDK</li>
+ *   <li>Pool de conexões e tempos limite do Reactor Netty configuráveis</li>
  *   <li>Cabeçalhos HTTP padrão para comunicação JSON</li>
- *   <li>Filtro global para interceptar respostas HTTP</li>
+ *   <li>Codecs JSON dedicados do SDK</li>
+ *   <li>Métricas por operação e observação das requisições</li>
+ *   <li>Novas tentativas com espera exponencial e chave de idempotência</li>
+ *   <li>Circuito por grupo de endpoint, com eventos de mudança de estado</li>
+ *   <li>Conversão das respostas de erro em exceções tipadas, com leitura limitada do corpo</li>
+ *   <li>Limite de taxa por grupo de endpoint, sensível a HTTP 429</li>
+ *   <li>Isolamento de concorrência por grupo de endpoint</li>
+ *   <li>Filtro de autenticação com token de acesso gerenciado</li>
  * </ul>
  *
  * <p>
@@ -33,6 +65,99 @@ import reactor.core.publisher.Mono;
 @Configuration("syncPayWebClientConfiguration")
 public class WebClientConfiguration {
 
+    /**
+     * Cria o pool de conexões dedicado às chamadas à API SyncPay.
+     * <p>
+     * O pool é configurado a partir de {@link SyncPayHttpProperties}, limitando o número
+     * de conexões e de requisições aguardando conexão, e removendo em segundo plano
+     * conexões ociosas ou que atingiram o tempo máximo de vida. Com
+     * {@code syncpay.metrics.connection-pool-enabled}, o pool publica suas métricas
+     * ({@code reactor.netty.connection.provider.*}, com a tag {@code name=syncpay}) no
+     * registro global do Micrometer.
+     * </p>
+     *
+     * @param httpProperties    as propriedades HTTP do SDK
+     * @param metricsProperties as propriedades das métricas do SDK
+     * @return uma instância configurada de {@link ConnectionProvider}
+     */
+    @Bean(name = "syncPayConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider syncPayConnectionProvider(SyncPayHttpProperties httpProperties,
+                                                        SyncPayMetricsProperties metricsProperties
+    ) {
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("syncpay")
+                .maxConnections(httpProperties.getMaxConnections())
+                .pendingAcquireMaxCount(httpProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(httpProperties.getPendingAcquireTimeout())
+                .maxIdleTime(httpProperties.getMaxIdleTime())
+                .maxLifeTime(httpProperties.getMaxLifeTime())
+                .evictInBackground(httpProperties.getEvictInBackground())
+                .metrics(metricsProperties.isEnabled() && metricsProperties.isConnectionPoolEnabled());
+
+        if (httpProperties.isLifo()) {
+            builder.lifo();
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Cria o {@link HttpClient} do Reactor Netty utilizado pelo {@code syncPayWebClient}.
+     * <p>
+     * Aplica o tempo limite de conexão, o keep-alive e o tempo limite de resposta, além
+     * de registrar os tratadores de tempo limite de leitura e escrita em cada conexão obtida
+     * do pool.
+     * </p>
+     *
+     * @param connectionProvider o pool de conexões do SDK
+     * @param httpProperties     as propriedades HTTP do SDK
+     * @return uma instância configurada de {@link HttpClient}
+     */
+    @Bean(name = "syncPayHttpClient")
+    public HttpClient syncPayHttpClient(@Qualifier("syncPayConnectionProvider")
+                                        ConnectionProvider connectionProvider,
+                                        SyncPayHttpProperties httpProperties
+    ) {
+
+        long readTimeoutMillis = httpProperties.getReadTimeout().toMillis();
+        long writeTimeoutMillis = httpProperties.getWriteTimeout().toMillis();
+
+        return HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(httpProperties.getConnectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, httpProperties.isKeepAlive())
+                .keepAlive(httpProperties.isKeepAlive())
+                .responseTimeout(httpProperties.getResponseTimeout())
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS))
+                );
+    }
+
+    /**
+     * Cria o transporte HTTP do SDK, conforme {@code syncpay.http.transport}.
+     * <p>
+     * Não é criado se a aplicação registrar o próprio {@link SyncPayTransport}.
+     * </p>
+     *
+     * @param httpClient     o cliente HTTP do Reactor Netty configurado para o SDK
+     * @param httpProperties as propriedades HTTP do SDK
+     * @return o transporte configurado
+     */
+    @Bean(name = "syncPayTransport")
+    @ConditionalOnMissingBean(SyncPayTransport.class)
+    public SyncPayTransport syncPayTransport(@Qualifier("syncPayHttpClient")
+                                             ObjectProvider<HttpClient> httpClient,
+                                             SyncPayHttpProperties httpProperties
+    ) {
+
+        SyncPayTransport transport = switch (httpProperties.getTransport()) {
+            case REACTOR_NETTY -> new ReactorNettyTransport(httpClient.getObject());
+            case JDK -> new JdkHttpClientTransport(httpProperties);
+        };
+        log.info("Transporte HTTP do SDK SyncPay: {}", transport.getName());
+        return transport;
+    }
+
     /**
      * Cria e configura um {@link WebClient} para comunicação com a API SyncPay.
      * <p>
@@ -40,61 +165,81 @@ public class WebClientConfiguration {
      * interagir com a API da SyncPay. A configuração inclui:
      * </p>
      * <ul>
-     *   <li>URL base da API: https://api.syncpayments.com.br</li>
+     *   <li>URL base da API, definida em {@code syncpay.http.base-url}</li>
+     *   <li>Conector do {@link SyncPayTransport} configurado</li>
      *   <li>Cabeçalho padrão Accept: application/json</li>
      *   <li>Cabeçalho padrão Content-Type: application/json</li>
-     *   <li>Filtro global para interceptar respostas HTTP</li>
+     *   <li>Observação das requisições no {@link ObservationRegistry} da aplicação, quando houver</li>
+     *   <li>Filtro de métricas por operação, o mais externo</li>
+     *   <li>Filtro de novas tentativas para falhas transitórias</li>
+     *   <li>Filtro de circuito por grupo de endpoint</li>
+     *   <li>Filtro que converte respostas de erro em exceções tipadas</li>
+     *   <li>Filtro de limite de taxa por grupo de endpoint</li>
+     *   <li>Filtro de isolamento de concorrência por grupo de endpoint</li>
+     *   <li>Filtro que aplica o token de acesso gerenciado pelo SDK</li>
      * </ul>
      * <p>
-     * O filtro global verifica os códigos de status da resposta HTTP:
-     * se o status indicar erro cliente (4xx) ou servidor (5xx),
-     * lê o corpo da resposta para log detalhado e lança uma exceção
-     * com a mensagem do erro. Caso contrário, permite que a resposta
-     * continue normalmente.
-     * </p>
-     * <p>
-     * Isso centraliza o tratamento de erros HTTP no WebClient, evitando
-     * a necessidade de múltiplos tratamentos em cada serviço que o utiliza.
+     * O filtro de erros converte respostas de erro cliente (4xx) ou servidor (5xx) em
+     * {@link tech.techsete.sync_pay_sdk.exceptions.SyncPayApiException}, lendo o corpo até o
+     * limite configurado e registrando o erro em log com frequência limitada. Isso centraliza
+     * o tratamento de erros HTTP no WebClient, evitando a necessidade de múltiplos tratamentos
+     * em cada serviço que o utiliza.
      * </p>
      * <p>
      * O WebClient resultante é utilizado pelos serviços do SDK para realizar
      * requisições HTTP reativas à API da SyncPay.
      * </p>
      *
+     * @param transport                 o transporte HTTP do SDK
+     * @param httpProperties            as propriedades HTTP do SDK
+     * @param jsonCodecs                os codecs JSON do SDK
+     * @param metricsProperties         as propriedades das métricas do SDK
+     * @param observationRegistry       o registro de observações da aplicação, se houver
+     * @param metricsExchangeFilter     filtro que registra as métricas de cada chamada
+     * @param retryExchangeFilter       filtro que repete chamadas com falhas transitórias
+     * @param circuitBreakerExchangeFilter filtro que aplica o circuito por grupo de endpoint
+     * @param errorHandlingExchangeFilter filtro que converte respostas de erro em exceções
+     * @param rateLimiterExchangeFilter filtro que aplica o limite de taxa por grupo de endpoint
+     * @param bulkheadExchangeFilter    filtro que isola a concorrência por grupo de endpoint
+     * @param accessTokenExchangeFilter filtro que injeta o token de acesso em cache
      * @return uma instância configurada de {@link WebClient}
      */
     @Bean(name = "syncPayWebClient")
-    public WebClient SyncPayWebClient() {
+    public WebClient SyncPayWebClient(SyncPayTransport transport,
+                                      SyncPayHttpProperties httpProperties,
+                                      SyncPayJsonCodecs jsonCodecs,
+                                      SyncPayMetricsProperties metricsProperties,
+                                      ObjectProvider<ObservationRegistry> observationRegistry,
+                                      MetricsExchangeFilter metricsExchangeFilter,
+                                      RetryExchangeFilter retryExchangeFilter,
+                                      CircuitBreakerExchangeFilter circuitBreakerExchangeFilter,
+                                      ErrorHandlingExchangeFilter errorHandlingExchangeFilter,
+                                      RateLimiterExchangeFilter rateLimiterExchangeFilter,
+                                      BulkheadExchangeFilter bulkheadExchangeFilter,
+                                      AccessTokenExchangeFilter accessTokenExchangeFilter
+    ) {
 
-        return WebClient.builder()
-                .baseUrl("https://api.syncpayments.com.br")
+        WebClient.Builder builder = WebClient.builder()
+                .baseUrl(httpProperties.getBaseUrl())
+                .clientConnector(transport.getConnector())
+                .codecs(jsonCodecs::configure)
                 .defaultHeader("Accept", "application/json")
-                .defaultHeader("Content-Type", "application/json")
-                .filter((request, next) -> next.exchange(request)
-                        .flatMap(this::handleErrors)
-                )
-                .build();
-    }
+                .defaultHeader("Content-Type", "application/json");
 
-    /**
-     * Intercepta a resposta HTTP para tratamento centralizado de erros.
-     * <p>
-     * Se o código HTTP da resposta indicar erro cliente (4xx) ou servidor (5xx),
-     * este método lê o corpo da resposta, registra o erro no log e retorna
-     * um {@link Mono} com exceção. Caso contrário, retorna a resposta normalmente.
-     * </p>
-     *
-     * @param response a resposta HTTP recebida
-     * @return um {@link Mono} contendo a resposta ou erro tratado
-     */
-    private Mono<ClientResponse> handleErrors(ClientResponse response) {
-        if (response.statusCode().is4xxClientError() || response.statusCode().is5xxServerError()) {
-            return response.bodyToMono(String.class)
-                    .flatMap(errorBody -> {
-                        log.error("Erro HTTP {} na chamada à API SyncPay: {}", response.statusCode().value(), errorBody);
-                        return Mono.error(new RuntimeException("Erro ao chamar API SyncPay: " + errorBody));
-                    });
+        if (metricsProperties.isObservationEnabled()) {
+            observationRegistry.ifAvailable(registry -> builder
+                    .observationRegistry(registry)
+                    .observationConvention(new SyncPayClientRequestObservationConvention()));
         }
-        return Mono.just(response);
+
+        return builder
+                .filter(metricsExchangeFilter)
+                .filter(retryExchangeFilter)
+                .filter(circuitBreakerExchangeFilter)
+                .filter(errorHandlingExchangeFilter)
+                .filter(rateLimiterExchangeFilter)
+                .filter(bulkheadExchangeFilter)
+                .filter(accessTokenExchangeFilter)
+                .build();
     }
 }
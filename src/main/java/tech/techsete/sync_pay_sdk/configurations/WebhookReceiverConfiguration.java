@@ -0,0 +1,149 @@
+package tech.techsete.sync_pay_sdk.configurations;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.journal.WebhookJournal;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookDedupProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookJournalProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookReceiverProperties;
+import tech.techsete.sync_pay_sdk.state.TransactionStateStore;
+import tech.techsete.sync_pay_sdk.webhooks.SyncPayWebhookHandler;
+import tech.techsete.sync_pay_sdk.webhooks.WebhookDeduplicator;
+import tech.techsete.sync_pay_sdk.webhooks.WebhookDispatcher;
+import tech.techsete.sync_pay_sdk.webhooks.WebhookReceiver;
+import tech.techsete.sync_pay_sdk.webhooks.WebhookSpool;
+
+/**
+ * Configuração do receptor de webhooks da SyncPay.
+ * <p>
+ * Ativada apenas em aplicações WebFlux com {@code syncpay.webhook-receiver.enabled=true}.
+ * Registra a rota {@code POST syncpay.webhook-receiver.path} e o {@link WebhookDispatcher},
+ * que entrega cada evento a todos os beans {@link SyncPayWebhookHandler} da aplicação. Com
+ * {@code syncpay.webhook-journal.enabled=true}, os webhooks passam também pelo
+ * {@link WebhookJournal}, e os não tratados antes de uma parada são reentregues na inicialização.
+ * Com {@code syncpay.webhook-dedup.enabled=true}, os webhooks repetidos são descartados pelo
+ * {@link WebhookDeduplicator} antes de chegarem ao journal. Com
+ * {@code syncpay.transaction-state.enabled=true}, o status de cada webhook é registrado no
+ * {@link TransactionStateStore} antes dos handlers da aplicação.
+ * </p>
+ *
+ * @see SyncPayWebhookReceiverProperties
+ * @see SyncPayWebhookJournalProperties
+ * @see SyncPayWebhookDedupProperties
+ */
+@Configuration("syncPayWebhookReceiverConfiguration")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(prefix = "syncpay.webhook-receiver", name = "enabled", havingValue = "true")
+public class WebhookReceiverConfiguration {
+
+    /**
+     * Cria o distribuidor de webhooks com os handlers registrados na aplicação.
+     *
+     * @param handlers           os handlers de webhooks da aplicação
+     * @param receiverProperties as propriedades do receptor de webhooks
+     * @return o distribuidor, encerrado junto com o contexto
+     */
+    @Bean(name = "syncPayWebhookDispatcher", destroyMethod = "close")
+    @ConditionalOnMissingBean(WebhookDispatcher.class)
+    public WebhookDispatcher syncPayWebhookDispatcher(ObjectProvider<SyncPayWebhookHandler> handlers,
+                                                      SyncPayWebhookReceiverProperties receiverProperties
+    ) {
+        return new WebhookDispatcher(handlers.orderedStream().toList(), receiverProperties);
+    }
+
+    /**
+     * Cria o handler que registra no {@link TransactionStateStore} o status de cada webhook,
+     * executado antes dos handlers da aplicação.
+     *
+     * @param stateStore o registro de status de transações
+     * @return o handler
+     */
+    @Bean(name = "syncPayTransactionStateWebhookHandler")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(prefix = "syncpay.transaction-state", name = "enabled", havingValue = "true")
+    public SyncPayWebhookHandler syncPayTransactionStateWebhookHandler(TransactionStateStore stateStore) {
+        return event -> {
+            if (event.getData() != null) {
+                stateStore.update(event.getData().getIdTransaction(), event.getData().getStatus());
+            }
+        };
+    }
+
+    /**
+     * Abre o journal de webhooks e reentrega aos handlers os eventos não tratados antes da
+     * última parada.
+     *
+     * @param dispatcher        o distribuidor de webhooks
+     * @param codecs            os codecs JSON do SDK
+     * @param journalProperties as propriedades do journal de webhooks
+     * @return o spool, que encerra o distribuidor e o journal junto com o contexto
+     */
+    @Bean(name = "syncPayWebhookSpool", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "syncpay.webhook-journal", name = "enabled", havingValue = "true")
+    public WebhookSpool syncPayWebhookSpool(WebhookDispatcher dispatcher,
+                                            SyncPayJsonCodecs codecs,
+                                            SyncPayWebhookJournalProperties journalProperties
+    ) {
+        WebhookSpool spool = new WebhookSpool(new WebhookJournal(journalProperties), dispatcher, codecs.getDecoder());
+        spool.replay();
+        return spool;
+    }
+
+    /**
+     * Cria o deduplicador de webhooks.
+     *
+     * @param dedupProperties as propriedades da eliminação de webhooks repetidos
+     * @return o deduplicador
+     */
+    @Bean(name = "syncPayWebhookDeduplicator")
+    @ConditionalOnProperty(prefix = "syncpay.webhook-dedup", name = "enabled", havingValue = "true")
+    public WebhookDeduplicator syncPayWebhookDeduplicator(SyncPayWebhookDedupProperties dedupProperties) {
+        return new WebhookDeduplicator(dedupProperties);
+    }
+
+    /**
+     * Cria o receptor de webhooks.
+     *
+     * @param codecs             os codecs JSON do SDK
+     * @param dispatcher         o distribuidor de webhooks
+     * @param spool              o spool com journal, se habilitado
+     * @param deduplicator       o deduplicador de webhooks, se habilitado
+     * @param receiverProperties as propriedades do receptor de webhooks
+     * @return o receptor
+     */
+    @Bean(name = "syncPayWebhookReceiver")
+    public WebhookReceiver syncPayWebhookReceiver(SyncPayJsonCodecs codecs,
+                                                  WebhookDispatcher dispatcher,
+                                                  ObjectProvider<WebhookSpool> spool,
+                                                  ObjectProvider<WebhookDeduplicator> deduplicator,
+                                                  SyncPayWebhookReceiverProperties receiverProperties
+    ) {
+        return new WebhookReceiver(codecs.getDecoder(), dispatcher, spool.getIfAvailable(),
+                deduplicator.getIfAvailable(), receiverProperties);
+    }
+
+    /**
+     * Cria a rota que recebe os webhooks.
+     *
+     * @param receiver           o receptor de webhooks
+     * @param receiverProperties as propriedades do receptor de webhooks
+     * @return a rota {@code POST syncpay.webhook-receiver.path}
+     */
+    @Bean(name = "syncPayWebhookRouter")
+    public RouterFunction<ServerResponse> syncPayWebhookRouter(WebhookReceiver receiver,
+                                                               SyncPayWebhookReceiverProperties receiverProperties
+    ) {
+        return RouterFunctions.route(RequestPredicates.POST(receiverProperties.getPath()), receiver::receive);
+    }
+}
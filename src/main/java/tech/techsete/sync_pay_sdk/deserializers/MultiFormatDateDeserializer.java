@@ -5,35 +5,205 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import java.io.IOException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.Year;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.time.temporal.TemporalAccessor;
 
+/**
+ * Desserializador de datas que aceita os formatos utilizados pela API SyncPay.
+ * <p>
+ * Formatos aceitos:
+ * </p>
+ * <ul>
+ *     <li>{@code yyyy-MM-dd HH:mm:ss}, sem fuso, interpretado em UTC;</li>
+ *     <li>{@code yyyy-MM-dd'T'HH:mm:ss.SSSSSSXXX};</li>
+ *     <li>{@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.</li>
+ * </ul>
+ * <p>
+ * Os valores são analisados em uma única passagem: o formato é identificado pelo tamanho e
+ * pelos separadores, e os dígitos são convertidos diretamente, sem lançar exceções. Valores
+ * fora desses padrões comuns, como anos com mais de quatro dígitos ou datas ajustadas pelo
+ * resolvedor, são repassados aos formatadores originais, na mesma ordem, para que o
+ * resultado seja idêntico.
+ * </p>
+ */
 public class MultiFormatDateDeserializer extends JsonDeserializer<OffsetDateTime> {
 
-    private static final List<DateTimeFormatter> FORMATTERS = List.of(
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+    private static final char NBSP = '\u00A0';
+
+    private static final DateTimeFormatter LOCAL_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final DateTimeFormatter[] OFFSET_FORMATTERS = {
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSXXX"),
             DateTimeFormatter.ISO_OFFSET_DATE_TIME
-    );
+    };
 
     @Override
     public OffsetDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String value = p.getText().trim();
-        value = value.replace('\u00A0', ' ').trim();
+        String text = p.getText();
+
+        int start = 0;
+        int end = text.length();
+        while (start < end && isBlank(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isBlank(text.charAt(end - 1))) {
+            end--;
+        }
+
+        OffsetDateTime parsed = parseFast(text, start, end);
+        if (parsed != null) {
+            return parsed;
+        }
+
+        String value = text.substring(start, end).replace(NBSP, ' ');
+        parsed = parseWithFormatters(value);
+        if (parsed != null) {
+            return parsed;
+        }
+        throw new IOException("Formato de data inválido: " + value);
+    }
+
+    /**
+     * Analisa os formatos comuns diretamente, retornando {@code null} para qualquer valor
+     * que não seja inequivocamente válido.
+     */
+    private static OffsetDateTime parseFast(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length < 19
+                || text.charAt(start + 4) != '-'
+                || text.charAt(start + 7) != '-'
+                || text.charAt(start + 13) != ':'
+                || text.charAt(start + 16) != ':') {
+            return null;
+        }
+
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        int second = digits(text, start + 17, 2);
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59 || second < 0 || second > 59
+                || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+
+        char separator = text.charAt(start + 10);
+        if (separator == ' ' || separator == NBSP) {
+            return length == 19
+                    ? OffsetDateTime.of(year, month, day, hour, minute, second, 0, ZoneOffset.UTC)
+                    : null;
+        }
+        if (separator != 'T' || length == 19) {
+            return null;
+        }
+
+        int index = start + 19;
+        int nanos = 0;
+        if (text.charAt(index) == '.') {
+            int fractionStart = ++index;
+            while (index < end && index - fractionStart < 9 && isDigit(text.charAt(index))) {
+                nanos = nanos * 10 + (text.charAt(index++) - '0');
+            }
+            int fractionDigits = index - fractionStart;
+            if (fractionDigits == 0 || index == end) {
+                return null;
+            }
+            for (int i = fractionDigits; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+
+        ZoneOffset offset = parseOffset(text, index, end);
+        return offset != null ? OffsetDateTime.of(year, month, day, hour, minute, second, nanos, offset) : null;
+    }
 
-        for (DateTimeFormatter formatter : FORMATTERS) {
+    private static ZoneOffset parseOffset(CharSequence text, int index, int end) {
+        int length = end - index;
+        char sign = text.charAt(index);
+
+        if (sign == 'Z' && length == 1) {
+            return ZoneOffset.UTC;
+        }
+        if ((sign != '+' && sign != '-') || length != 6 || text.charAt(index + 3) != ':') {
+            return null;
+        }
+
+        int hours = digits(text, index + 1, 2);
+        int minutes = digits(text, index + 4, 2);
+        if (hours < 0 || minutes < 0 || minutes > 59 || hours * 60 + minutes > 18 * 60) {
+            return null;
+        }
+
+        int totalSeconds = (hours * 3600 + minutes * 60) * (sign == '-' ? -1 : 1);
+        return ZoneOffset.ofTotalSeconds(totalSeconds);
+    }
+
+    /**
+     * Aplica os formatadores originais. Cada formato é primeiro reconhecido sem resolução,
+     * o que não lança exceções para textos em outro formato; apenas valores reconhecidos
+     * mas fora dos limites dos campos chegam a lançar {@link DateTimeException}.
+     */
+    private static OffsetDateTime parseWithFormatters(String value) {
+        try {
+            if (matches(LOCAL_FORMATTER, value)) {
+                return LocalDateTime.parse(value, LOCAL_FORMATTER).atOffset(ZoneOffset.UTC);
+            }
+        } catch (DateTimeException ignored) {
+            // reconhecido, mas inválido neste formato; tenta os demais
+        }
+
+        for (DateTimeFormatter formatter : OFFSET_FORMATTERS) {
             try {
-                if (formatter == FORMATTERS.get(0)) { // sem timezone
-                    LocalDateTime ldt = LocalDateTime.parse(value, formatter);
-                    return ldt.atOffset(ZoneOffset.UTC); // assume UTC ou outro offset padrão
-                } else {
+                if (matches(formatter, value)) {
                     return OffsetDateTime.parse(value, formatter);
                 }
-            } catch (Exception ignored) {}
+            } catch (DateTimeException ignored) {
+                // idem
+            }
         }
-        throw new IOException("Formato de data inválido: " + value);
+        return null;
+    }
+
+    private static boolean matches(DateTimeFormatter formatter, String value) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = formatter.parseUnresolved(value, position);
+        return parsed != null && position.getErrorIndex() < 0 && position.getIndex() == value.length();
+    }
+
+    private static int digits(CharSequence text, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBlank(char c) {
+        return c <= ' ' || c == NBSP;
     }
 }
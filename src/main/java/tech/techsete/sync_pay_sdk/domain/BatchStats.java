@@ -0,0 +1,109 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Estatísticas de execução de um lote de requisições.
+ * <p>
+ * Produzidas ao término do lote, reúnem a contagem de sucessos e falhas, a vazão
+ * média e a distribuição de latência dos itens executados.
+ * </p>
+ *
+ * @param total      Quantidade de itens processados.
+ * @param succeeded  Quantidade de itens concluídos com sucesso.
+ * @param failed     Quantidade de itens que falharam.
+ * @param elapsed    Tempo total do lote, da assinatura até o término.
+ * @param throughput Vazão média, em itens por segundo.
+ * @param p50        Latência mediana dos itens.
+ * @param p95        Percentil 95 da latência dos itens.
+ * @param p99        Percentil 99 da latência dos itens.
+ * @param max        Maior latência observada.
+ */
+public record BatchStats(
+        long total,
+        long succeeded,
+        long failed,
+        Duration elapsed,
+        double throughput,
+        Duration p50,
+        Duration p95,
+        Duration p99,
+        Duration max
+) {
+
+    /**
+     * Cria um acumulador de estatísticas, iniciando a contagem do tempo total.
+     *
+     * @return um novo {@link Recorder}.
+     */
+    public static Recorder recorder() {
+        return new Recorder();
+    }
+
+    /**
+     * Acumulador das latências e resultados de um lote.
+     * <p>
+     * Não é seguro para uso concorrente; deve ser alimentado a partir de um fluxo
+     * serializado, como a saída de um {@code flatMap}.
+     * </p>
+     */
+    public static final class Recorder {
+
+        private final long startNanos = System.nanoTime();
+        private long[] latencies = new long[256];
+        private int count;
+        private long succeeded;
+
+        private Recorder() { }
+
+        /**
+         * Registra o resultado de um item.
+         *
+         * @param latency A latência do item.
+         * @param success Se o item foi concluído com sucesso.
+         */
+        public void record(Duration latency, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count << 1);
+            }
+            latencies[count++] = latency.toNanos();
+            if (success) {
+                succeeded++;
+            }
+        }
+
+        /**
+         * Encerra a contagem e calcula as estatísticas do lote.
+         *
+         * @return as estatísticas acumuladas.
+         */
+        public BatchStats finish() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            double throughput = elapsedNanos > 0 ? count / (elapsedNanos / 1_000_000_000d) : 0d;
+
+            return new BatchStats(
+                    count,
+                    succeeded,
+                    count - succeeded,
+                    Duration.ofNanos(elapsedNanos),
+                    throughput,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 1.0)
+            );
+        }
+
+        private static Duration percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return Duration.ZERO;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+    }
+}
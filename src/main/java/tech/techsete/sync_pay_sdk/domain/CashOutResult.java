@@ -0,0 +1,73 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.CashOutResponse;
+
+import java.time.Duration;
+
+/**
+ * Resultado individual de um Cash-Out executado em lote.
+ * <p>
+ * Cada item do lote produz exatamente um resultado: em caso de sucesso, {@code response}
+ * contém a resposta da API; em caso de falha, {@code error} contém a exceção original,
+ * preservando o seu tipo para tratamento por quem consome o lote.
+ * </p>
+ *
+ * @param index    Posição do item no lote de entrada, iniciando em zero.
+ * @param request  A requisição de Cash-Out enviada.
+ * @param response A resposta da API, ou {@code null} em caso de falha.
+ * @param error    A falha ocorrida, ou {@code null} em caso de sucesso.
+ * @param latency  O tempo decorrido na execução do item.
+ */
+public record CashOutResult(
+        long index,
+        CashOutRequest request,
+        CashOutResponse response,
+        Throwable error,
+        Duration latency
+) {
+
+    /**
+     * Cria um resultado de sucesso.
+     *
+     * @param index    Posição do item no lote.
+     * @param request  A requisição enviada.
+     * @param response A resposta da API.
+     * @param latency  O tempo decorrido.
+     * @return o resultado de sucesso.
+     */
+    public static CashOutResult success(long index, CashOutRequest request, CashOutResponse response, Duration latency) {
+        return new CashOutResult(index, request, response, null, latency);
+    }
+
+    /**
+     * Cria um resultado de falha.
+     *
+     * @param index   Posição do item no lote.
+     * @param request A requisição enviada.
+     * @param error   A falha ocorrida.
+     * @param latency O tempo decorrido.
+     * @return o resultado de falha.
+     */
+    public static CashOutResult failure(long index, CashOutRequest request, Throwable error, Duration latency) {
+        return new CashOutResult(index, request, null, error, latency);
+    }
+
+    /**
+     * Indica se o Cash-Out foi aceito pela API.
+     *
+     * @return {@code true} em caso de sucesso.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Retorna o identificador de referência do Cash-Out criado.
+     *
+     * @return o {@code reference_id} retornado pela API, ou {@code null} em caso de falha.
+     */
+    public String referenceId() {
+        return response != null ? response.referenceId() : null;
+    }
+}
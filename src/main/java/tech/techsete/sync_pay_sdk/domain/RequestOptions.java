@@ -0,0 +1,383 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.auth.AccessTokenManager;
+import tech.techsete.sync_pay_sdk.filters.AccessTokenExchangeFilter;
+import tech.techsete.sync_pay_sdk.filters.RetryExchangeFilter;
+import tech.techsete.sync_pay_sdk.tenants.SyncPayTenantClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Opções imutáveis de uma requisição à API SyncPay.
+ * <p>
+ * Reúne os cabeçalhos, a chave de idempotência, o tempo limite da chamada e a conta
+ * (tenant) cujo token de acesso será utilizado. As opções são validadas e os cabeçalhos
+ * convertidos uma única vez, na criação; a cada requisição, os valores já prontos são
+ * apenas adicionados à requisição, sem conversões nem cópias intermediárias. Uma mesma instância
+ * pode ser reutilizada em quantas chamadas forem necessárias.
+ * </p>
+ *
+ * <pre>
+ * RequestOptions options = RequestOptions.builder()
+ *         .header("X-Request-Id", requestId)
+ *         .idempotencyKey(orderId)
+ *         .timeout(Duration.ofSeconds(5))
+ *         .build();
+ *
+ * pixService.createCashOutAsync(options, cashOutRequest);
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.tenants.SyncPayClientRegistry
+ */
+public final class RequestOptions {
+
+    /**
+     * Opções vazias: sem cabeçalhos adicionais, sem tempo limite próprio e com o token padrão do SDK.
+     */
+    public static final RequestOptions DEFAULT = new RequestOptions(HttpHeaders.EMPTY, null, null, null);
+
+    private final HttpHeaders headers;
+    private final String idempotencyKey;
+    private final Duration timeout;
+    private final AccessTokenManager accessTokenManager;
+    private final String[] headerNames;
+    private final List<String>[] headerValues;
+    private final Consumer<HttpHeaders> headersWriter;
+    private final Account account;
+
+    private RequestOptions(HttpHeaders headers,
+                           String idempotencyKey,
+                           Duration timeout,
+                           AccessTokenManager accessTokenManager
+    ) {
+        this.headers = headers;
+        this.idempotencyKey = idempotencyKey;
+        this.timeout = timeout;
+        this.accessTokenManager = accessTokenManager;
+        this.headerNames = headers.keySet().toArray(new String[0]);
+        this.headerValues = headerValues(headers, headerNames);
+        this.headersWriter = this::writeHeaders;
+        List<String> authorization = headers.get(HttpHeaders.AUTHORIZATION);
+        this.account = new Account(accessTokenManager, authorization != null ? List.copyOf(authorization) : List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] headerValues(HttpHeaders headers, String[] names) {
+        List<String>[] values = new List[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = List.copyOf(headers.get(names[i]));
+        }
+        return values;
+    }
+
+    /**
+     * Adiciona os cabeçalhos destas opções aos cabeçalhos informados.
+     *
+     * @param httpHeaders Os cabeçalhos de destino.
+     */
+    public void writeHeaders(HttpHeaders httpHeaders) {
+        for (int i = 0; i < headerNames.length; i++) {
+            httpHeaders.addAll(headerNames[i], headerValues[i]);
+        }
+    }
+
+    /**
+     * Cria as opções a partir de um mapa de cabeçalhos, convertendo cada valor com {@code toString()}.
+     *
+     * @param headers Os cabeçalhos HTTP da requisição.
+     * @return as opções correspondentes, ou {@link #DEFAULT} se o mapa estiver vazio.
+     * @throws IllegalArgumentException se algum nome de cabeçalho for vazio ou algum valor for nulo.
+     */
+    public static RequestOptions of(Map<String, ?> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return DEFAULT;
+        }
+        return builder().headers(headers).build();
+    }
+
+    /**
+     * Cria um construtor de opções.
+     *
+     * @return um novo {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retorna os cabeçalhos da requisição, somente para leitura, incluindo a chave de idempotência.
+     *
+     * @return os cabeçalhos da requisição.
+     */
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Retorna a chave de idempotência da requisição.
+     *
+     * @return a chave de idempotência, ou {@code null} se não informada.
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * Retorna o tempo limite da chamada, incluindo novas tentativas.
+     *
+     * @return o tempo limite, ou {@code null} se não informado.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Retorna o gerenciador de tokens da conta da requisição.
+     *
+     * @return o gerenciador de tokens, ou {@code null} para o token padrão do SDK.
+     */
+    public AccessTokenManager getAccessTokenManager() {
+        return accessTokenManager;
+    }
+
+    /**
+     * Retorna a conta em nome da qual as requisições com estas opções são feitas.
+     *
+     * @return a conta, igual entre opções que diferem apenas em outros cabeçalhos ou no tempo limite.
+     */
+    public Account getAccount() {
+        return account;
+    }
+
+    /**
+     * Aplica os cabeçalhos e a conta destas opções a uma requisição.
+     *
+     * @param spec A requisição em construção.
+     * @param <S>  O tipo da requisição.
+     * @return a própria requisição.
+     */
+    public <S extends WebClient.RequestHeadersSpec<?>> S applyTo(S spec) {
+        if (headerNames.length > 0) {
+            spec.headers(headersWriter);
+        }
+        if (accessTokenManager != null) {
+            spec.attribute(AccessTokenExchangeFilter.ACCESS_TOKEN_MANAGER_ATTRIBUTE, accessTokenManager);
+        }
+        return spec;
+    }
+
+    /**
+     * Aplica o tempo limite destas opções a uma chamada.
+     *
+     * @param call A chamada.
+     * @param <T>  O tipo do resultado.
+     * @return a chamada com tempo limite, ou a própria chamada se não houver tempo limite.
+     */
+    public <T> Mono<T> applyTimeout(Mono<T> call) {
+        return timeout == null ? call : call.timeout(timeout);
+    }
+
+    /**
+     * Aplica o tempo limite destas opções a uma chamada que retorna vários elementos,
+     * como o intervalo máximo entre eles.
+     *
+     * @param call A chamada.
+     * @param <T>  O tipo dos elementos.
+     * @return a chamada com tempo limite, ou a própria chamada se não houver tempo limite.
+     */
+    public <T> Flux<T> applyTimeout(Flux<T> call) {
+        return timeout == null ? call : call.timeout(timeout);
+    }
+
+    /**
+     * Cria um construtor com os valores destas opções.
+     *
+     * @return um novo {@link Builder} com os valores destas opções.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.headers.addAll(headers);
+        builder.headers.remove(RetryExchangeFilter.IDEMPOTENCY_KEY_HEADER);
+        builder.idempotencyKey = idempotencyKey;
+        builder.timeout = timeout;
+        builder.accessTokenManager = accessTokenManager;
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RequestOptions options)) {
+            return false;
+        }
+        return headers.equals(options.headers)
+                && Objects.equals(timeout, options.timeout)
+                && accessTokenManager == options.accessTokenManager;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(headers, timeout, System.identityHashCode(accessTokenManager));
+    }
+
+    @Override
+    public String toString() {
+        return "RequestOptions[headers=" + headers.keySet()
+                + ", idempotencyKey=" + idempotencyKey
+                + ", timeout=" + timeout
+                + ", tenant=" + (accessTokenManager != null) + "]";
+    }
+
+    /**
+     * Identidade da conta de uma requisição: o gerenciador de tokens e os valores do cabeçalho {@code Authorization}. Utilizada para que dados de uma conta
+     * mantidos pelo SDK não sejam entregues a chamadas de outra.
+     *
+     * @param accessTokenManager O gerenciador de tokens, ou {@code null} para o token padrão do SDK.
+     * @param authorization      Os valores do cabeçalho {@code Authorization}, ou vazio se não informado.
+     */
+    public record Account(AccessTokenManager accessTokenManager, List<String> authorization) {
+
+        /**
+         * Indica se é a conta padrão do SDK, sem gerenciador de tokens próprio nem cabeçalho
+         * {@code Authorization}.
+         *
+         * @return {@code true} para a conta padrão.
+         */
+        public boolean isDefault() {
+            return accessTokenManager == null && authorization.isEmpty();
+        }
+    }
+
+    /**
+     * Construtor de {@link RequestOptions}.
+     */
+    public static final class Builder {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private String idempotencyKey;
+        private Duration timeout;
+        private AccessTokenManager accessTokenManager;
+
+        private Builder() {
+        }
+
+        /**
+         * Adiciona um cabeçalho à requisição.
+         *
+         * @param name  O nome do cabeçalho.
+         * @param value O valor do cabeçalho, convertido com {@code toString()}.
+         * @return este construtor.
+         * @throws IllegalArgumentException se o nome for vazio ou o valor for nulo.
+         */
+        public Builder header(String name, Object value) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Header name cannot be blank");
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("Header " + name + " cannot be null");
+            }
+            headers.add(name, value.toString());
+            return this;
+        }
+
+        /**
+         * Adiciona cabeçalhos à requisição.
+         *
+         * @param headers Os cabeçalhos, com valores convertidos com {@code toString()}.
+         * @return este construtor.
+         * @throws IllegalArgumentException se algum nome for vazio ou algum valor for nulo.
+         */
+        public Builder headers(Map<String, ?> headers) {
+            headers.forEach(this::header);
+            return this;
+        }
+
+        /**
+         * Define a chave de idempotência, enviada no cabeçalho
+         * {@value RetryExchangeFilter#IDEMPOTENCY_KEY_HEADER} e mantida nas novas tentativas.
+         *
+         * @param idempotencyKey A chave de idempotência.
+         * @return este construtor.
+         * @throws IllegalArgumentException se a chave for vazia.
+         */
+        public Builder idempotencyKey(String idempotencyKey) {
+            if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                throw new IllegalArgumentException("Idempotency key cannot be blank");
+            }
+            this.idempotencyKey = idempotencyKey;
+            return this;
+        }
+
+        /**
+         * Define o tempo limite da chamada, incluindo novas tentativas e esperas dos limites do SDK.
+         *
+         * @param timeout O tempo limite.
+         * @return este construtor.
+         * @throws IllegalArgumentException se o tempo limite não for positivo.
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Timeout must be positive");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Autentica a requisição com o token da conta informada.
+         *
+         * @param tenant O cliente da conta, obtido do {@code SyncPayClientRegistry}.
+         * @return este construtor.
+         */
+        public Builder tenant(SyncPayTenantClient tenant) {
+            return accessTokenManager(tenant.getAccessTokenManager());
+        }
+
+        /**
+         * Autentica a requisição com o gerenciador de tokens informado.
+         *
+         * @param accessTokenManager O gerenciador de tokens.
+         * @return este construtor.
+         */
+        public Builder accessTokenManager(AccessTokenManager accessTokenManager) {
+            this.accessTokenManager = Objects.requireNonNull(accessTokenManager, "Access token manager cannot be null");
+            return this;
+        }
+
+        /**
+         * Cria as opções.
+         *
+         * @return as opções imutáveis.
+         * @throws IllegalArgumentException se a chave de idempotência for informada também como cabeçalho.
+         */
+        public RequestOptions build() {
+            HttpHeaders rendered = new HttpHeaders();
+            rendered.addAll(headers);
+
+            String key = idempotencyKey;
+            if (key != null) {
+                if (rendered.containsKey(RetryExchangeFilter.IDEMPOTENCY_KEY_HEADER)) {
+                    throw new IllegalArgumentException("Idempotency key informed twice");
+                }
+                rendered.set(RetryExchangeFilter.IDEMPOTENCY_KEY_HEADER, key);
+            } else {
+                key = rendered.getFirst(RetryExchangeFilter.IDEMPOTENCY_KEY_HEADER);
+            }
+
+            if (rendered.isEmpty() && timeout == null && accessTokenManager == null) {
+                return DEFAULT;
+            }
+            return new RequestOptions(HttpHeaders.readOnlyHttpHeaders(rendered), key, timeout, accessTokenManager);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import java.util.Objects;
+
+/**
+ * Credenciais de uma conta SyncPay.
+ *
+ * @param tenantId     Identificador da conta na aplicação, utilizado como chave do registro.
+ * @param clientId     Identificador do cliente na API SyncPay.
+ * @param clientSecret Segredo do cliente na API SyncPay.
+ */
+public record SyncPayCredentials(String tenantId, String clientId, String clientSecret) {
+
+    public SyncPayCredentials {
+        Objects.requireNonNull(tenantId, "Tenant id cannot be null");
+        Objects.requireNonNull(clientId, "Client id cannot be null");
+        Objects.requireNonNull(clientSecret, "Client secret cannot be null");
+    }
+
+    @Override
+    public String toString() {
+        return "SyncPayCredentials[tenantId=" + tenantId + ", clientId=" + clientId + ", clientSecret=****]";
+    }
+}
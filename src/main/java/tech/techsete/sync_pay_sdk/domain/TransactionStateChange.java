@@ -0,0 +1,20 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import tech.techsete.sync_pay_sdk.enums.WebhookEventStatus;
+
+import java.time.Instant;
+
+/**
+ * Mudança de status de uma transação registrada pelo {@code TransactionStateStore}.
+ *
+ * @param id        O identificador da transação.
+ * @param previous  O status anterior, ou {@code null} na primeira vez que a transação é vista.
+ * @param current   O novo status.
+ * @param timestamp O instante da mudança.
+ */
+public record TransactionStateChange(
+        String id,
+        WebhookEventStatus previous,
+        WebhookEventStatus current,
+        Instant timestamp
+) { }
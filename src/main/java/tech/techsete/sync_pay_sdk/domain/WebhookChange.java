@@ -0,0 +1,38 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.enums.WebhookChangeAction;
+
+/**
+ * Alteração aplicada a um webhook durante a reconciliação.
+ * <p>
+ * Em caso de falha, {@code error} contém a exceção original e {@code result} é {@code null};
+ * as demais alterações da reconciliação seguem sendo aplicadas.
+ * </p>
+ *
+ * @param action   A alteração aplicada.
+ * @param key      A identidade do webhook.
+ * @param desired  O webhook desejado, ou {@code null} em remoções.
+ * @param previous O webhook existente antes da alteração, ou {@code null} em criações.
+ * @param result   O webhook resultante, ou {@code null} em remoções e falhas.
+ * @param error    A falha ocorrida, ou {@code null} em caso de sucesso.
+ */
+public record WebhookChange(
+        WebhookChangeAction action,
+        WebhookKey key,
+        WebhookRequest desired,
+        WebhookResponse previous,
+        WebhookResponse result,
+        Throwable error
+) {
+
+    /**
+     * Indica se a alteração foi aplicada.
+     *
+     * @return {@code true} em caso de sucesso.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
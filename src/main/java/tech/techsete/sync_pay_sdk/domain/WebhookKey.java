@@ -0,0 +1,34 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookRequest;
+import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.enums.WebhookEvent;
+
+/**
+ * Identidade de um webhook na reconciliação: a URL de destino e o evento.
+ *
+ * @param url   A URL de destino do webhook.
+ * @param event O evento que dispara o webhook.
+ */
+public record WebhookKey(String url, WebhookEvent event) {
+
+    /**
+     * Retorna a identidade de um webhook desejado.
+     *
+     * @param request O webhook desejado.
+     * @return a identidade do webhook.
+     */
+    public static WebhookKey of(WebhookRequest request) {
+        return new WebhookKey(request.getUrl(), request.getEvent());
+    }
+
+    /**
+     * Retorna a identidade de um webhook existente.
+     *
+     * @param response O webhook existente.
+     * @return a identidade do webhook.
+     */
+    public static WebhookKey of(WebhookResponse response) {
+        return new WebhookKey(response.url(), response.event());
+    }
+}
@@ -0,0 +1,48 @@
+package tech.techsete.sync_pay_sdk.domain;
+
+import tech.techsete.sync_pay_sdk.enums.WebhookChangeAction;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Relatório de uma reconciliação de webhooks.
+ *
+ * @param changes   As alterações aplicadas, com o resultado de cada uma.
+ * @param unchanged Quantidade de webhooks desejados que já estavam atualizados.
+ * @param elapsed   Tempo total da reconciliação.
+ */
+public record WebhookReconciliationReport(
+        List<WebhookChange> changes,
+        int unchanged,
+        Duration elapsed
+) {
+
+    /**
+     * Retorna a quantidade de alterações de um tipo aplicadas com sucesso.
+     *
+     * @param action O tipo de alteração.
+     * @return a quantidade de alterações.
+     */
+    public long count(WebhookChangeAction action) {
+        return changes.stream().filter(change -> change.action() == action && change.isSuccess()).count();
+    }
+
+    /**
+     * Retorna as alterações que falharam.
+     *
+     * @return as alterações com falha.
+     */
+    public List<WebhookChange> failures() {
+        return changes.stream().filter(change -> !change.isSuccess()).toList();
+    }
+
+    /**
+     * Indica se alguma alteração falhou.
+     *
+     * @return {@code true} se houve falhas.
+     */
+    public boolean hasFailures() {
+        return changes.stream().anyMatch(change -> !change.isSuccess());
+    }
+}
@@ -2,10 +2,15 @@ package tech.techsete.sync_pay_sdk.dtos.request;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
 import org.hibernate.validator.constraints.br.CPF;
 
@@ -22,6 +27,7 @@ import java.util.List;
 public class CashInRequest implements Serializable {
 
     @NotNull(message = "Amount cannot be null")
+    @PositiveOrZero(message = "Amount cannot be negative")
     @JsonProperty("amount")
     private BigDecimal amount;
 
@@ -31,9 +37,11 @@ public class CashInRequest implements Serializable {
     @JsonProperty("webhook_url")
     private String webhookUrl;
 
+    @Valid
     @JsonProperty("client")
     private Client client;
 
+    @Valid
     @JsonProperty("split")
     private List<Split> split;
 
@@ -76,10 +84,12 @@ public class CashInRequest implements Serializable {
     public static class Split {
 
         @NotNull(message = "Split percentage cannot be null")
+        @Min(value = 0, message = "Split percentage must be between 0 and 100")
+        @Max(value = 100, message = "Split percentage must be between 0 and 100")
         @JsonProperty("percentage")
         private Integer percentage;
 
-        @NotEmpty(message = "Split user id cannot be empty")
+        @NotBlank(message = "Split user id cannot be blank")
         @JsonProperty("user_id")
         private String userId;
     }
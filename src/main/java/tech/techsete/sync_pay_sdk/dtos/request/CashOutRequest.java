@@ -2,6 +2,7 @@ package tech.techsete.sync_pay_sdk.dtos.request;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -34,6 +35,7 @@ public class CashOutRequest implements Serializable {
     @JsonProperty("pix_key")
     private String pixKey;
 
+    @Valid
     @NotNull(message = "Document cannot be null")
     @JsonProperty("document")
     private Document document;
@@ -0,0 +1,49 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+import lombok.Getter;
+
+import java.net.URI;
+
+/**
+ * Grupos de endpoints da API SyncPay.
+ * <p>
+ * Utilizado pelos filtros do {@code syncPayWebClient} para aplicar limites, políticas
+ * e isolamento por grupo, a partir do caminho da requisição.
+ * </p>
+ */
+@Getter
+public enum SyncPayEndpoint {
+    AUTH("/api/partner/v1/auth-token"),
+    CASH_IN("/api/partner/v1/cash-in"),
+    CASH_OUT("/api/partner/v1/cash-out"),
+    TRANSACTION("/api/partner/v1/transaction"),
+    WEBHOOK("/api/partner/v1/webhooks"),
+    OTHER("");
+
+    private static final SyncPayEndpoint[] KNOWN = { AUTH, CASH_IN, CASH_OUT, TRANSACTION, WEBHOOK };
+
+    private final String pathPrefix;
+
+    SyncPayEndpoint(String pathPrefix) {
+        this.pathPrefix = pathPrefix;
+    }
+
+    /**
+     * Identifica o grupo de endpoint de uma URL da API SyncPay.
+     *
+     * @param url A URL da requisição.
+     * @return o grupo correspondente, ou {@link #OTHER} se o caminho não for reconhecido.
+     */
+    public static SyncPayEndpoint resolve(URI url) {
+        String path = url.getRawPath();
+        if (path == null) {
+            return OTHER;
+        }
+        for (SyncPayEndpoint endpoint : KNOWN) {
+            if (path.startsWith(endpoint.pathPrefix)) {
+                return endpoint;
+            }
+        }
+        return OTHER;
+    }
+}
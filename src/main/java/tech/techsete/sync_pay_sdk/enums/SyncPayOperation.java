@@ -0,0 +1,61 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+/**
+ * Operações lógicas do SDK SyncPay, utilizadas como dimensão das métricas.
+ * <p>
+ * A operação é identificada pelo método HTTP e pelo grupo de endpoint da requisição, de
+ * forma que o conjunto de valores é fixo e conhecido na inicialização.
+ * </p>
+ */
+@Getter
+public enum SyncPayOperation {
+    AUTH("auth"),
+    CASH_IN("cash-in"),
+    CASH_OUT("cash-out"),
+    TRANSACTION_LOOKUP("transaction-lookup"),
+    WEBHOOK_CREATE("webhook-create"),
+    WEBHOOK_LIST("webhook-list"),
+    WEBHOOK_UPDATE("webhook-update"),
+    WEBHOOK_DELETE("webhook-delete"),
+    OTHER("other");
+
+    private final String value;
+
+    SyncPayOperation(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Identifica a operação de uma requisição à API SyncPay.
+     *
+     * @param method O método HTTP da requisição.
+     * @param url    A URL da requisição.
+     * @return a operação correspondente, ou {@link #OTHER} se não for reconhecida.
+     */
+    public static SyncPayOperation resolve(HttpMethod method, URI url) {
+        return switch (SyncPayEndpoint.resolve(url)) {
+            case AUTH -> AUTH;
+            case CASH_IN -> CASH_IN;
+            case CASH_OUT -> CASH_OUT;
+            case TRANSACTION -> TRANSACTION_LOOKUP;
+            case WEBHOOK -> {
+                if (HttpMethod.POST.equals(method)) {
+                    yield WEBHOOK_CREATE;
+                }
+                if (HttpMethod.PUT.equals(method)) {
+                    yield WEBHOOK_UPDATE;
+                }
+                if (HttpMethod.DELETE.equals(method)) {
+                    yield WEBHOOK_DELETE;
+                }
+                yield WEBHOOK_LIST;
+            }
+            case OTHER -> OTHER;
+        };
+    }
+}
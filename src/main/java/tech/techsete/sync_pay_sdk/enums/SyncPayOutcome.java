@@ -0,0 +1,65 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+import lombok.Getter;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayApiException;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayRejectedException;
+
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resultado de uma chamada à API SyncPay, utilizado como dimensão das métricas.
+ * <p>
+ * Cada resultado possui uma faixa de status HTTP fixa ({@code status}), para que as métricas
+ * não dependam do código exato retornado.
+ * </p>
+ */
+@Getter
+public enum SyncPayOutcome {
+    SUCCESS("2xx"),
+    CLIENT_ERROR("4xx"),
+    RATE_LIMITED("429"),
+    SERVER_ERROR("5xx"),
+    REJECTED("none"),
+    TIMEOUT("none"),
+    IO_ERROR("none"),
+    CANCELLED("none");
+
+    private final String status;
+
+    SyncPayOutcome(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Classifica a falha de uma chamada.
+     * <p>
+     * Chamadas recusadas localmente pelo circuito, pelo limite de taxa ou pelo isolamento de
+     * concorrência são {@link #REJECTED}; respostas de erro da API são classificadas pelo
+     * código HTTP.
+     * </p>
+     *
+     * @param error A falha da chamada.
+     * @return o resultado correspondente.
+     */
+    public static SyncPayOutcome of(Throwable error) {
+        if (error instanceof SyncPayApiException apiException) {
+            int statusCode = apiException.getStatusCode();
+            if (statusCode == 429) {
+                return RATE_LIMITED;
+            }
+            return statusCode >= 500 ? SERVER_ERROR : CLIENT_ERROR;
+        }
+        if (error instanceof SyncPayRejectedException) {
+            return REJECTED;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof HttpTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return TIMEOUT;
+            }
+        }
+        return IO_ERROR;
+    }
+}
@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+/**
+ * Implementações de transporte HTTP disponíveis no SDK.
+ *
+ * @see tech.techsete.sync_pay_sdk.transport.SyncPayTransport
+ */
+public enum SyncPayTransportType {
+    /**
+     * Reactor Netty, com o pool de conexões do SDK.
+     */
+    REACTOR_NETTY,
+
+    /**
+     * {@link java.net.http.HttpClient} do JDK, executado em threads virtuais quando disponíveis.
+     */
+    JDK
+}
@@ -3,6 +3,7 @@ package tech.techsete.sync_pay_sdk.enums;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
+import tech.techsete.sync_pay_sdk.exceptions.UnknownEnumValueException;
 
 @Getter
 public enum TransactionStatus {
@@ -12,6 +13,8 @@ public enum TransactionStatus {
     REFUNDED("refunded"),
     MED("med");
 
+    private static final ValueLookup<TransactionStatus> BY_VALUE = new ValueLookup<>(values(), TransactionStatus::getValue);
+
     private final String value;
 
     TransactionStatus(String value) {
@@ -23,13 +26,28 @@ public enum TransactionStatus {
         return value;
     }
 
+    /**
+     * Indica se o status é final, ou seja, se a transação não mudará mais de status.
+     *
+     * @return {@code true} para {@link #COMPLETED}, {@link #FAILED} e {@link #REFUNDED}.
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == REFUNDED;
+    }
+
+    /**
+     * Converte o valor recebido da API, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param value O valor recebido.
+     * @return a constante correspondente.
+     * @throws UnknownEnumValueException se o valor não corresponder a nenhuma constante.
+     */
     @JsonCreator
     public static TransactionStatus fromValue(String value) {
-        for (TransactionStatus status : TransactionStatus.values()) {
-            if (status.value.equalsIgnoreCase(value)) {
-                return status;
-            }
+        TransactionStatus status = BY_VALUE.get(value);
+        if (status == null) {
+            throw new UnknownEnumValueException("Status inválido: " + value);
         }
-        throw new IllegalArgumentException("Status inválido: " + value);
+        return status;
     }
 }
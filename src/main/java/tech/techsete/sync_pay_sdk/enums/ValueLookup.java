@@ -0,0 +1,63 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Tabela de busca pré-calculada, sem diferenciar maiúsculas de minúsculas, dos valores
+ * textuais de um enum.
+ * <p>
+ * As constantes são agrupadas pelo tamanho do valor, que é o único dado do texto que não
+ * depende de caixa e pode ser obtido sem percorrê-lo. Cada busca acessa o grupo pelo
+ * tamanho e compara o texto apenas com as poucas constantes desse grupo, normalmente uma,
+ * sem alocar e sem calcular hash. O resultado é o mesmo de comparar o texto com cada
+ * constante por {@link String#equalsIgnoreCase(String)}.
+ * </p>
+ *
+ * @param <E> O tipo do enum.
+ */
+final class ValueLookup<E extends Enum<E>> {
+
+    private final String[][] keysByLength;
+    private final Object[][] constantsByLength;
+
+    ValueLookup(E[] values, Function<E, String> valueOf) {
+        int maxLength = 0;
+        for (E constant : values) {
+            maxLength = Math.max(maxLength, valueOf.apply(constant).length());
+        }
+
+        this.keysByLength = new String[maxLength + 1][0];
+        this.constantsByLength = new Object[maxLength + 1][0];
+
+        for (E constant : values) {
+            String key = valueOf.apply(constant);
+            int length = key.length();
+            int size = keysByLength[length].length;
+            keysByLength[length] = Arrays.copyOf(keysByLength[length], size + 1);
+            constantsByLength[length] = Arrays.copyOf(constantsByLength[length], size + 1);
+            keysByLength[length][size] = key;
+            constantsByLength[length][size] = constant;
+        }
+    }
+
+    /**
+     * Busca a constante correspondente ao valor.
+     *
+     * @param value O valor textual.
+     * @return a constante, ou {@code null} se não houver correspondência.
+     */
+    @SuppressWarnings("unchecked")
+    E get(String value) {
+        if (value == null || value.length() >= keysByLength.length) {
+            return null;
+        }
+        String[] keys = keysByLength[value.length()];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equalsIgnoreCase(value)) {
+                return (E) constantsByLength[value.length()][i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+public enum WebhookChangeAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -3,6 +3,7 @@ package tech.techsete.sync_pay_sdk.enums;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
+import tech.techsete.sync_pay_sdk.exceptions.UnknownEnumValueException;
 
 @Getter
 public enum WebhookEvent {
@@ -10,6 +11,8 @@ public enum WebhookEvent {
     CASH_OUT("cashout"),
     INFRACTION("infraction");
 
+    private static final ValueLookup<WebhookEvent> BY_VALUE = new ValueLookup<>(values(), WebhookEvent::getValue);
+
     private final String value;
 
     WebhookEvent(String value) {
@@ -21,13 +24,19 @@ public enum WebhookEvent {
         return value;
     }
 
+    /**
+     * Converte o valor recebido da API, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param value O valor recebido.
+     * @return a constante correspondente.
+     * @throws UnknownEnumValueException se o valor não corresponder a nenhuma constante.
+     */
     @JsonCreator
     public static WebhookEvent fromValue(String value) {
-        for (WebhookEvent event : WebhookEvent.values()) {
-            if (event.value.equalsIgnoreCase(value)) {
-                return event;
-            }
+        WebhookEvent event = BY_VALUE.get(value);
+        if (event == null) {
+            throw new UnknownEnumValueException("Evento inválido: " + value);
         }
-        throw new IllegalArgumentException("Evento inválido: " + value);
+        return event;
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package tech.techsete.sync_pay_sdk.enums;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
+import tech.techsete.sync_pay_sdk.exceptions.UnknownEnumValueException;
 
 @Getter
 public enum WebhookEventStatus {
@@ -14,6 +15,8 @@ public enum WebhookEventStatus {
     REFUNDED("refunded"),
     WAITING_FOR_APPROVAL("waiting_for_approval");
 
+    private static final ValueLookup<WebhookEventStatus> BY_VALUE = new ValueLookup<>(values(), WebhookEventStatus::getValue);
+
     private final String value;
 
     WebhookEventStatus(String value) {
@@ -25,13 +28,19 @@ public enum WebhookEventStatus {
         return value;
     }
 
+    /**
+     * Converte o valor recebido da API, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param value O valor recebido.
+     * @return a constante correspondente.
+     * @throws UnknownEnumValueException se o valor não corresponder a nenhuma constante.
+     */
     @JsonCreator
     public static WebhookEventStatus fromValue(String value) {
-        for (WebhookEventStatus status : WebhookEventStatus.values()) {
-            if (status.value.equalsIgnoreCase(value)) {
-                return status;
-            }
+        WebhookEventStatus status = BY_VALUE.get(value);
+        if (status == null) {
+            throw new UnknownEnumValueException("Status inválido: " + value);
         }
-        throw new IllegalArgumentException("Status inválido: " + value);
+        return status;
     }
 }
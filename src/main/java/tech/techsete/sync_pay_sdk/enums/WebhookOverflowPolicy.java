@@ -0,0 +1,27 @@
+package tech.techsete.sync_pay_sdk.enums;
+
+/**
+ * Comportamento do receptor de webhooks quando a fila de uma transação está cheia.
+ *
+ * @see tech.techsete.sync_pay_sdk.webhooks.WebhookDispatcher
+ */
+public enum WebhookOverflowPolicy {
+    /**
+     * Responde {@code 503 Service Unavailable}, sem confirmar o recebimento, para que a
+     * SyncPay envie o evento novamente.
+     */
+    REJECT,
+
+    /**
+     * Confirma o recebimento e descarta o evento recebido. Com o journal de webhooks, o evento
+     * é reentregue aos handlers na próxima inicialização.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Confirma o recebimento e descarta o evento mais antigo da fila para enfileirar o recebido.
+     * Com o journal de webhooks, o evento descartado é reentregue aos handlers na próxima
+     * inicialização.
+     */
+    DROP_OLDEST
+}
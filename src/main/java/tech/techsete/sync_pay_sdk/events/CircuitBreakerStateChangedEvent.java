@@ -0,0 +1,25 @@
+package tech.techsete.sync_pay_sdk.events;
+
+import tech.techsete.sync_pay_sdk.enums.CircuitBreakerState;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+
+import java.time.Instant;
+
+/**
+ * Evento publicado no contexto Spring quando o circuito de um grupo de endpoint muda de estado.
+ * <p>
+ * Pode ser consumido com {@code @EventListener} para alertas, métricas ou para desviar
+ * tráfego enquanto um grupo da API SyncPay estiver indisponível.
+ * </p>
+ *
+ * @param endpoint  O grupo de endpoint cujo circuito mudou de estado.
+ * @param from      O estado anterior.
+ * @param to        O novo estado.
+ * @param timestamp O instante da transição.
+ */
+public record CircuitBreakerStateChangedEvent(
+        SyncPayEndpoint endpoint,
+        CircuitBreakerState from,
+        CircuitBreakerState to,
+        Instant timestamp
+) { }
@@ -0,0 +1,7 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+public class BulkheadFullException extends SyncPayRejectedException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
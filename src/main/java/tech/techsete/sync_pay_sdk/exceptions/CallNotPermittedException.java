@@ -0,0 +1,7 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+public class CallNotPermittedException extends SyncPayRejectedException {
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
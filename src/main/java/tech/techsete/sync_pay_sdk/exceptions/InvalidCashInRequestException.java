@@ -1,7 +1,15 @@
 package tech.techsete.sync_pay_sdk.exceptions;
 
-public class InvalidCashInRequestException extends RuntimeException {
+import tech.techsete.sync_pay_sdk.validation.Violation;
+
+import java.util.List;
+
+public class InvalidCashInRequestException extends InvalidRequestException {
     public InvalidCashInRequestException(String message) {
         super(message);
     }
+
+    public InvalidCashInRequestException(List<Violation> violations) {
+        super(violations);
+    }
 }
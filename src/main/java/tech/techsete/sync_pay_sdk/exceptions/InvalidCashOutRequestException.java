@@ -0,0 +1,15 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import tech.techsete.sync_pay_sdk.validation.Violation;
+
+import java.util.List;
+
+public class InvalidCashOutRequestException extends InvalidRequestException {
+    public InvalidCashOutRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidCashOutRequestException(List<Violation> violations) {
+        super(violations);
+    }
+}
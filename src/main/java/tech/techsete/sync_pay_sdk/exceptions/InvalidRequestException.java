@@ -0,0 +1,36 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import tech.techsete.sync_pay_sdk.validation.Violation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Requisição recusada pela validação do SDK, antes do envio à API SyncPay.
+ * <p>
+ * Traz todas as violações encontradas; a mensagem as reúne na mesma ordem.
+ * </p>
+ */
+public class InvalidRequestException extends SyncPayException {
+
+    private final List<Violation> violations;
+
+    public InvalidRequestException(String message) {
+        super(message);
+        this.violations = List.of(new Violation("", message));
+    }
+
+    public InvalidRequestException(List<Violation> violations) {
+        super(violations.stream().map(Violation::toString).collect(Collectors.joining("; ")));
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * Retorna as violações encontradas.
+     *
+     * @return as violações, na ordem em que foram encontradas.
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,7 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+public class RateLimitExceededException extends SyncPayRejectedException {
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resposta de erro (HTTP 4xx ou 5xx) da API SyncPay.
+ * <p>
+ * Além do código HTTP, traz o código de erro e a mensagem informados pela SyncPay no corpo da
+ * resposta, quando presentes, e o tempo de espera sugerido por {@code Retry-After}. O corpo é
+ * lido até o limite de {@code syncpay.errors.max-body-size}; {@code bodyTruncated} indica
+ * se ele foi cortado. Use {@link #of} para obter a subclasse correspondente ao código HTTP.
+ * Não captura a pilha de chamadas.
+ * </p>
+ */
+@Getter
+public class SyncPayApiException extends SyncPayException {
+
+    private final int statusCode;
+    private final String errorCode;
+    private final String errorMessage;
+    private final String responseBody;
+    private final boolean bodyTruncated;
+    private final Duration retryAfter;
+
+    public SyncPayApiException(int statusCode, String responseBody) {
+        this(statusCode, null, null, responseBody, false, null);
+    }
+
+    /**
+     * Cria a exceção com os detalhes extraídos da resposta.
+     *
+     * @param statusCode    O código HTTP da resposta.
+     * @param errorCode     O código de erro da SyncPay, ou {@code null}.
+     * @param errorMessage  A mensagem de erro da SyncPay, ou {@code null}.
+     * @param responseBody  O corpo da resposta, possivelmente cortado.
+     * @param bodyTruncated Indica se o corpo foi cortado.
+     * @param retryAfter    O tempo de espera sugerido pela API, ou {@code null}.
+     */
+    public SyncPayApiException(int statusCode,
+                               String errorCode,
+                               String errorMessage,
+                               String responseBody,
+                               boolean bodyTruncated,
+                               Duration retryAfter
+    ) {
+        super(message(statusCode, errorCode, errorMessage, responseBody), null, false);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.responseBody = responseBody;
+        this.bodyTruncated = bodyTruncated;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Cria a exceção correspondente ao código HTTP da resposta.
+     *
+     * @param statusCode    O código HTTP da resposta.
+     * @param errorCode     O código de erro da SyncPay, ou {@code null}.
+     * @param errorMessage  A mensagem de erro da SyncPay, ou {@code null}.
+     * @param responseBody  O corpo da resposta, possivelmente cortado.
+     * @param bodyTruncated Indica se o corpo foi cortado.
+     * @param retryAfter    O tempo de espera sugerido pela API, ou {@code null}.
+     * @return a exceção correspondente.
+     */
+    public static SyncPayApiException of(int statusCode,
+                                         String errorCode,
+                                         String errorMessage,
+                                         String responseBody,
+                                         boolean bodyTruncated,
+                                         Duration retryAfter
+    ) {
+        return switch (statusCode) {
+            case 401, 403 -> new SyncPayAuthenticationException(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+            case 404 -> new SyncPayNotFoundException(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+            case 429 -> new SyncPayTooManyRequestsException(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+            default -> statusCode >= 500
+                    ? new SyncPayServerException(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter)
+                    : new SyncPayClientException(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+        };
+    }
+
+    /**
+     * Retorna o tempo de espera sugerido pela API antes de uma nova tentativa.
+     *
+     * @return o tempo de espera, ou vazio se a API não o informou.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+
+    private static String message(int statusCode, String errorCode, String errorMessage, String responseBody) {
+        StringBuilder message = new StringBuilder("Erro HTTP ").append(statusCode).append(" ao chamar API SyncPay");
+        if (errorCode != null) {
+            message.append(" [").append(errorCode).append(']');
+        }
+        String detail = errorMessage != null ? errorMessage : responseBody;
+        if (detail != null && !detail.isEmpty()) {
+            message.append(": ").append(detail);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Credenciais ou token de acesso recusados pela API SyncPay (HTTP 401 ou 403).
+ */
+public class SyncPayAuthenticationException extends SyncPayClientException {
+    public SyncPayAuthenticationException(int statusCode,
+                                          String errorCode,
+                                          String errorMessage,
+                                          String responseBody,
+                                          boolean bodyTruncated,
+                                          Duration retryAfter
+    ) {
+        super(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+    }
+}
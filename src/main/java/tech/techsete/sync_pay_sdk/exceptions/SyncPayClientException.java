@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Resposta de erro do cliente (HTTP 4xx) da API SyncPay.
+ */
+public class SyncPayClientException extends SyncPayApiException {
+    public SyncPayClientException(int statusCode,
+                                  String errorCode,
+                                  String errorMessage,
+                                  String responseBody,
+                                  boolean bodyTruncated,
+                                  Duration retryAfter
+    ) {
+        super(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+    }
+}
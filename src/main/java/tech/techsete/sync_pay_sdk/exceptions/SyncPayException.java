@@ -0,0 +1,32 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+/**
+ * Exceção base do SDK SyncPay.
+ * <p>
+ * Falhas esperadas da integração, como respostas de erro da API e chamadas recusadas pelos
+ * limites do SDK, são criadas sem capturar a pilha de chamadas: em um fluxo reativo ela não
+ * aponta para o código da aplicação, e capturá-la a cada erro pesa justamente nos picos de
+ * falha da API.
+ * </p>
+ */
+public class SyncPayException extends RuntimeException {
+
+    public SyncPayException(String message) {
+        super(message);
+    }
+
+    public SyncPayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Cria a exceção, indicando se a pilha de chamadas deve ser capturada.
+     *
+     * @param message            A mensagem da exceção.
+     * @param cause              A causa, ou {@code null}.
+     * @param writableStackTrace {@code false} para não capturar a pilha de chamadas.
+     */
+    protected SyncPayException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
+}
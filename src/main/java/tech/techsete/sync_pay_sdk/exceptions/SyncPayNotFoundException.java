@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Recurso não encontrado na API SyncPay (HTTP 404).
+ */
+public class SyncPayNotFoundException extends SyncPayClientException {
+    public SyncPayNotFoundException(int statusCode,
+                                    String errorCode,
+                                    String errorMessage,
+                                    String responseBody,
+                                    boolean bodyTruncated,
+                                    Duration retryAfter
+    ) {
+        super(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+    }
+}
@@ -0,0 +1,17 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+/**
+ * Chamada recusada localmente pelo SDK, sem chegar à API SyncPay.
+ * <p>
+ * Não captura a pilha de chamadas.
+ * </p>
+ *
+ * @see CallNotPermittedException
+ * @see RateLimitExceededException
+ * @see BulkheadFullException
+ */
+public class SyncPayRejectedException extends SyncPayException {
+    public SyncPayRejectedException(String message) {
+        super(message, null, false);
+    }
+}
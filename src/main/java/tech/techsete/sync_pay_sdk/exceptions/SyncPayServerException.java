@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Resposta de erro do servidor (HTTP 5xx) da API SyncPay.
+ */
+public class SyncPayServerException extends SyncPayApiException {
+    public SyncPayServerException(int statusCode,
+                                  String errorCode,
+                                  String errorMessage,
+                                  String responseBody,
+                                  boolean bodyTruncated,
+                                  Duration retryAfter
+    ) {
+        super(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+    }
+}
@@ -0,0 +1,18 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Limite de requisições da API SyncPay excedido (HTTP 429). Veja {@link #getRetryAfter()}.
+ */
+public class SyncPayTooManyRequestsException extends SyncPayClientException {
+    public SyncPayTooManyRequestsException(int statusCode,
+                                           String errorCode,
+                                           String errorMessage,
+                                           String responseBody,
+                                           boolean bodyTruncated,
+                                           Duration retryAfter
+    ) {
+        super(statusCode, errorCode, errorMessage, responseBody, bodyTruncated, retryAfter);
+    }
+}
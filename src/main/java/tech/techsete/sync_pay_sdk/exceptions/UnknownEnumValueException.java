@@ -0,0 +1,19 @@
+package tech.techsete.sync_pay_sdk.exceptions;
+
+/**
+ * Valor desconhecido para um enum da API SyncPay.
+ * <p>
+ * Lançada durante a desserialização, onde a mensagem basta para identificar o campo; por
+ * isso não captura a pilha de chamadas.
+ * </p>
+ */
+public class UnknownEnumValueException extends IllegalArgumentException {
+    public UnknownEnumValueException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
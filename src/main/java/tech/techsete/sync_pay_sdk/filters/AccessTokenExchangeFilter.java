@@ -0,0 +1,105 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.auth.AccessTokenManager;
+import tech.techsete.sync_pay_sdk.properties.SyncPayAuthProperties;
+import tech.techsete.sync_pay_sdk.services.AuthenticationService;
+
+/**
+ * Filtro do {@code syncPayWebClient} que aplica o token de acesso gerenciado pelo SDK.
+ * <p>
+ * Requisições que já possuem o cabeçalho {@code Authorization} e a própria chamada de
+ * autenticação são encaminhadas sem alteração, preservando o uso com cabeçalhos montados
+ * manualmente. Quando a API responde HTTP 401 para um token gerenciado, o token é
+ * descartado e a requisição é repetida uma única vez com um token novo.
+ * </p>
+ * <p>
+ * Requisições com o atributo {@link #ACCESS_TOKEN_MANAGER_ATTRIBUTE} são autenticadas com o
+ * {@link AccessTokenManager} informado nele, e não com o gerenciador padrão. É assim que os
+ * clientes por conta do {@code SyncPayClientRegistry} utilizam seus próprios tokens sobre o
+ * mesmo {@code syncPayWebClient}.
+ * </p>
+ *
+ * @see AccessTokenManager
+ */
+@Component("syncPayAccessTokenFilter")
+public class AccessTokenExchangeFilter implements ExchangeFilterFunction {
+
+    /**
+     * Atributo da requisição com o {@link AccessTokenManager} a ser utilizado em vez do padrão.
+     */
+    public static final String ACCESS_TOKEN_MANAGER_ATTRIBUTE = AccessTokenExchangeFilter.class.getName() + ".accessTokenManager";
+
+    private final AccessTokenManager accessTokenManager;
+    private final SyncPayAuthProperties authProperties;
+
+    /**
+     * Construtor do filtro.
+     *
+     * @param accessTokenManager O gerenciador de tokens padrão do SDK.
+     * @param authProperties     As propriedades de autenticação do SDK.
+     */
+    public AccessTokenExchangeFilter(@Qualifier("syncPayAccessTokenManager")
+                                     AccessTokenManager accessTokenManager,
+                                     SyncPayAuthProperties authProperties
+    ) {
+        this.accessTokenManager = accessTokenManager;
+        this.authProperties = authProperties;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.headers().containsKey(HttpHeaders.AUTHORIZATION)
+                || request.url().getPath().endsWith(AuthenticationService.AUTHENTICATE_URI)) {
+            return next.exchange(request);
+        }
+
+        Object tenantTokenManager = request.attributes().get(ACCESS_TOKEN_MANAGER_ATTRIBUTE);
+        if (tenantTokenManager instanceof AccessTokenManager tokenManager) {
+            return exchangeWithToken(request, next, tokenManager, true);
+        }
+
+        if (!authProperties.hasCredentials()) {
+            return next.exchange(request);
+        }
+
+        return exchangeWithToken(request, next, accessTokenManager, true);
+    }
+
+    private Mono<ClientResponse> exchangeWithToken(ClientRequest request,
+                                                   ExchangeFunction next,
+                                                   AccessTokenManager tokenManager,
+                                                   boolean retryOnUnauthorized
+    ) {
+        return tokenManager.getAccessToken()
+                .flatMap(token -> next.exchange(withBearer(request, token))
+                        .flatMap(response -> {
+                            if (response.statusCode().value() != HttpStatus.UNAUTHORIZED.value()) {
+                                return Mono.just(response);
+                            }
+
+                            tokenManager.invalidate(token);
+
+                            if (!retryOnUnauthorized) {
+                                return Mono.just(response);
+                            }
+
+                            return response.releaseBody()
+                                    .then(exchangeWithToken(request, next, tokenManager, false));
+                        }));
+    }
+
+    private ClientRequest withBearer(ClientRequest request, String token) {
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(token))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.exceptions.BulkheadFullException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayBulkheadProperties;
+import tech.techsete.sync_pay_sdk.resilience.Bulkhead;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Filtro do {@code syncPayWebClient} que isola a concorrência de cada grupo de endpoint.
+ * <p>
+ * Cada grupo possui um {@link Bulkhead} próprio. Uma chamada acima do limite do seu grupo
+ * falha imediatamente com {@link BulkheadFullException}, sem ocupar conexões do pool nem
+ * atrasar os demais grupos.
+ * </p>
+ * <p>
+ * A permissão é mantida até o fim da leitura do corpo da resposta, e não apenas até a chegada
+ * dos cabeçalhos, de forma que o limite conta as chamadas que ainda ocupam uma conexão. O
+ * {@code WebClient} sempre lê ou descarta o corpo, inclusive quando a resposta é convertida em
+ * exceção; uma resposta obtida por {@code exchangeToMono} deve ter o corpo lido ou liberado,
+ * como já exigido para devolver a conexão ao pool.
+ * </p>
+ *
+ * @see SyncPayBulkheadProperties
+ */
+@Component("syncPayBulkheadFilter")
+public class BulkheadExchangeFilter implements ExchangeFilterFunction {
+
+    private final SyncPayBulkheadProperties bulkheadProperties;
+    private final Map<SyncPayEndpoint, Bulkhead> bulkheads = new EnumMap<>(SyncPayEndpoint.class);
+
+    /**
+     * Construtor do filtro, criando um limite por grupo de endpoint.
+     *
+     * @param bulkheadProperties As propriedades do isolamento de concorrência.
+     */
+    public BulkheadExchangeFilter(SyncPayBulkheadProperties bulkheadProperties) {
+        this.bulkheadProperties = bulkheadProperties;
+
+        for (SyncPayEndpoint endpoint : SyncPayEndpoint.values()) {
+            bulkheads.put(endpoint, new Bulkhead(bulkheadProperties.getMaxConcurrentCalls(endpoint)));
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!bulkheadProperties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        SyncPayEndpoint endpoint = SyncPayEndpoint.resolve(request.url());
+        Bulkhead bulkhead = bulkheads.get(endpoint);
+
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                return Mono.error(new BulkheadFullException(
+                        "Limite de chamadas simultâneas atingido para o grupo " + endpoint + " da API SyncPay"));
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            AtomicBoolean responded = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            };
+            return next.exchange(request)
+                    .map(response -> {
+                        responded.set(true);
+                        return response.mutate()
+                                .body(body -> body.doFinally(signal -> release.run()))
+                                .build();
+                    })
+                    .doFinally(signal -> {
+                        if (!responded.get()) {
+                            release.run();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Retorna o limite de concorrência de um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return o {@link Bulkhead} do grupo.
+     */
+    public Bulkhead getBulkhead(SyncPayEndpoint endpoint) {
+        return bulkheads.get(endpoint);
+    }
+}
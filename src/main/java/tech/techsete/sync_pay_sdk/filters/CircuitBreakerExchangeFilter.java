@@ -0,0 +1,128 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.CircuitBreakerState;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.events.CircuitBreakerStateChangedEvent;
+import tech.techsete.sync_pay_sdk.exceptions.BulkheadFullException;
+import tech.techsete.sync_pay_sdk.exceptions.CallNotPermittedException;
+import tech.techsete.sync_pay_sdk.exceptions.RateLimitExceededException;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayApiException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayCircuitBreakerProperties;
+import tech.techsete.sync_pay_sdk.resilience.CircuitBreaker;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro do {@code syncPayWebClient} que aplica um {@link CircuitBreaker} por grupo de endpoint.
+ * <p>
+ * Com o circuito de um grupo aberto, as chamadas desse grupo falham imediatamente com
+ * {@link CallNotPermittedException}, sem consumir conexões nem aguardar tempos limite.
+ * São contabilizadas como falha as respostas HTTP 5xx, falhas de conexão e tempos limite;
+ * erros 4xx indicam problema na requisição e não afetam o circuito. Rejeições do limite
+ * de taxa ou de concorrência e cancelamentos não são contabilizados.
+ * </p>
+ * <p>
+ * A duração de uma chamada, comparada a {@code slow-call-duration-threshold}, é medida a partir
+ * da liberação pelo {@link RateLimiterExchangeFilter}: o tempo na fila do limite de taxa é
+ * espera local e não indica lentidão da API.
+ * </p>
+ * <p>
+ * Cada transição de estado é registrada no log e publicada como
+ * {@link CircuitBreakerStateChangedEvent} no contexto Spring.
+ * </p>
+ *
+ * @see SyncPayCircuitBreakerProperties
+ */
+@Slf4j
+@Component("syncPayCircuitBreakerFilter")
+public class CircuitBreakerExchangeFilter implements ExchangeFilterFunction {
+
+    private final SyncPayCircuitBreakerProperties circuitBreakerProperties;
+    private final Map<SyncPayEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(SyncPayEndpoint.class);
+
+    /**
+     * Construtor do filtro, criando um circuito por grupo de endpoint.
+     *
+     * @param circuitBreakerProperties As propriedades dos circuitos.
+     * @param eventPublisher           O publicador de eventos do contexto Spring.
+     */
+    public CircuitBreakerExchangeFilter(SyncPayCircuitBreakerProperties circuitBreakerProperties,
+                                        ApplicationEventPublisher eventPublisher
+    ) {
+        this.circuitBreakerProperties = circuitBreakerProperties;
+
+        for (SyncPayEndpoint endpoint : SyncPayEndpoint.values()) {
+            circuitBreakers.put(endpoint, new CircuitBreaker(
+                    circuitBreakerProperties.getConfig(endpoint),
+                    (from, to) -> {
+                        log.warn("Circuito do grupo {} da API SyncPay mudou de {} para {}", endpoint, from, to);
+                        eventPublisher.publishEvent(new CircuitBreakerStateChangedEvent(endpoint, from, to, Instant.now()));
+                    }
+            ));
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!circuitBreakerProperties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        SyncPayEndpoint endpoint = SyncPayEndpoint.resolve(request.url());
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new CallNotPermittedException(
+                        "Circuito aberto para o grupo " + endpoint + " da API SyncPay"));
+            }
+
+            ExchangeTimer timer = new ExchangeTimer();
+
+            return next.exchange(request)
+                    .doOnSuccess(response -> circuitBreaker.onResult(timer.elapsedNanos(), false))
+                    .doOnError(error -> {
+                        if (isIgnored(error)) {
+                            circuitBreaker.releasePermission();
+                        } else {
+                            circuitBreaker.onResult(timer.elapsedNanos(), isFailure(error));
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .contextWrite(context -> context.put(ExchangeTimer.contextKey(), timer));
+        });
+    }
+
+    /**
+     * Retorna o estado atual do circuito de um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return o estado do circuito.
+     */
+    public CircuitBreakerState getState(SyncPayEndpoint endpoint) {
+        return circuitBreakers.get(endpoint).getState();
+    }
+
+    private boolean isIgnored(Throwable error) {
+        return error instanceof BulkheadFullException || error instanceof RateLimitExceededException;
+    }
+
+    private boolean isFailure(Throwable error) {
+        if (error instanceof SyncPayApiException apiException) {
+            return apiException.getStatusCode() >= 500;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+}
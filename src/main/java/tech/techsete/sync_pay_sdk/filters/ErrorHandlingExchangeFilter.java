@@ -0,0 +1,249 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayApiException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayErrorProperties;
+import tech.techsete.sync_pay_sdk.resilience.RetryAfter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro do {@code syncPayWebClient} que converte respostas de erro (HTTP 4xx e 5xx) em
+ * {@link SyncPayApiException}.
+ * <p>
+ * O corpo da resposta é lido até {@code syncpay.errors.max-body-size}: os bytes excedentes
+ * são liberados à medida que chegam, sem acumulação, e a conexão volta ao pool normalmente.
+ * Do corpo lido são extraídos o código e a mensagem de erro da SyncPay; o tempo de espera
+ * vem do cabeçalho {@code Retry-After} ou, na sua ausência, do campo {@code retry_after}.
+ * A exceção criada corresponde ao código HTTP (veja {@link SyncPayApiException#of}).
+ * </p>
+ * <p>
+ * O registro em log é limitado a um por {@code syncpay.errors.log-interval} para cada código
+ * HTTP; o próximo registro informa quantos erros foram suprimidos.
+ * </p>
+ *
+ * @see SyncPayErrorProperties
+ */
+@Slf4j
+@Component("syncPayErrorFilter")
+public class ErrorHandlingExchangeFilter implements ExchangeFilterFunction {
+
+    private final int maxBodySize;
+    private final long logIntervalNanos;
+    private final boolean logBody;
+    private final JsonFactory jsonFactory;
+    private final Map<Integer, LogWindow> logWindows = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor do filtro.
+     *
+     * @param errorProperties As propriedades do tratamento de erros.
+     * @param jsonCodecs      Os codecs JSON do SDK, utilizados na leitura do corpo de erro.
+     */
+    public ErrorHandlingExchangeFilter(SyncPayErrorProperties errorProperties, SyncPayJsonCodecs jsonCodecs) {
+        this.maxBodySize = Math.toIntExact(errorProperties.getMaxBodySize().toBytes());
+        this.logIntervalNanos = errorProperties.getLogInterval().toNanos();
+        this.logBody = errorProperties.isLogBody();
+        this.jsonFactory = jsonCodecs.getObjectMapper().getFactory();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).flatMap(this::handleErrors);
+    }
+
+    private Mono<ClientResponse> handleErrors(ClientResponse response) {
+        if (!response.statusCode().is4xxClientError() && !response.statusCode().is5xxServerError()) {
+            return Mono.just(response);
+        }
+
+        return response.bodyToFlux(DataBuffer.class)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .collect(() -> new BoundedBody(maxBodySize), BoundedBody::append)
+                .flatMap(body -> {
+                    SyncPayApiException exception = toException(response, body);
+                    log(exception);
+                    return Mono.error(exception);
+                });
+    }
+
+    private SyncPayApiException toException(ClientResponse response, BoundedBody body) {
+        ErrorDetails details = parse(body);
+        String responseBody = new String(body.bytes, 0, body.length, StandardCharsets.UTF_8);
+
+        Duration retryAfter = RetryAfter.parse(response.headers().asHttpHeaders()).orElse(details.retryAfter);
+
+        return SyncPayApiException.of(response.statusCode().value(), details.errorCode, details.errorMessage,
+                responseBody, body.truncated, retryAfter);
+    }
+
+    /**
+     * Extrai os campos de erro do primeiro nível do corpo JSON. Um corpo que não seja JSON, ou
+     * que tenha sido cortado, mantém apenas os campos lidos até o ponto inválido.
+     */
+    private ErrorDetails parse(BoundedBody body) {
+        ErrorDetails details = new ErrorDetails();
+        if (body.length == 0 || body.bytes[firstNonBlank(body)] != '{') {
+            return details;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(body.bytes, 0, body.length)) {
+            parser.nextToken();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    details.accept(field, parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException ignored) {
+            // corpo inválido ou cortado; mantém o que foi lido
+        }
+        return details;
+    }
+
+    private static int firstNonBlank(BoundedBody body) {
+        int index = 0;
+        while (index < body.length - 1 && body.bytes[index] <= ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private void log(SyncPayApiException exception) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+
+        long suppressed = 0;
+        if (logIntervalNanos > 0) {
+            LogWindow window = logWindows.computeIfAbsent(exception.getStatusCode(), status -> new LogWindow());
+            suppressed = window.tryAcquire(System.nanoTime(), logIntervalNanos);
+            if (suppressed < 0) {
+                return;
+            }
+        }
+
+        String detail = logBody ? exception.getResponseBody() : exception.getErrorCode();
+        if (suppressed > 0) {
+            log.error("Erro HTTP {} na chamada à API SyncPay: {} ({} erros semelhantes suprimidos)",
+                    exception.getStatusCode(), detail, suppressed);
+        } else {
+            log.error("Erro HTTP {} na chamada à API SyncPay: {}", exception.getStatusCode(), detail);
+        }
+    }
+
+    /**
+     * Janela de registro em log de um código HTTP.
+     */
+    private static final class LogWindow {
+
+        private final AtomicLong nextLogNanos = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * Tenta registrar um erro.
+         *
+         * @return o número de erros suprimidos desde o último registro, ou {@code -1} se este
+         * erro também deve ser suprimido.
+         */
+        private long tryAcquire(long now, long intervalNanos) {
+            long next = nextLogNanos.get();
+            if ((next == Long.MIN_VALUE || now - next >= 0) && nextLogNanos.compareAndSet(next, now + intervalNanos)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+
+    /**
+     * Corpo de erro lido até o tamanho máximo; os bytes excedentes são apenas contados.
+     */
+    private static final class BoundedBody {
+
+        private static final byte[] EMPTY = new byte[0];
+
+        private final int limit;
+        private byte[] bytes = EMPTY;
+        private int length;
+        private boolean truncated;
+
+        private BoundedBody(int limit) {
+            this.limit = limit;
+        }
+
+        private void append(DataBuffer buffer) {
+            try {
+                int readable = buffer.readableByteCount();
+                int count = Math.min(readable, limit - length);
+                if (count < readable) {
+                    truncated = true;
+                }
+                if (count > 0) {
+                    if (length + count > bytes.length) {
+                        bytes = Arrays.copyOf(bytes, Math.min(limit, Math.max(length + count, bytes.length * 2)));
+                    }
+                    buffer.read(bytes, length, count);
+                    length += count;
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Campos de erro informados pela SyncPay no corpo da resposta.
+     */
+    private static final class ErrorDetails {
+
+        private String errorCode;
+        private String errorMessage;
+        private Duration retryAfter;
+
+        private void accept(String field, JsonParser parser) throws IOException {
+            switch (field) {
+                case "code", "error_code", "errorCode" -> {
+                    if (errorCode == null) {
+                        errorCode = parser.getValueAsString();
+                    }
+                }
+                case "message", "error", "error_description" -> {
+                    if (errorMessage == null) {
+                        errorMessage = parser.getValueAsString();
+                    }
+                }
+                case "retry_after", "retryAfter" -> {
+                    if (retryAfter == null) {
+                        retryAfter = RetryAfter.parse(parser.getValueAsString()).orElse(null);
+                    }
+                }
+                default -> {
+                    // campo sem relação com o erro
+                }
+            }
+        }
+    }
+}
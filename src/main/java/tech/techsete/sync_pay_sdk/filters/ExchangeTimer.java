@@ -0,0 +1,46 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Instante de início de uma chamada à API SyncPay, compartilhado pelo contexto do Reactor entre
+ * o {@link CircuitBreakerExchangeFilter} e os filtros internos a ele.
+ * <p>
+ * O circuito mede a duração de cada chamada para identificar chamadas lentas. Um filtro interno
+ * que adia a chamada antes de enviá-la, como o {@link RateLimiterExchangeFilter}, reinicia a
+ * medição ao liberá-la, para que a espera local não seja tomada por lentidão da API.
+ * </p>
+ */
+final class ExchangeTimer {
+
+    private static final Object CONTEXT_KEY = ExchangeTimer.class;
+
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Reinicia a medição da chamada em andamento, se houver uma no contexto.
+     *
+     * @param context O contexto da assinatura.
+     */
+    static void restart(ContextView context) {
+        context.<ExchangeTimer>getOrEmpty(CONTEXT_KEY).ifPresent(timer -> timer.startNanos = System.nanoTime());
+    }
+
+    /**
+     * Retorna a chave deste medidor no contexto do Reactor.
+     *
+     * @return a chave.
+     */
+    static Object contextKey() {
+        return CONTEXT_KEY;
+    }
+
+    /**
+     * Retorna o tempo decorrido desde o início, ou o último reinício, da medição.
+     *
+     * @return o tempo decorrido em nanossegundos.
+     */
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,74 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOperation;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOutcome;
+import tech.techsete.sync_pay_sdk.metrics.SyncPayClientMetrics;
+import tech.techsete.sync_pay_sdk.properties.SyncPayMetricsProperties;
+
+/**
+ * Filtro do {@code syncPayWebClient} que registra as métricas de cada chamada à API SyncPay.
+ * <p>
+ * É o filtro mais externo, de forma que mede a chamada lógica completa, incluindo novas
+ * tentativas, esperas do limite de taxa e obtenção do token, até o recebimento do cabeçalho
+ * da resposta. Chamadas recusadas pelos demais filtros são registradas como
+ * {@link SyncPayOutcome#REJECTED}.
+ * </p>
+ * <p>
+ * Sem um {@link MeterRegistry} no contexto, ou com {@code syncpay.metrics.enabled=false},
+ * o filtro apenas repassa a chamada.
+ * </p>
+ *
+ * @see SyncPayClientMetrics
+ */
+@Component("syncPayMetricsFilter")
+public class MetricsExchangeFilter implements ExchangeFilterFunction {
+
+    private final SyncPayClientMetrics metrics;
+
+    /**
+     * Construtor do filtro, registrando os medidores quando houver um registro de métricas.
+     *
+     * @param meterRegistry     O registro de métricas da aplicação, se houver.
+     * @param metricsProperties As propriedades das métricas.
+     */
+    public MetricsExchangeFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                 SyncPayMetricsProperties metricsProperties
+    ) {
+        MeterRegistry registry = metricsProperties.isEnabled() ? meterRegistry.getIfAvailable() : null;
+        this.metrics = registry != null ? new SyncPayClientMetrics(registry, metricsProperties) : null;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (metrics == null) {
+            return next.exchange(request);
+        }
+
+        SyncPayOperation operation = SyncPayOperation.resolve(request.method(), request.url());
+
+        return Mono.defer(() -> {
+            SyncPayClientMetrics.Recording recording = metrics.start(operation);
+            return next.exchange(request)
+                    .doOnSuccess(response -> recording.stop(SyncPayOutcome.SUCCESS))
+                    .doOnError(error -> recording.stop(SyncPayOutcome.of(error)))
+                    .doOnCancel(() -> recording.stop(SyncPayOutcome.CANCELLED));
+        });
+    }
+
+    /**
+     * Retorna as métricas registradas pelo filtro.
+     *
+     * @return as métricas, ou {@code null} se estiverem desabilitadas.
+     */
+    public SyncPayClientMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,115 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.exceptions.RateLimitExceededException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayRateLimitProperties;
+import tech.techsete.sync_pay_sdk.resilience.AdaptiveRateLimiter;
+import tech.techsete.sync_pay_sdk.resilience.RetryAfter;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Filtro do {@code syncPayWebClient} que aplica o limite de taxa por grupo de endpoint.
+ * <p>
+ * Antes de cada requisição uma permissão é reservada no {@link AdaptiveRateLimiter} do
+ * grupo. Quando não há permissão imediata, a requisição é adiada com {@link Mono#delay},
+ * aguardando na fila de forma reativa sem bloquear threads. Se a espera necessária
+ * ultrapassar {@code syncpay.rate-limit.max-queue-wait}, a requisição falha com
+ * {@link RateLimitExceededException}. A espera na fila não conta como duração da chamada para
+ * o {@link CircuitBreakerExchangeFilter}.
+ * </p>
+ * <p>
+ * Respostas HTTP 429 pausam o grupo pelo tempo de {@code Retry-After} e reduzem a sua taxa,
+ * evitando que todas as requisições em espera repitam o estouro do limite ao mesmo tempo.
+ * </p>
+ *
+ * @see SyncPayRateLimitProperties
+ */
+@Component("syncPayRateLimiterFilter")
+public class RateLimiterExchangeFilter implements ExchangeFilterFunction {
+
+    private final SyncPayRateLimitProperties rateLimitProperties;
+    private final Map<SyncPayEndpoint, AdaptiveRateLimiter> limiters = new EnumMap<>(SyncPayEndpoint.class);
+    private final long maxQueueWaitNanos;
+    private final long defaultRetryAfterNanos;
+
+    /**
+     * Construtor do filtro, criando um balde por grupo de endpoint.
+     *
+     * @param rateLimitProperties As propriedades do limitador de taxa.
+     */
+    public RateLimiterExchangeFilter(SyncPayRateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.maxQueueWaitNanos = rateLimitProperties.getMaxQueueWait().toNanos();
+        this.defaultRetryAfterNanos = rateLimitProperties.getDefaultRetryAfter().toNanos();
+
+        for (SyncPayEndpoint endpoint : SyncPayEndpoint.values()) {
+            SyncPayRateLimitProperties.Limit limit = rateLimitProperties.getLimit(endpoint);
+            limiters.put(endpoint, new AdaptiveRateLimiter(
+                    limit.getPermitsPerSecond(),
+                    limit.getBurst(),
+                    rateLimitProperties.getMinRateRatio(),
+                    rateLimitProperties.getThrottleDecreaseFactor(),
+                    rateLimitProperties.getRecoveryStepRatio(),
+                    rateLimitProperties.getRecoveryInterval().toNanos()
+            ));
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!rateLimitProperties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        SyncPayEndpoint endpoint = SyncPayEndpoint.resolve(request.url());
+        AdaptiveRateLimiter limiter = limiters.get(endpoint);
+
+        return Mono.deferContextual(context -> {
+            long waitNanos = limiter.reserve(maxQueueWaitNanos);
+
+            if (waitNanos < 0) {
+                return Mono.error(new RateLimitExceededException(
+                        "Limite de requisições excedido para o grupo " + endpoint + " da API SyncPay"));
+            }
+
+            Mono<ClientResponse> exchange = next.exchange(request)
+                    .doOnNext(response -> onResponse(limiter, response));
+
+            return waitNanos == 0 ? exchange : Mono.delay(Duration.ofNanos(waitNanos)).then(Mono.defer(() -> {
+                ExchangeTimer.restart(context);
+                return exchange;
+            }));
+        });
+    }
+
+    private void onResponse(AdaptiveRateLimiter limiter, ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            long retryAfterNanos = RetryAfter.parse(response.headers().asHttpHeaders())
+                    .map(Duration::toNanos)
+                    .orElse(defaultRetryAfterNanos);
+            limiter.onThrottled(retryAfterNanos);
+        } else if (response.statusCode().is2xxSuccessful()) {
+            limiter.onSuccess();
+        }
+    }
+
+    /**
+     * Retorna a taxa efetiva atual de um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return a taxa em requisições por segundo.
+     */
+    public double getCurrentRate(SyncPayEndpoint endpoint) {
+        return limiters.get(endpoint).getRate();
+    }
+}
@@ -0,0 +1,115 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayApiException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayRetryProperties;
+import tech.techsete.sync_pay_sdk.resilience.RetryBudget;
+
+import java.util.UUID;
+
+/**
+ * Filtro do {@code syncPayWebClient} que repete chamadas com falhas transitórias.
+ * <p>
+ * As tentativas usam espera exponencial com variação aleatória e são limitadas por um
+ * {@link RetryBudget} compartilhado. Uma falha é repetida quando o seu código HTTP consta
+ * da política do grupo de endpoint, ou quando é uma falha de conexão, e a requisição pode
+ * ser reenviada com segurança: métodos idempotentes, a autenticação e requisições com o
+ * cabeçalho {@value #IDEMPOTENCY_KEY_HEADER}.
+ * </p>
+ * <p>
+ * Requisições de Cash-In e Cash-Out recebem automaticamente uma chave de idempotência,
+ * gerada uma única vez por chamada e reenviada em todas as tentativas, para que a API
+ * possa descartar duplicidades. Uma chave informada por quem chama é preservada.
+ * </p>
+ *
+ * @see SyncPayRetryProperties
+ */
+@Slf4j
+@Component("syncPayRetryFilter")
+public class RetryExchangeFilter implements ExchangeFilterFunction {
+
+    /**
+     * Cabeçalho que transporta a chave de idempotência das requisições.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final SyncPayRetryProperties retryProperties;
+    private final RetryBudget retryBudget;
+
+    /**
+     * Construtor do filtro.
+     *
+     * @param retryProperties As propriedades da política de novas tentativas.
+     */
+    public RetryExchangeFilter(SyncPayRetryProperties retryProperties) {
+        this.retryProperties = retryProperties;
+        this.retryBudget = new RetryBudget(retryProperties.getBudgetRatio(), retryProperties.getBudgetMaxTokens());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!retryProperties.isEnabled() || retryProperties.getMaxAttempts() <= 1) {
+            return next.exchange(request);
+        }
+
+        SyncPayEndpoint endpoint = SyncPayEndpoint.resolve(request.url());
+        ClientRequest keyedRequest = withIdempotencyKey(request, endpoint);
+
+        retryBudget.deposit();
+
+        if (!isReplayable(keyedRequest, endpoint)) {
+            return next.exchange(keyedRequest);
+        }
+
+        SyncPayRetryProperties.Policy policy = retryProperties.getPolicy(endpoint);
+
+        return Mono.defer(() -> next.exchange(keyedRequest))
+                .retryWhen(Retry.backoff(retryProperties.getMaxAttempts() - 1L, retryProperties.getMinBackoff())
+                        .maxBackoff(retryProperties.getMaxBackoff())
+                        .jitter(retryProperties.getJitter())
+                        .filter(error -> isRetryable(policy, error) && retryBudget.tryWithdraw())
+                        .doBeforeRetry(signal -> log.warn("Repetindo chamada {} {} à API SyncPay (tentativa {}): {}",
+                                keyedRequest.method(), keyedRequest.url().getPath(),
+                                signal.totalRetries() + 2, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private ClientRequest withIdempotencyKey(ClientRequest request, SyncPayEndpoint endpoint) {
+        if ((endpoint != SyncPayEndpoint.CASH_IN && endpoint != SyncPayEndpoint.CASH_OUT)
+                || request.headers().containsKey(IDEMPOTENCY_KEY_HEADER)) {
+            return request;
+        }
+
+        return ClientRequest.from(request)
+                .header(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                .build();
+    }
+
+    private boolean isReplayable(ClientRequest request, SyncPayEndpoint endpoint) {
+        HttpMethod method = request.method();
+
+        return HttpMethod.GET.equals(method)
+                || HttpMethod.HEAD.equals(method)
+                || HttpMethod.PUT.equals(method)
+                || HttpMethod.DELETE.equals(method)
+                || endpoint == SyncPayEndpoint.AUTH
+                || request.headers().containsKey(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private boolean isRetryable(SyncPayRetryProperties.Policy policy, Throwable error) {
+        if (error instanceof SyncPayApiException apiException) {
+            return policy.getRetryableStatuses().contains(apiException.getStatusCode());
+        }
+        return policy.isRetryConnectionErrors() && error instanceof WebClientRequestException;
+    }
+}
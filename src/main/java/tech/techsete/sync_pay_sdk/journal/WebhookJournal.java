@@ -0,0 +1,645 @@
+package tech.techsete.sync_pay_sdk.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookJournalProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal em disco, somente de acréscimo, dos webhooks recebidos.
+ * <p>
+ * Os registros são gravados em segmentos de tamanho fixo mapeados em memória, cada um em um
+ * arquivo nomeado pela posição do seu primeiro registro. Cada registro tem o tamanho e o
+ * CRC32C do conteúdo, seguidos do conteúdo; a posição de um registro no journal é o seu
+ * endereço, e as posições são contíguas entre os segmentos.
+ * </p>
+ * <p>
+ * A gravação em {@link #append(ByteBuffer)} é apenas uma cópia para a memória mapeada. A
+ * durabilidade é obtida com {@link #sync(long)}: uma única thread sincroniza com o disco
+ * tudo o que foi gravado até o momento e conclui de uma vez todas as esperas atendidas, de
+ * forma que o custo de um {@code fsync} é dividido entre as gravações que chegaram durante o
+ * anterior (<i>group commit</i>).
+ * </p>
+ * <p>
+ * Cada consumidor confirma, com {@link #commit(String, long)}, a posição até a qual já tratou
+ * os registros. As posições são mantidas em arquivos próprios e gravadas em disco a cada
+ * {@code offset-flush-interval}; após uma queda, {@link #read(long, RecordHandler)} a partir
+ * de {@link #getCommittedOffset(String)} entrega novamente os registros não confirmados, de
+ * forma que um registro pode ser entregue mais de uma vez. Segmentos que todos os
+ * consumidores já ultrapassaram são removidos a cada {@code compaction-interval}.
+ * </p>
+ * <p>
+ * Na abertura, todos os segmentos são verificados registro a registro, e o restante de um
+ * segmento a partir do primeiro registro incompleto ou com CRC inválido é descartado; a
+ * gravação continua no fim válido do último segmento. Se um registro inválido for encontrado
+ * na leitura, a leitura continua no segmento seguinte. Arquivos {@code .seg} cujo nome não é
+ * uma posição são ignorados.
+ * </p>
+ *
+ * @see SyncPayWebhookJournalProperties
+ */
+@Slf4j
+public class WebhookJournal implements AutoCloseable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String OFFSET_SUFFIX = ".offset";
+    private static final Pattern CONSUMER_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long commitDelayNanos;
+    private final long offsetFlushIntervalNanos;
+    private final long compactionIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<String, ConsumerOffset> consumers = new ConcurrentHashMap<>();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private final Thread flusher;
+
+    private Segment active;
+    private volatile long endOffset;
+    private volatile long durableOffset;
+    private volatile boolean closed;
+
+    /**
+     * Abre o journal, criando o diretório se necessário, e inicia a thread de sincronização.
+     *
+     * @param journalProperties As propriedades do journal.
+     * @throws UncheckedIOException se os arquivos do journal não puderem ser abertos.
+     */
+    public WebhookJournal(SyncPayWebhookJournalProperties journalProperties) {
+        this.directory = journalProperties.getDirectory();
+        this.segmentSize = Math.toIntExact(journalProperties.getSegmentSize().toBytes());
+        this.commitDelayNanos = journalProperties.getCommitDelay().toNanos();
+        this.offsetFlushIntervalNanos = journalProperties.getOffsetFlushInterval().toNanos();
+        this.compactionIntervalNanos = journalProperties.getCompactionInterval().toNanos();
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must be greater than " + HEADER_SIZE + " bytes");
+        }
+
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open webhook journal at " + directory, e);
+        }
+
+        this.flusher = new Thread(this::flushLoop, "syncpay-webhook-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Grava um registro na memória mapeada, sem aguardar a sincronização com o disco.
+     *
+     * @param payload O conteúdo do registro, lido da posição atual até o limite, sem alterá-las.
+     * @return a posição do registro no journal.
+     * @throws IllegalArgumentException se o registro estiver vazio ou não couber em um segmento.
+     * @throws IllegalStateException    se o journal estiver fechado.
+     */
+    public long append(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (length == 0 || length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Journal record size must be between 1 and " + (segmentSize - HEADER_SIZE) + " bytes");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        int checksum = (int) crc.getValue();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Webhook journal is closed");
+            }
+
+            Segment segment = active;
+            if (segment.position + HEADER_SIZE + length > segment.capacity) {
+                segment = roll();
+            }
+
+            long offset = segment.base + segment.position;
+            segment.write(segment.position, checksum, payload);
+            segment.position += HEADER_SIZE + length;
+            endOffset = offset + HEADER_SIZE + length;
+            return offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Aguarda a sincronização com o disco do registro na posição informada.
+     *
+     * @param offset A posição do registro, retornada por {@link #append(ByteBuffer)}.
+     * @return {@link CompletableFuture} concluído com a posição quando o registro estiver em disco.
+     */
+    public CompletableFuture<Long> sync(long offset) {
+        if (durableOffset > offset) {
+            return CompletableFuture.completedFuture(offset);
+        }
+
+        lock.lock();
+        try {
+            if (durableOffset > offset) {
+                return CompletableFuture.completedFuture(offset);
+            }
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Webhook journal is closed"));
+            }
+            Waiter waiter = new Waiter(offset, new CompletableFuture<>());
+            waiters.add(waiter);
+            flushRequested.signal();
+            return waiter.future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lê os registros a partir da posição informada até o fim do journal.
+     *
+     * @param fromOffset A posição do primeiro registro.
+     * @param handler    O receptor de cada registro. O conteúdo é somente leitura e só é
+     *                   válido durante a chamada.
+     * @return a posição seguinte ao último registro lido.
+     */
+    public long read(long fromOffset, RecordHandler handler) {
+        long end = endOffset;
+        Map.Entry<Long, Segment> first = segments.firstEntry();
+        long offset = first != null ? Math.max(fromOffset, first.getKey()) : end;
+
+        while (offset < end) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+            if (entry == null) {
+                break;
+            }
+
+            Segment segment = entry.getValue();
+            int position = (int) (offset - segment.base);
+            int length = position + HEADER_SIZE <= segment.capacity ? segment.buffer.getInt(position) : 0;
+            if (length == 0) {
+                Long next = segments.higherKey(segment.base);
+                if (next == null) {
+                    break;
+                }
+                offset = next;
+                continue;
+            }
+
+            ByteBuffer payload = segment.record(position, length);
+            if (payload == null) {
+                Long next = segments.higherKey(segment.base);
+                log.warn("Registro inválido no journal de webhooks SyncPay na posição {}; {}", offset,
+                        next != null ? "leitura retomada no segmento seguinte" : "leitura interrompida");
+                if (next == null) {
+                    break;
+                }
+                offset = next;
+                continue;
+            }
+            handler.accept(offset, payload);
+            offset += HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    /**
+     * Lê um único registro.
+     *
+     * @param offset  A posição do registro.
+     * @param handler O receptor do registro. O conteúdo é somente leitura e só é válido durante
+     *                a chamada.
+     * @return {@code false} se não houver registro válido na posição informada.
+     */
+    public boolean readRecord(long offset, RecordHandler handler) {
+        Map.Entry<Long, Segment> entry = offset < endOffset ? segments.floorEntry(offset) : null;
+        if (entry == null) {
+            return false;
+        }
+
+        Segment segment = entry.getValue();
+        int position = (int) (offset - segment.base);
+        int length = position + HEADER_SIZE <= segment.capacity ? segment.buffer.getInt(position) : 0;
+        ByteBuffer payload = length != 0 ? segment.record(position, length) : null;
+        if (payload == null) {
+            return false;
+        }
+        handler.accept(offset, payload);
+        return true;
+    }
+
+    /**
+     * Confirma que o consumidor tratou os registros anteriores à posição informada.
+     * Posições menores que a já confirmada são ignoradas.
+     *
+     * @param consumer O nome do consumidor: letras, dígitos, hífens e sublinhados.
+     * @param offset   A posição seguinte ao último registro tratado.
+     * @throws IllegalArgumentException se o nome for inválido ou a posição estiver além do fim do journal.
+     */
+    public void commit(String consumer, long offset) {
+        if (offset > endOffset) {
+            throw new IllegalArgumentException("Offset " + offset + " is beyond the end of the journal");
+        }
+        consumer(consumer).commit(offset);
+    }
+
+    /**
+     * Retorna a posição confirmada por um consumidor.
+     *
+     * @param consumer O nome do consumidor.
+     * @return a posição confirmada, ou a do registro mais antigo do journal para um consumidor novo.
+     */
+    public long getCommittedOffset(String consumer) {
+        ConsumerOffset consumerOffset = consumers.get(consumer);
+        Map.Entry<Long, Segment> first = segments.firstEntry();
+        long start = first != null ? first.getKey() : 0;
+        return consumerOffset != null ? Math.max(consumerOffset.offset, start) : start;
+    }
+
+    /**
+     * Retorna a posição seguinte ao último registro gravado.
+     *
+     * @return a posição do fim do journal.
+     */
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Retorna a posição até a qual os registros estão sincronizados com o disco.
+     *
+     * @return a posição sincronizada.
+     */
+    public long getDurableOffset() {
+        return durableOffset;
+    }
+
+    /**
+     * Retorna o número de segmentos do journal.
+     *
+     * @return os segmentos.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Remove os segmentos cujos registros todos os consumidores já confirmaram.
+     * Sem consumidores, nenhum segmento é removido.
+     *
+     * @return o número de segmentos removidos.
+     */
+    public int compact() {
+        long committed = Long.MAX_VALUE;
+        for (ConsumerOffset consumerOffset : consumers.values()) {
+            committed = Math.min(committed, consumerOffset.offset);
+        }
+        if (consumers.isEmpty() || segments.isEmpty()) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (Segment segment : segments.headMap(segments.lastKey()).values()) {
+            Long next = segments.higherKey(segment.base);
+            if (next == null || next > committed) {
+                break;
+            }
+            segments.remove(segment.base);
+            try {
+                Files.deleteIfExists(segment.path);
+                removed++;
+            } catch (IOException e) {
+                log.warn("Falha ao remover o segmento {} do journal de webhooks SyncPay: {}", segment.path, e.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Sincroniza com o disco os registros e as posições dos consumidores e encerra a thread de
+     * sincronização. Novas gravações são recusadas.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            flushRequested.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) {
+                    long base;
+                    try {
+                        base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                    } catch (NumberFormatException e) {
+                        base = -1;
+                    }
+                    if (base < 0) {
+                        log.warn("Arquivo {} ignorado no journal de webhooks SyncPay: nome de segmento inválido", path);
+                        continue;
+                    }
+                    segments.put(base, Segment.open(path, base, segmentSize));
+                } else if (name.endsWith(OFFSET_SUFFIX)) {
+                    String consumer = name.substring(0, name.length() - OFFSET_SUFFIX.length());
+                    consumers.put(consumer, ConsumerOffset.open(path));
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(0);
+        } else {
+            for (Segment segment : segments.values()) {
+                segment.recover();
+            }
+            active = segments.lastEntry().getValue();
+        }
+        endOffset = active.base + active.position;
+        durableOffset = endOffset;
+    }
+
+    private Segment roll() {
+        Segment next = createSegment(active.base + active.position);
+        active = next;
+        return next;
+    }
+
+    private Segment createSegment(long base) {
+        try {
+            Segment segment = Segment.open(directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX)), base, segmentSize);
+            segments.put(base, segment);
+            syncDirectory();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create webhook journal segment", e);
+        }
+    }
+
+    private ConsumerOffset consumer(String consumer) {
+        if (consumer == null || !CONSUMER_NAME.matcher(consumer).matches()) {
+            throw new IllegalArgumentException("Invalid journal consumer name: " + consumer);
+        }
+        return consumers.computeIfAbsent(consumer, name -> {
+            try {
+                ConsumerOffset consumerOffset = ConsumerOffset.open(directory.resolve(name + OFFSET_SUFFIX));
+                syncDirectory();
+                return consumerOffset;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create journal consumer " + name, e);
+            }
+        });
+    }
+
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // nem todos os sistemas permitem sincronizar diretórios
+        }
+    }
+
+    private void flushLoop() {
+        long nextOffsetFlush = System.nanoTime() + offsetFlushIntervalNanos;
+        long nextCompaction = System.nanoTime() + compactionIntervalNanos;
+
+        while (true) {
+            lock.lock();
+            try {
+                while (waiters.isEmpty() && !closed) {
+                    long wait = Math.min(nextOffsetFlush, nextCompaction) - System.nanoTime();
+                    if (wait <= 0) {
+                        break;
+                    }
+                    flushRequested.awaitNanos(wait);
+                }
+            } catch (InterruptedException e) {
+                closed = true;
+            } finally {
+                lock.unlock();
+            }
+
+            if (commitDelayNanos > 0 && !closed) {
+                LockSupport.parkNanos(commitDelayNanos);
+            }
+            flush();
+
+            long now = System.nanoTime();
+            if (closed || now - nextOffsetFlush >= 0) {
+                consumers.values().forEach(ConsumerOffset::flush);
+                nextOffsetFlush = now + offsetFlushIntervalNanos;
+            }
+            if (closed) {
+                return;
+            }
+            if (now - nextCompaction >= 0) {
+                int removed = compact();
+                if (removed > 0) {
+                    log.debug("{} segmentos removidos do journal de webhooks SyncPay", removed);
+                }
+                nextCompaction = now + compactionIntervalNanos;
+            }
+        }
+    }
+
+    private void flush() {
+        List<Segment> dirty = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        long target;
+
+        lock.lock();
+        try {
+            target = endOffset;
+            Long from = segments.floorKey(durableOffset);
+            for (Segment segment : (from != null ? segments.tailMap(from) : segments).values()) {
+                if (segment.position > segment.forcedPosition) {
+                    dirty.add(segment);
+                    positions.add(segment.position);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).force(positions.get(i));
+            }
+            durableOffset = target;
+        } catch (RuntimeException e) {
+            log.error("Falha ao sincronizar o journal de webhooks SyncPay com o disco: {}", e.getMessage(), e);
+            failure = e;
+        }
+
+        List<Waiter> completed = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = waiters.size() - 1; i >= 0; i--) {
+                if (failure != null || waiters.get(i).offset < target) {
+                    completed.add(waiters.remove(i));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Waiter waiter : completed) {
+            if (failure != null) {
+                waiter.future.completeExceptionally(failure);
+            } else {
+                waiter.future.complete(waiter.offset);
+            }
+        }
+    }
+
+    /**
+     * Receptor dos registros lidos do journal.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Recebe um registro.
+         *
+         * @param offset  A posição do registro.
+         * @param payload O conteúdo do registro, somente leitura.
+         */
+        void accept(long offset, ByteBuffer payload);
+    }
+
+    private record Waiter(long offset, CompletableFuture<Long> future) { }
+
+    private static final class Segment {
+
+        private final long base;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private int position;
+        private int forcedPosition;
+
+        private Segment(long base, Path path, MappedByteBuffer buffer) {
+            this.base = base;
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+
+        private static Segment open(Path path, long base, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long existing = channel.size();
+                long capacity = existing > 0 ? Math.min(existing, Integer.MAX_VALUE) : size;
+                return new Segment(base, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            }
+        }
+
+        private void write(int position, int checksum, ByteBuffer payload) {
+            int length = payload.remaining();
+            buffer.put(position + HEADER_SIZE, payload, payload.position(), length);
+            buffer.putInt(position + 4, checksum);
+            buffer.putInt(position, length);
+        }
+
+        private ByteBuffer record(int position, int length) {
+            if (length < 0 || length > capacity - position - HEADER_SIZE) {
+                return null;
+            }
+            ByteBuffer payload = buffer.slice(position + HEADER_SIZE, length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            return (int) crc.getValue() == buffer.getInt(position + 4) ? payload.asReadOnlyBuffer() : null;
+        }
+
+        private void recover() {
+            int length;
+            while (position + HEADER_SIZE <= capacity && (length = buffer.getInt(position)) != 0) {
+                if (record(position, length) == null) {
+                    log.warn("Registro incompleto no journal de webhooks SyncPay em {} na posição {}; descartando o restante do segmento",
+                            path, base + position);
+                    for (int i = position; i < capacity; i++) {
+                        buffer.put(i, (byte) 0);
+                    }
+                    buffer.force();
+                    break;
+                }
+                position += HEADER_SIZE + length;
+            }
+            forcedPosition = position;
+        }
+
+        private void force(int to) {
+            buffer.force(forcedPosition, to - forcedPosition);
+            forcedPosition = to;
+        }
+    }
+
+    private static final class ConsumerOffset {
+
+        private final MappedByteBuffer buffer;
+        private volatile long offset;
+        private volatile boolean dirty;
+
+        private ConsumerOffset(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            long stored = buffer.getLong(0);
+            this.offset = buffer.getLong(8) == ~stored ? stored : 0;
+        }
+
+        private static ConsumerOffset open(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new ConsumerOffset(channel.map(FileChannel.MapMode.READ_WRITE, 0, 2 * Long.BYTES));
+            }
+        }
+
+        private synchronized void commit(long value) {
+            if (value > offset) {
+                buffer.putLong(0, value);
+                buffer.putLong(8, ~value);
+                offset = value;
+                dirty = true;
+            }
+        }
+
+        private void flush() {
+            if (dirty) {
+                dirty = false;
+                buffer.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package tech.techsete.sync_pay_sdk.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOperation;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOutcome;
+import tech.techsete.sync_pay_sdk.properties.SyncPayMetricsProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Métricas das chamadas à API SyncPay.
+ * <p>
+ * Todos os medidores são registrados na criação, um timer para cada combinação de
+ * {@link SyncPayOperation} e {@link SyncPayOutcome} e um contador de chamadas em andamento
+ * por operação. Registrar uma chamada apenas consulta esses medidores por índice, sem montar
+ * tags nem consultar o {@link MeterRegistry}.
+ * </p>
+ * <ul>
+ *     <li>{@code syncpay.client.requests}: duração das chamadas, com as tags {@code operation},
+ *     {@code outcome} e {@code status};</li>
+ *     <li>{@code syncpay.client.requests.active}: chamadas em andamento, com a tag {@code operation}.</li>
+ * </ul>
+ *
+ * @see SyncPayMetricsProperties
+ */
+public class SyncPayClientMetrics {
+
+    /**
+     * Nome do timer das chamadas.
+     */
+    public static final String REQUESTS = "syncpay.client.requests";
+
+    /**
+     * Nome do medidor de chamadas em andamento.
+     */
+    public static final String ACTIVE_REQUESTS = "syncpay.client.requests.active";
+
+    private static final SyncPayOutcome[] OUTCOMES = SyncPayOutcome.values();
+
+    private final OperationMeters[] operations;
+
+    /**
+     * Registra os medidores de todas as operações.
+     *
+     * @param meterRegistry     O registro de métricas da aplicação.
+     * @param metricsProperties As propriedades das métricas.
+     */
+    public SyncPayClientMetrics(MeterRegistry meterRegistry, SyncPayMetricsProperties metricsProperties) {
+        SyncPayOperation[] values = SyncPayOperation.values();
+        this.operations = new OperationMeters[values.length];
+
+        for (SyncPayOperation operation : values) {
+            Timer[] timers = new Timer[OUTCOMES.length];
+            for (SyncPayOutcome outcome : OUTCOMES) {
+                timers[outcome.ordinal()] = Timer.builder(REQUESTS)
+                        .description("Duração das chamadas à API SyncPay")
+                        .tag("operation", operation.getValue())
+                        .tag("outcome", outcome.name())
+                        .tag("status", outcome.getStatus())
+                        .publishPercentileHistogram(metricsProperties.isPercentileHistogram())
+                        .publishPercentiles(toArray(metricsProperties))
+                        .minimumExpectedValue(metricsProperties.getMinimumExpectedValue())
+                        .maximumExpectedValue(metricsProperties.getMaximumExpectedValue())
+                        .register(meterRegistry);
+            }
+
+            AtomicInteger active = new AtomicInteger();
+            Gauge.builder(ACTIVE_REQUESTS, active, AtomicInteger::get)
+                    .description("Chamadas à API SyncPay em andamento")
+                    .tag("operation", operation.getValue())
+                    .strongReference(true)
+                    .register(meterRegistry);
+
+            operations[operation.ordinal()] = new OperationMeters(timers, active);
+        }
+    }
+
+    /**
+     * Inicia o registro de uma chamada.
+     *
+     * @param operation A operação chamada.
+     * @return o registro da chamada, a ser encerrado com {@link Recording#stop(SyncPayOutcome)}.
+     */
+    public Recording start(SyncPayOperation operation) {
+        OperationMeters meters = operations[operation.ordinal()];
+        meters.active.incrementAndGet();
+        return new Recording(meters, System.nanoTime());
+    }
+
+    private static double[] toArray(SyncPayMetricsProperties metricsProperties) {
+        return metricsProperties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private record OperationMeters(Timer[] timers, AtomicInteger active) {
+    }
+
+    /**
+     * Registro de uma chamada em andamento.
+     * <p>
+     * Apenas o primeiro encerramento é contabilizado, de forma que sinais concorrentes de
+     * conclusão e cancelamento não registram a chamada duas vezes.
+     * </p>
+     */
+    public static final class Recording {
+
+        private static final AtomicIntegerFieldUpdater<Recording> STOPPED =
+                AtomicIntegerFieldUpdater.newUpdater(Recording.class, "stopped");
+
+        private final OperationMeters meters;
+        private final long startNanos;
+        private volatile int stopped;
+
+        private Recording(OperationMeters meters, long startNanos) {
+            this.meters = meters;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Encerra o registro da chamada.
+         *
+         * @param outcome O resultado da chamada.
+         */
+        public void stop(SyncPayOutcome outcome) {
+            if (STOPPED.compareAndSet(this, 0, 1)) {
+                meters.active.decrementAndGet();
+                meters.timers[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
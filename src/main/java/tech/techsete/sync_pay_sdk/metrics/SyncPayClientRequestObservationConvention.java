@@ -0,0 +1,39 @@
+package tech.techsete.sync_pay_sdk.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+import tech.techsete.sync_pay_sdk.enums.SyncPayOperation;
+
+/**
+ * Convenção das observações das requisições do {@code syncPayWebClient}.
+ * <p>
+ * Mantém as chaves padrão do Spring e adiciona a operação lógica do SDK
+ * ({@code syncpay.operation}), sob um nome próprio, para que as requisições à API SyncPay
+ * sejam distinguidas das demais requisições HTTP da aplicação nos traces.
+ * </p>
+ */
+public class SyncPayClientRequestObservationConvention extends DefaultClientRequestObservationConvention {
+
+    /**
+     * Nome das observações das requisições à API SyncPay.
+     */
+    public static final String NAME = "syncpay.http.client.requests";
+
+    /**
+     * Cria a convenção com o nome {@value #NAME}.
+     */
+    public SyncPayClientRequestObservationConvention() {
+        super(NAME);
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+        ClientRequest request = context.getRequest();
+        SyncPayOperation operation = request != null
+                ? SyncPayOperation.resolve(request.method(), request.url())
+                : SyncPayOperation.OTHER;
+        return super.getLowCardinalityKeyValues(context).and("syncpay.operation", operation.getValue());
+    }
+}
@@ -0,0 +1,59 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de autenticação do SDK SyncPay.
+ * <p>
+ * Quando {@code client-id} e {@code client-secret} são informados, o SDK passa a obter,
+ * armazenar em cache e renovar automaticamente o token de acesso, aplicando-o em todas
+ * as requisições feitas pelo {@code syncPayWebClient}. Sem credenciais, o comportamento
+ * anterior é mantido e os cabeçalhos de autenticação continuam a cargo de quem chama.
+ * </p>
+ *
+ * <pre>
+ * syncpay.auth.client-id=...
+ * syncpay.auth.client-secret=...
+ * syncpay.auth.refresh-skew=60s
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.auth.AccessTokenManager
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.auth")
+public class SyncPayAuthProperties {
+
+    /**
+     * Identificador do cliente utilizado para obter o token de acesso.
+     */
+    private String clientId;
+
+    /**
+     * Segredo do cliente utilizado para obter o token de acesso.
+     */
+    private String clientSecret;
+
+    /**
+     * Antecedência com que o token é renovado antes de expirar.
+     */
+    private Duration refreshSkew = Duration.ofSeconds(60);
+
+    /**
+     * Validade assumida quando a API não informa {@code expires_at} nem {@code expires_in}.
+     */
+    private Duration defaultTokenTtl = Duration.ofMinutes(5);
+
+    /**
+     * Indica se as credenciais necessárias para a autenticação gerenciada foram informadas.
+     *
+     * @return {@code true} se {@code client-id} e {@code client-secret} estiverem preenchidos
+     */
+    public boolean hasCredentials() {
+        return clientId != null && !clientId.isBlank() && clientSecret != null && !clientSecret.isBlank();
+    }
+}
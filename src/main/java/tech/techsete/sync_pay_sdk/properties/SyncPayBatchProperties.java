@@ -0,0 +1,25 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades das operações em lote do SDK SyncPay.
+ *
+ * <pre>
+ * syncpay.batch.max-concurrency=64
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.services.PixService#createCashOuts(reactor.core.publisher.Flux)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.batch")
+public class SyncPayBatchProperties {
+
+    /**
+     * Número máximo de requisições em voo simultaneamente durante um lote.
+     */
+    private int maxConcurrency = 64;
+}
@@ -0,0 +1,61 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Propriedades do isolamento de concorrência (<i>bulkhead</i>) por grupo de endpoint.
+ * <p>
+ * Cada grupo ({@link SyncPayEndpoint}) pode ocupar no máximo o número configurado de
+ * chamadas simultâneas. Assim, consultas lentas de transações não consomem todas as
+ * conexões do pool e não atrasam operações críticas como o Cash-Out. Chamadas acima do
+ * limite falham imediatamente.
+ * </p>
+ *
+ * <pre>
+ * syncpay.bulkhead.enabled=true
+ * syncpay.bulkhead.default-max-concurrent-calls=250
+ * syncpay.bulkhead.endpoints.transaction=150
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.BulkheadExchangeFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.bulkhead")
+public class SyncPayBulkheadProperties {
+
+    /**
+     * Indica se o isolamento de concorrência está habilitado.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Máximo de chamadas simultâneas dos grupos sem configuração específica.
+     */
+    private int defaultMaxConcurrentCalls = 250;
+
+    /**
+     * Máximo de chamadas simultâneas por grupo de endpoint.
+     */
+    private Map<SyncPayEndpoint, Integer> endpoints = new EnumMap<>(Map.of(
+            SyncPayEndpoint.AUTH, 10,
+            SyncPayEndpoint.TRANSACTION, 150,
+            SyncPayEndpoint.WEBHOOK, 50
+    ));
+
+    /**
+     * Retorna o máximo de chamadas simultâneas de um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return o limite específico do grupo ou, na sua ausência, {@code default-max-concurrent-calls}.
+     */
+    public int getMaxConcurrentCalls(SyncPayEndpoint endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxConcurrentCalls);
+    }
+}
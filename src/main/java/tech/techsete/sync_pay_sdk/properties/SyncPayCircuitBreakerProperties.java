@@ -0,0 +1,99 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Propriedades dos circuitos por grupo de endpoint da API SyncPay.
+ * <p>
+ * Cada grupo ({@link SyncPayEndpoint}) possui o seu próprio circuito, avaliado sobre uma
+ * janela com as últimas chamadas. O circuito abre quando a taxa de falhas ou de chamadas
+ * lentas atinge o limite configurado, rejeitando imediatamente novas chamadas do grupo.
+ * Após a espera em aberto, algumas chamadas de teste são permitidas para decidir se o
+ * circuito volta a fechar.
+ * </p>
+ *
+ * <pre>
+ * syncpay.circuit-breaker.enabled=true
+ * syncpay.circuit-breaker.default-config.failure-rate-threshold=50
+ * syncpay.circuit-breaker.endpoints.transaction.slow-call-duration-threshold=2s
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.CircuitBreakerExchangeFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.circuit-breaker")
+public class SyncPayCircuitBreakerProperties {
+
+    /**
+     * Indica se os circuitos estão habilitados.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Configuração aplicada aos grupos sem configuração específica.
+     */
+    private Config defaultConfig = new Config();
+
+    /**
+     * Configurações específicas por grupo de endpoint.
+     */
+    private Map<SyncPayEndpoint, Config> endpoints = new EnumMap<>(SyncPayEndpoint.class);
+
+    /**
+     * Retorna a configuração aplicável a um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return a configuração específica do grupo ou, na sua ausência, {@code default-config}.
+     */
+    public Config getConfig(SyncPayEndpoint endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultConfig);
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * Percentual de falhas na janela a partir do qual o circuito abre.
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * Percentual de chamadas lentas na janela a partir do qual o circuito abre.
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * Duração a partir da qual uma chamada é considerada lenta.
+         */
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+
+        /**
+         * Quantidade de chamadas mais recentes consideradas na avaliação do circuito.
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * Quantidade mínima de chamadas na janela antes que o circuito possa abrir.
+         */
+        private int minimumNumberOfCalls = 20;
+
+        /**
+         * Tempo em que o circuito permanece aberto antes de permitir chamadas de teste.
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(15);
+
+        /**
+         * Quantidade de chamadas de teste permitidas com o circuito semiaberto.
+         */
+        private int permittedCallsInHalfOpenState = 5;
+    }
+}
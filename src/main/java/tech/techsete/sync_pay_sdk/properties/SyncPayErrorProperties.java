@@ -0,0 +1,47 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do tratamento de respostas de erro da API SyncPay.
+ * <p>
+ * O corpo de uma resposta de erro é lido até {@code max-body-size}; o restante é descartado
+ * sem ser acumulado. Os erros são registrados no log no máximo uma vez a cada
+ * {@code log-interval} por código HTTP, com a contagem dos erros suprimidos no intervalo,
+ * para que um pico de falhas da API não se torne um pico de alocação e de escrita em log.
+ * </p>
+ *
+ * <pre>
+ * syncpay.errors.max-body-size=8KB
+ * syncpay.errors.log-interval=1s
+ * syncpay.errors.log-body=true
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.ErrorHandlingExchangeFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.errors")
+public class SyncPayErrorProperties {
+
+    /**
+     * Tamanho máximo do corpo de uma resposta de erro mantido na exceção.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(8);
+
+    /**
+     * Intervalo mínimo entre dois registros em log de erros com o mesmo código HTTP.
+     * Com {@code 0}, todos os erros são registrados.
+     */
+    private Duration logInterval = Duration.ofSeconds(1);
+
+    /**
+     * Indica se o corpo da resposta de erro é incluído no log.
+     */
+    private boolean logBody = true;
+}
@@ -0,0 +1,108 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import tech.techsete.sync_pay_sdk.enums.SyncPayTransportType;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cliente HTTP utilizado pelo {@code syncPayWebClient}.
+ * <p>
+ * Controlam a URL base da API, o transporte HTTP, o pool de conexões do Reactor Netty e
+ * os tempos limite de conexão, leitura, escrita e resposta. Os valores padrão são voltados
+ * para alto volume: pool amplo, fila de espera por conexões generosa, reaproveitamento
+ * LIFO das conexões mais recentes e tempo limite de resposta para que conexões
+ * travadas não fiquem presas indefinidamente.
+ * </p>
+ *
+ * <pre>
+ * syncpay.http.base-url=https://api.syncpayments.com.br
+ * syncpay.http.max-connections=500
+ * syncpay.http.response-timeout=20s
+ * syncpay.http.transport=jdk
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.configurations.WebClientConfiguration
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.http")
+public class SyncPayHttpProperties {
+
+    /**
+     * URL base da API SyncPay.
+     */
+    private String baseUrl = "https://api.syncpayments.com.br";
+
+    /**
+     * Transporte HTTP utilizado pelo SDK.
+     */
+    private SyncPayTransportType transport = SyncPayTransportType.REACTOR_NETTY;
+
+    /**
+     * Indica se o transporte JDK deve utilizar threads virtuais, quando disponíveis (Java 21+).
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * Número máximo de conexões simultâneas no pool.
+     */
+    private int maxConnections = 500;
+
+    /**
+     * Número máximo de requisições aguardando uma conexão livre no pool.
+     */
+    private int pendingAcquireMaxCount = 10_000;
+
+    /**
+     * Tempo máximo de espera por uma conexão livre no pool.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Tempo máximo que uma conexão pode permanecer ociosa no pool.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Tempo máximo de vida de uma conexão, independentemente do uso.
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * Intervalo da remoção em segundo plano de conexões ociosas ou expiradas.
+     */
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    /**
+     * Indica se as conexões são reaproveitadas em ordem LIFO, mantendo as mais recentes aquecidas.
+     */
+    private boolean lifo = true;
+
+    /**
+     * Tempo limite para estabelecer a conexão TCP.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Tempo limite sem leitura de dados em uma conexão com requisição ativa.
+     */
+    private Duration readTimeout = Duration.ofSeconds(15);
+
+    /**
+     * Tempo limite para a escrita de dados na conexão.
+     */
+    private Duration writeTimeout = Duration.ofSeconds(15);
+
+    /**
+     * Tempo limite para o recebimento da resposta após o envio da requisição.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(20);
+
+    /**
+     * Indica se o keep-alive HTTP e TCP deve ser utilizado.
+     */
+    private boolean keepAlive = true;
+}
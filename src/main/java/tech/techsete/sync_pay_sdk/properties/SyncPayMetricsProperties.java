@@ -0,0 +1,66 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades das métricas e da observação das chamadas à API SyncPay.
+ * <p>
+ * As métricas são registradas no {@code MeterRegistry} da aplicação, quando houver um, e a
+ * observação das requisições utiliza o {@code ObservationRegistry} da aplicação. Sem esses
+ * beans, a instrumentação não tem efeito.
+ * </p>
+ *
+ * <pre>
+ * syncpay.metrics.enabled=true
+ * syncpay.metrics.percentile-histogram=true
+ * syncpay.metrics.percentiles=0.5,0.99
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.metrics.SyncPayClientMetrics
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.metrics")
+public class SyncPayMetricsProperties {
+
+    /**
+     * Indica se as métricas das chamadas estão habilitadas.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Indica se os timers publicam histogramas para o cálculo de percentis no servidor de métricas.
+     */
+    private boolean percentileHistogram = true;
+
+    /**
+     * Percentis calculados na própria aplicação, além do histograma.
+     */
+    private List<Double> percentiles = new ArrayList<>();
+
+    /**
+     * Menor duração esperada, que limita os intervalos do histograma.
+     */
+    private Duration minimumExpectedValue = Duration.ofMillis(1);
+
+    /**
+     * Maior duração esperada, que limita os intervalos do histograma.
+     */
+    private Duration maximumExpectedValue = Duration.ofSeconds(30);
+
+    /**
+     * Indica se o pool de conexões do Reactor Netty publica suas métricas.
+     */
+    private boolean connectionPoolEnabled = true;
+
+    /**
+     * Indica se as requisições são registradas no {@code ObservationRegistry} da aplicação.
+     */
+    private boolean observationEnabled = true;
+}
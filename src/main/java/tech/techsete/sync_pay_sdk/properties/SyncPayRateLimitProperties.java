@@ -0,0 +1,117 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Propriedades do limitador de taxa do lado do cliente.
+ * <p>
+ * Cada grupo de endpoint ({@link SyncPayEndpoint}) possui o seu próprio balde de tokens.
+ * Grupos sem configuração específica utilizam {@code default-limit}. Ao receber HTTP 429,
+ * o balde do grupo é pausado pelo tempo indicado em {@code Retry-After} e a sua taxa é
+ * reduzida, sendo recuperada gradualmente conforme as respostas voltam a ter sucesso.
+ * </p>
+ * <p>
+ * O limitador vem desabilitado: a SyncPay não publica os limites da API, e os valores padrão
+ * abaixo são apenas um ponto de partida. Ao habilitá-lo, configure os limites acordados com a
+ * SyncPay, principalmente para os lotes de Cash-In e Cash-Out, que de outra forma aguardariam na
+ * fila do limitador até {@code max-queue-wait}.
+ * </p>
+ *
+ * <pre>
+ * syncpay.rate-limit.enabled=true
+ * syncpay.rate-limit.default-limit.permits-per-second=100
+ * syncpay.rate-limit.endpoints.cash-out.permits-per-second=50
+ * syncpay.rate-limit.endpoints.cash-out.burst=20
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.RateLimiterExchangeFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.rate-limit")
+public class SyncPayRateLimitProperties {
+
+    /**
+     * Indica se o limitador de taxa está habilitado.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tempo máximo que uma requisição pode aguardar na fila do limitador antes de ser rejeitada.
+     */
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+
+    /**
+     * Pausa aplicada ao receber HTTP 429 sem o cabeçalho {@code Retry-After}.
+     */
+    private Duration defaultRetryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Fator aplicado à taxa do grupo a cada HTTP 429 recebido.
+     */
+    private double throttleDecreaseFactor = 0.5;
+
+    /**
+     * Fração mínima da taxa configurada a que um grupo pode ser reduzido.
+     */
+    private double minRateRatio = 0.1;
+
+    /**
+     * Fração da taxa configurada recuperada a cada intervalo de recuperação sem HTTP 429.
+     */
+    private double recoveryStepRatio = 0.1;
+
+    /**
+     * Intervalo mínimo entre dois incrementos de recuperação da taxa.
+     */
+    private Duration recoveryInterval = Duration.ofSeconds(1);
+
+    /**
+     * Limite aplicado aos grupos sem configuração específica.
+     */
+    private Limit defaultLimit = new Limit(100, 100);
+
+    /**
+     * Limites específicos por grupo de endpoint.
+     */
+    private Map<SyncPayEndpoint, Limit> endpoints = new EnumMap<>(Map.of(SyncPayEndpoint.AUTH, new Limit(5, 5)));
+
+    /**
+     * Retorna o limite aplicável a um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return o limite específico do grupo ou, na sua ausência, {@code default-limit}.
+     */
+    public Limit getLimit(SyncPayEndpoint endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * Taxa sustentada de requisições por segundo.
+         */
+        private double permitsPerSecond = 100;
+
+        /**
+         * Número de requisições que podem ser emitidas em rajada acima da taxa sustentada.
+         */
+        private int burst = 100;
+
+        public Limit() { }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Propriedades da política de novas tentativas do SDK SyncPay.
+ * <p>
+ * Falhas transitórias são repetidas com espera exponencial e variação aleatória
+ * (<i>jitter</i>), limitadas por um orçamento de novas tentativas proporcional ao
+ * volume de requisições, para que uma degradação da API não seja multiplicada pelas
+ * próprias tentativas. Os códigos HTTP considerados transitórios podem ser definidos
+ * por grupo de endpoint.
+ * </p>
+ *
+ * <pre>
+ * syncpay.retry.max-attempts=3
+ * syncpay.retry.min-backoff=200ms
+ * syncpay.retry.endpoints.transaction.retryable-statuses=429,500,502,503,504
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.filters.RetryExchangeFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.retry")
+public class SyncPayRetryProperties {
+
+    /**
+     * Indica se as novas tentativas estão habilitadas.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Número máximo de tentativas por chamada, incluindo a primeira.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Espera inicial antes da primeira nova tentativa.
+     */
+    private Duration minBackoff = Duration.ofMillis(200);
+
+    /**
+     * Espera máxima entre tentativas.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Fração de variação aleatória aplicada à espera, entre 0 e 1.
+     */
+    private double jitter = 0.5;
+
+    /**
+     * Novas tentativas permitidas por requisição original, em média.
+     */
+    private double budgetRatio = 0.2;
+
+    /**
+     * Saldo máximo de novas tentativas acumuladas no orçamento.
+     */
+    private int budgetMaxTokens = 100;
+
+    /**
+     * Política aplicada aos grupos sem configuração específica.
+     */
+    private Policy defaultPolicy = new Policy(Set.of(429, 502, 503, 504));
+
+    /**
+     * Políticas específicas por grupo de endpoint.
+     */
+    private Map<SyncPayEndpoint, Policy> endpoints = new EnumMap<>(Map.of(
+            SyncPayEndpoint.TRANSACTION, new Policy(Set.of(429, 500, 502, 503, 504))
+    ));
+
+    /**
+     * Retorna a política aplicável a um grupo de endpoint.
+     *
+     * @param endpoint O grupo de endpoint.
+     * @return a política específica do grupo ou, na sua ausência, {@code default-policy}.
+     */
+    public Policy getPolicy(SyncPayEndpoint endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultPolicy);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * Códigos HTTP considerados transitórios.
+         */
+        private Set<Integer> retryableStatuses = Set.of(429, 502, 503, 504);
+
+        /**
+         * Indica se falhas de conexão, como conexões encerradas e tempos limite, são repetidas.
+         */
+        private boolean retryConnectionErrors = true;
+
+        public Policy() { }
+
+        public Policy(Set<Integer> retryableStatuses) {
+            this.retryableStatuses = retryableStatuses;
+        }
+    }
+}
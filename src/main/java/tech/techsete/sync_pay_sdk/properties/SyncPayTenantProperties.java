@@ -0,0 +1,38 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do registro de clientes por conta (multi-tenant) do SDK SyncPay.
+ * <p>
+ * Cada conta atendida possui uma visão própria dos serviços, com seu próprio token de acesso.
+ * As visões ociosas há mais de {@code idle-timeout} são descartadas, e o número de visões
+ * mantidas é limitado por {@code maximum-size}, removendo primeiro as menos utilizadas.
+ * </p>
+ *
+ * <pre>
+ * syncpay.tenants.maximum-size=1000
+ * syncpay.tenants.idle-timeout=30m
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.tenants.SyncPayClientRegistry
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.tenants")
+public class SyncPayTenantProperties {
+
+    /**
+     * Número máximo de contas mantidas simultaneamente.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Tempo sem uso após o qual a visão de uma conta é descartada.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+}
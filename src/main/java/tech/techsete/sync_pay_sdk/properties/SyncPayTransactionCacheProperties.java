@@ -0,0 +1,44 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de transações do {@code TransactionService}.
+ * <p>
+ * Transações em status final ({@code COMPLETED}, {@code FAILED}, {@code REFUNDED}) não mudam
+ * mais e permanecem em cache até serem removidas por capacidade. Transações em andamento
+ * ({@code PENDING}, {@code MED}) permanecem apenas por {@code pending-ttl}.
+ * </p>
+ *
+ * <pre>
+ * syncpay.transaction-cache.enabled=true
+ * syncpay.transaction-cache.maximum-size=100000
+ * syncpay.transaction-cache.pending-ttl=5s
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.cache.TransactionCache
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.transaction-cache")
+public class SyncPayTransactionCacheProperties {
+
+    /**
+     * Indica se o cache de transações está habilitado.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Número máximo de transações mantidas em cache.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Tempo de permanência em cache de transações em status não final.
+     */
+    private Duration pendingTtl = Duration.ofSeconds(5);
+}
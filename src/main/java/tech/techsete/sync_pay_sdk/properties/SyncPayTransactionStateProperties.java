@@ -0,0 +1,40 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do registro de status de transações.
+ * <p>
+ * Com {@code enabled=true}, os status obtidos pelo {@code TransactionService} e, com o receptor
+ * de webhooks habilitado, os status recebidos por webhook atualizam o
+ * {@code TransactionStateStore}, que descarta regressões de eventos fora de ordem e avisa os
+ * {@code TransactionStateListener} apenas das mudanças reais. Uma transação sem mudanças de
+ * status por {@code retention} é esquecida.
+ * </p>
+ *
+ * <pre>
+ * syncpay.transaction-state.enabled=true
+ * syncpay.transaction-state.retention=24h
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.state.TransactionStateStore
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.transaction-state")
+public class SyncPayTransactionStateProperties {
+
+    /**
+     * Indica se os status de transações consultados e recebidos por webhook são registrados.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tempo sem mudanças de status após o qual uma transação é esquecida.
+     */
+    private Duration retention = Duration.ofHours(24);
+}
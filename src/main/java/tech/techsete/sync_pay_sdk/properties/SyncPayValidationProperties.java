@@ -0,0 +1,38 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades da validação local das requisições antes do envio à API SyncPay.
+ * <p>
+ * As chaves PIX de Cash-Out são verificadas conforme o tipo e, se {@code normalize-pix-keys}
+ * estiver habilitado, enviadas à API na forma normalizada, sem alterar a requisição da aplicação. As chaves já
+ * verificadas são mantidas em um cache de até {@code pix-key-cache-size} entradas por tipo de
+ * chave, para que pagamentos recorrentes ao mesmo destinatário não sejam verificados de novo.
+ * </p>
+ *
+ * <pre>
+ * syncpay.validation.normalize-pix-keys=true
+ * syncpay.validation.pix-key-cache-size=10000
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.validation.PixKeyValidator
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.validation")
+public class SyncPayValidationProperties {
+
+    /**
+     * Indica se a chave PIX de um Cash-Out válido é enviada na forma normalizada.
+     */
+    private boolean normalizePixKeys = true;
+
+    /**
+     * Número máximo de chaves PIX verificadas mantidas em cache, por tipo de chave.
+     * Com {@code 0}, o cache é desabilitado.
+     */
+    private long pixKeyCacheSize = 10_000;
+}
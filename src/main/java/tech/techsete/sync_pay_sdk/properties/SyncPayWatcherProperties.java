@@ -0,0 +1,61 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do monitoramento de status de transações.
+ * <p>
+ * Todas as transações monitoradas são consultadas por um único agendador. O intervalo
+ * entre consultas de uma transação cresce com o tempo de monitoramento
+ * ({@code age-factor} vezes a idade, limitado entre {@code min-poll-interval} e
+ * {@code max-poll-interval}), e o total de consultas é limitado por
+ * {@code max-requests-per-second}.
+ * </p>
+ *
+ * <pre>
+ * syncpay.watcher.min-poll-interval=2s
+ * syncpay.watcher.max-poll-interval=60s
+ * syncpay.watcher.max-requests-per-second=50
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.watchers.TransactionWatcher
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.watcher")
+public class SyncPayWatcherProperties {
+
+    /**
+     * Intervalo do agendador que seleciona as transações a consultar.
+     */
+    private Duration tickInterval = Duration.ofMillis(250);
+
+    /**
+     * Intervalo mínimo entre consultas de uma mesma transação.
+     */
+    private Duration minPollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Intervalo máximo entre consultas de uma mesma transação.
+     */
+    private Duration maxPollInterval = Duration.ofSeconds(60);
+
+    /**
+     * Fração da idade do monitoramento utilizada como intervalo entre consultas.
+     */
+    private double ageFactor = 0.1;
+
+    /**
+     * Limite global de consultas por segundo, somando todas as transações monitoradas.
+     */
+    private double maxRequestsPerSecond = 50;
+
+    /**
+     * Número máximo de consultas em voo simultaneamente, somando todos os ciclos do agendador.
+     */
+    private int maxConcurrency = 32;
+}
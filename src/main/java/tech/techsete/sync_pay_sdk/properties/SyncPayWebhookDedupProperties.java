@@ -0,0 +1,54 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da eliminação de webhooks repetidos pelo receptor de webhooks.
+ * <p>
+ * Um webhook com o mesmo identificador de transação e status de outro recebido há menos de
+ * {@code retention} tem o recebimento confirmado sem ser gravado nem entregue aos handlers.
+ * A memória é dimensionada para {@code expected-insertions} webhooks distintos por período de
+ * retenção; acima disso, repetições podem deixar de ser detectadas, mas nenhum webhook novo é
+ * descartado. {@code false-positive-rate} é a fração dos webhooks novos que, pelo filtro de
+ * Bloom, precisam ser conferidos na tabela de identificadores: valores menores reduzem essas
+ * conferências e aumentam a memória do filtro.
+ * </p>
+ *
+ * <pre>
+ * syncpay.webhook-dedup.enabled=true
+ * syncpay.webhook-dedup.retention=24h
+ * syncpay.webhook-dedup.expected-insertions=1000000
+ * syncpay.webhook-dedup.false-positive-rate=0.01
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.webhooks.WebhookDeduplicator
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.webhook-dedup")
+public class SyncPayWebhookDedupProperties {
+
+    /**
+     * Indica se webhooks repetidos são descartados pelo receptor de webhooks.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tempo mínimo durante o qual um webhook recebido é lembrado.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * Número esperado de webhooks distintos por período de retenção.
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * Taxa de falsos positivos do filtro de Bloom de cada período.
+     */
+    private double falsePositiveRate = 0.01;
+}
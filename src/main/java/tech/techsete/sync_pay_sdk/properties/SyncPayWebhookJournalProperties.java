@@ -0,0 +1,67 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propriedades do journal de webhooks recebidos.
+ * <p>
+ * Com o receptor de webhooks e o journal habilitados, cada webhook é gravado em disco antes de
+ * ter o recebimento confirmado, e os eventos ainda não tratados são entregues novamente aos
+ * handlers quando a aplicação reinicia. As gravações aguardando confirmação são sincronizadas
+ * com o disco em conjunto, em uma única chamada de {@code fsync}; com {@code commit-delay}, o
+ * journal aguarda esse intervalo antes de cada sincronização para reunir mais gravações.
+ * </p>
+ *
+ * <pre>
+ * syncpay.webhook-journal.enabled=true
+ * syncpay.webhook-journal.directory=/var/lib/app/syncpay-webhooks
+ * syncpay.webhook-journal.segment-size=64MB
+ * syncpay.webhook-journal.commit-delay=0
+ * syncpay.webhook-journal.offset-flush-interval=1s
+ * syncpay.webhook-journal.compaction-interval=1m
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.journal.WebhookJournal
+ * @see tech.techsete.sync_pay_sdk.webhooks.WebhookSpool
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.webhook-journal")
+public class SyncPayWebhookJournalProperties {
+
+    /**
+     * Indica se os webhooks recebidos são gravados no journal antes da confirmação.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Diretório dos arquivos do journal.
+     */
+    private Path directory = Path.of("syncpay-webhooks");
+
+    /**
+     * Tamanho de cada segmento do journal.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Espera antes de cada sincronização com o disco, para reunir mais gravações.
+     */
+    private Duration commitDelay = Duration.ZERO;
+
+    /**
+     * Intervalo máximo para gravar em disco as posições confirmadas pelos consumidores.
+     */
+    private Duration offsetFlushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Intervalo entre as remoções de segmentos já tratados por todos os consumidores.
+     */
+    private Duration compactionInterval = Duration.ofMinutes(1);
+}
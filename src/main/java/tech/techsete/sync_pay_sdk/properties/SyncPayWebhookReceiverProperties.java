@@ -0,0 +1,74 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import tech.techsete.sync_pay_sdk.enums.WebhookOverflowPolicy;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do receptor de webhooks da SyncPay.
+ * <p>
+ * Desabilitado por padrão. Quando habilitado em uma aplicação WebFlux, o SDK registra a rota
+ * {@code POST path}, que confirma cada evento assim que ele é decodificado e o entrega aos
+ * {@code SyncPayWebhookHandler} em {@code workers} threads. Os eventos de uma mesma transação
+ * são sempre tratados pela mesma thread, na ordem de chegada; cada thread tem uma fila de até
+ * {@code queue-capacity} eventos, e {@code overflow-policy} define o que acontece quando ela
+ * está cheia.
+ * </p>
+ *
+ * <pre>
+ * syncpay.webhook-receiver.enabled=true
+ * syncpay.webhook-receiver.path=/syncpay/webhooks
+ * syncpay.webhook-receiver.workers=8
+ * syncpay.webhook-receiver.queue-capacity=1024
+ * syncpay.webhook-receiver.overflow-policy=reject
+ * syncpay.webhook-receiver.max-body-size=256KB
+ * syncpay.webhook-receiver.shutdown-timeout=10s
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.webhooks.WebhookReceiver
+ * @see tech.techsete.sync_pay_sdk.webhooks.WebhookDispatcher
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.webhook-receiver")
+public class SyncPayWebhookReceiverProperties {
+
+    /**
+     * Indica se o receptor de webhooks está habilitado.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Caminho da rota que recebe os webhooks.
+     */
+    private String path = "/syncpay/webhooks";
+
+    /**
+     * Número de threads que executam os handlers.
+     */
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Número máximo de eventos aguardando em cada thread.
+     */
+    private int queueCapacity = 1_024;
+
+    /**
+     * Comportamento quando a fila da thread de uma transação está cheia.
+     */
+    private WebhookOverflowPolicy overflowPolicy = WebhookOverflowPolicy.REJECT;
+
+    /**
+     * Tamanho máximo do corpo de um webhook; corpos maiores são recusados com {@code 413}.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+    /**
+     * Tempo máximo de espera pelo tratamento dos eventos enfileirados no encerramento.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
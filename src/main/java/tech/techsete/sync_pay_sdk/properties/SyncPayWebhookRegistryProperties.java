@@ -0,0 +1,53 @@
+package tech.techsete.sync_pay_sdk.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do registro local de webhooks utilizado na reconciliação.
+ * <p>
+ * A listagem de webhooks de cada conta, identificada pelo token e pelo cabeçalho
+ * {@code Authorization} das requisições, é
+ * mantida em cache por {@code ttl} e atualizada a cada alteração aplicada pela
+ * reconciliação, de forma que reconciliações seguidas não listam todos os webhooks novamente.
+ * Por padrão, a reconciliação apenas cria e atualiza webhooks; com {@code delete-unmatched=true},
+ * remove também os webhooks da conta que não constam do estado desejado, inclusive os criados
+ * pelo painel ou por outros serviços.
+ * </p>
+ *
+ * <pre>
+ * syncpay.webhook-registry.ttl=5m
+ * syncpay.webhook-registry.max-concurrency=8
+ * syncpay.webhook-registry.delete-unmatched=false
+ * </pre>
+ *
+ * @see tech.techsete.sync_pay_sdk.cache.WebhookRegistry
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syncpay.webhook-registry")
+public class SyncPayWebhookRegistryProperties {
+
+    /**
+     * Tempo de validade da listagem em cache de cada conta.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Número máximo de contas com listagem em cache.
+     */
+    private long maximumSize = 1_000;
+
+    /**
+     * Número máximo de alterações aplicadas simultaneamente em uma reconciliação.
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * Indica se webhooks existentes que não constam do estado desejado devem ser removidos.
+     */
+    private boolean deleteUnmatched = false;
+}
@@ -0,0 +1,137 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens não bloqueante com taxa adaptativa.
+ * <p>
+ * Implementado com o algoritmo GCRA (<i>generic cell rate algorithm</i>): o estado do balde
+ * é um único instante teórico de chegada, atualizado por CAS, sem travas. Cada reserva
+ * retorna quanto tempo o chamador deve aguardar antes de emitir a requisição, permitindo
+ * que a espera seja feita de forma reativa, sem ocupar threads.
+ * </p>
+ * <p>
+ * Ao ser notificado de um HTTP 429, o balde é pausado até o instante indicado por
+ * {@code Retry-After} e a sua taxa é reduzida multiplicativamente; respostas de sucesso
+ * recuperam a taxa em passos aditivos até o valor configurado.
+ * </p>
+ */
+public class AdaptiveRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double configuredRate;
+    private final double minRate;
+    private final double decreaseFactor;
+    private final double recoveryStep;
+    private final long recoveryIntervalNanos;
+    private final int burst;
+
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong lastRecovery;
+    private volatile double rate;
+
+    /**
+     * Cria um limitador.
+     *
+     * @param permitsPerSecond      Taxa sustentada configurada.
+     * @param burst                 Quantidade de requisições permitidas em rajada.
+     * @param minRateRatio          Fração mínima da taxa configurada após reduções.
+     * @param decreaseFactor        Fator aplicado à taxa a cada HTTP 429.
+     * @param recoveryStepRatio     Fração da taxa configurada recuperada a cada passo.
+     * @param recoveryIntervalNanos Intervalo mínimo entre passos de recuperação.
+     */
+    public AdaptiveRateLimiter(double permitsPerSecond,
+                               int burst,
+                               double minRateRatio,
+                               double decreaseFactor,
+                               double recoveryStepRatio,
+                               long recoveryIntervalNanos
+    ) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than zero");
+        }
+        this.configuredRate = permitsPerSecond;
+        this.minRate = permitsPerSecond * minRateRatio;
+        this.decreaseFactor = decreaseFactor;
+        this.recoveryStep = permitsPerSecond * recoveryStepRatio;
+        this.recoveryIntervalNanos = recoveryIntervalNanos;
+        this.burst = Math.max(1, burst);
+        this.rate = permitsPerSecond;
+
+        long now = System.nanoTime();
+        this.theoreticalArrival = new AtomicLong(now);
+        this.lastRecovery = new AtomicLong(now);
+    }
+
+    /**
+     * Reserva uma permissão.
+     *
+     * @param maxWaitNanos Espera máxima aceitável.
+     * @return o tempo de espera em nanossegundos antes de emitir a requisição, ou {@code -1}
+     * se a espera necessária exceder {@code maxWaitNanos}, caso em que nada é reservado.
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long interval = intervalNanos();
+            long tolerance = interval * (burst - 1);
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, now);
+            long wait = Math.max(0, base - tolerance - now);
+
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+
+            if (theoreticalArrival.compareAndSet(tat, base + interval)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Registra um HTTP 429, pausando o balde e reduzindo a sua taxa.
+     *
+     * @param retryAfterNanos Tempo indicado pelo servidor até a próxima tentativa.
+     */
+    public void onThrottled(long retryAfterNanos) {
+        rate = Math.max(minRate, rate * decreaseFactor);
+
+        long now = System.nanoTime();
+        long resumeAt = now + retryAfterNanos + intervalNanos() * (burst - 1);
+        theoreticalArrival.accumulateAndGet(resumeAt, Math::max);
+        lastRecovery.set(now);
+    }
+
+    /**
+     * Registra uma resposta de sucesso, recuperando a taxa quando o intervalo de
+     * recuperação tiver transcorrido.
+     */
+    public void onSuccess() {
+        double current = rate;
+        if (current >= configuredRate) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long last = lastRecovery.get();
+        if (now - last >= recoveryIntervalNanos && lastRecovery.compareAndSet(last, now)) {
+            rate = Math.min(configuredRate, current + recoveryStep);
+        }
+    }
+
+    /**
+     * Retorna a taxa efetiva atual.
+     *
+     * @return a taxa em requisições por segundo.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    private long intervalNanos() {
+        return (long) (NANOS_PER_SECOND / rate);
+    }
+}
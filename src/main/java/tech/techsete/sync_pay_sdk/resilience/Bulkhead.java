@@ -0,0 +1,67 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite não bloqueante de chamadas simultâneas.
+ * <p>
+ * As permissões são controladas por um contador atômico: quando o limite está atingido,
+ * {@link #tryAcquire()} retorna imediatamente {@code false}, sem enfileirar nem bloquear.
+ * </p>
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Cria um limite de chamadas simultâneas.
+     *
+     * @param maxConcurrentCalls O número máximo de chamadas simultâneas.
+     */
+    public Bulkhead(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Tenta ocupar uma vaga.
+     *
+     * @return {@code true} se a vaga foi obtida.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrentCalls) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera uma vaga ocupada.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Retorna o número de chamadas em andamento.
+     *
+     * @return as chamadas em andamento.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Retorna o número máximo de chamadas simultâneas.
+     *
+     * @return o limite configurado.
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
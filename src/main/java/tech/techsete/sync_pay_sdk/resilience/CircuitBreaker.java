@@ -0,0 +1,208 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import tech.techsete.sync_pay_sdk.enums.CircuitBreakerState;
+import tech.techsete.sync_pay_sdk.properties.SyncPayCircuitBreakerProperties;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Circuito com janela deslizante por contagem e avaliação por taxa de falhas e de
+ * chamadas lentas.
+ * <p>
+ * No estado {@link CircuitBreakerState#CLOSED} todas as chamadas são permitidas e os
+ * resultados alimentam a janela. Ao atingir o limite de falhas ou de lentidão, o circuito
+ * passa a {@link CircuitBreakerState#OPEN} e rejeita chamadas até o fim da espera
+ * configurada; em seguida, {@link CircuitBreakerState#HALF_OPEN} permite um número fixo
+ * de chamadas de teste, cujo resultado decide entre fechar ou reabrir o circuito.
+ * </p>
+ * <p>
+ * A verificação no estado fechado é feita sem sincronização; o registro dos resultados
+ * usa seções críticas curtas. As transições são notificadas fora da seção crítica.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumNumberOfCalls;
+    private final long waitInOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final BiConsumer<CircuitBreakerState, CircuitBreakerState> transitionListener;
+
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failures;
+    private int slowCalls;
+
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermitsIssued;
+    private int halfOpenCalls;
+    private int halfOpenFailures;
+    private int halfOpenSlowCalls;
+
+    /**
+     * Cria um circuito.
+     *
+     * @param config             A configuração do circuito.
+     * @param transitionListener Receptor das transições de estado (anterior, novo).
+     */
+    public CircuitBreaker(SyncPayCircuitBreakerProperties.Config config,
+                          BiConsumer<CircuitBreakerState, CircuitBreakerState> transitionListener
+    ) {
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+        this.slowCallDurationNanos = config.getSlowCallDurationThreshold().toNanos();
+        this.minimumNumberOfCalls = Math.max(1, config.getMinimumNumberOfCalls());
+        this.waitInOpenNanos = config.getWaitDurationInOpenState().toNanos();
+        this.permittedCallsInHalfOpen = Math.max(1, config.getPermittedCallsInHalfOpenState());
+        this.window = new byte[Math.max(1, config.getSlidingWindowSize())];
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Retorna o estado atual do circuito.
+     *
+     * @return o estado atual.
+     */
+    public CircuitBreakerState getState() {
+        return state;
+    }
+
+    /**
+     * Solicita permissão para executar uma chamada.
+     *
+     * @return {@code true} se a chamada pode ser executada.
+     */
+    public boolean tryAcquirePermission() {
+        if (state == CircuitBreakerState.CLOSED) {
+            return true;
+        }
+
+        CircuitBreakerState previous = null;
+        boolean permitted;
+
+        synchronized (this) {
+            if (state == CircuitBreakerState.OPEN && System.nanoTime() - openedAtNanos >= waitInOpenNanos) {
+                previous = transitionTo(CircuitBreakerState.HALF_OPEN);
+            }
+
+            switch (state) {
+                case CLOSED -> permitted = true;
+                case HALF_OPEN -> {
+                    permitted = halfOpenPermitsIssued < permittedCallsInHalfOpen;
+                    if (permitted) {
+                        halfOpenPermitsIssued++;
+                    }
+                }
+                default -> permitted = false;
+            }
+        }
+
+        notifyTransition(previous, CircuitBreakerState.HALF_OPEN);
+        return permitted;
+    }
+
+    /**
+     * Devolve uma permissão cujo resultado não deve ser contabilizado, como chamadas
+     * canceladas ou rejeitadas por outro mecanismo.
+     */
+    public void releasePermission() {
+        if (state != CircuitBreakerState.HALF_OPEN) {
+            return;
+        }
+        synchronized (this) {
+            if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermitsIssued > 0) {
+                halfOpenPermitsIssued--;
+            }
+        }
+    }
+
+    /**
+     * Registra o resultado de uma chamada.
+     *
+     * @param durationNanos A duração da chamada.
+     * @param failure       Se a chamada falhou.
+     */
+    public void onResult(long durationNanos, boolean failure) {
+        byte outcome = (byte) ((failure ? FAILURE : 0) | (durationNanos >= slowCallDurationNanos ? SLOW : 0));
+        CircuitBreakerState previous = null;
+        CircuitBreakerState next = null;
+
+        synchronized (this) {
+            if (state == CircuitBreakerState.CLOSED) {
+                record(outcome);
+                if (windowCount >= minimumNumberOfCalls && exceedsThresholds(failures, slowCalls, windowCount)) {
+                    next = CircuitBreakerState.OPEN;
+                }
+            } else if (state == CircuitBreakerState.HALF_OPEN) {
+                halfOpenCalls++;
+                halfOpenFailures += (outcome & FAILURE) != 0 ? 1 : 0;
+                halfOpenSlowCalls += (outcome & SLOW) != 0 ? 1 : 0;
+
+                if (halfOpenCalls >= permittedCallsInHalfOpen) {
+                    next = exceedsThresholds(halfOpenFailures, halfOpenSlowCalls, halfOpenCalls)
+                            ? CircuitBreakerState.OPEN
+                            : CircuitBreakerState.CLOSED;
+                }
+            }
+
+            if (next != null) {
+                previous = transitionTo(next);
+            }
+        }
+
+        notifyTransition(previous, next);
+    }
+
+    private void record(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            failures -= (evicted & FAILURE) != 0 ? 1 : 0;
+            slowCalls -= (evicted & SLOW) != 0 ? 1 : 0;
+        } else {
+            windowCount++;
+        }
+
+        window[windowIndex] = outcome;
+        failures += (outcome & FAILURE) != 0 ? 1 : 0;
+        slowCalls += (outcome & SLOW) != 0 ? 1 : 0;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private boolean exceedsThresholds(int failed, int slow, int total) {
+        return failed * 100f / total >= failureRateThreshold || slow * 100f / total >= slowCallRateThreshold;
+    }
+
+    private CircuitBreakerState transitionTo(CircuitBreakerState next) {
+        CircuitBreakerState previous = state;
+        state = next;
+
+        halfOpenPermitsIssued = 0;
+        halfOpenCalls = 0;
+        halfOpenFailures = 0;
+        halfOpenSlowCalls = 0;
+
+        if (next == CircuitBreakerState.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (next == CircuitBreakerState.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+
+        return previous;
+    }
+
+    private void notifyTransition(CircuitBreakerState previous, CircuitBreakerState next) {
+        if (previous != null && previous != next) {
+            transitionListener.accept(previous, next);
+        }
+    }
+}
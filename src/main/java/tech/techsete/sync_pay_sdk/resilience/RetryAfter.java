@@ -0,0 +1,73 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Leitura do cabeçalho {@code Retry-After}, nos formatos de segundos ou data HTTP.
+ * <p>
+ * O tempo de espera é limitado a {@link #MAX_WAIT}, para que um valor desproporcional enviado
+ * pelo servidor não pause o SDK indefinidamente nem estoure as conversões para nanossegundos.
+ * </p>
+ */
+public final class RetryAfter {
+
+    /**
+     * Maior tempo de espera retornado, aplicado a valores maiores de {@code Retry-After}.
+     */
+    public static final Duration MAX_WAIT = Duration.ofHours(1);
+
+    private RetryAfter() { }
+
+    /**
+     * Extrai o tempo de espera indicado pelo cabeçalho {@code Retry-After}.
+     *
+     * @param headers Os cabeçalhos da resposta.
+     * @return o tempo de espera, limitado a {@link #MAX_WAIT}, ou vazio se o cabeçalho estiver
+     * ausente ou for inválido.
+     */
+    public static Optional<Duration> parse(HttpHeaders headers) {
+        return parse(headers.getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    /**
+     * Interpreta o valor de um cabeçalho {@code Retry-After}.
+     *
+     * @param value O valor do cabeçalho.
+     * @return o tempo de espera, limitado a {@link #MAX_WAIT}, ou vazio se o valor estiver
+     * ausente ou for inválido.
+     */
+    public static Optional<Duration> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        String trimmed = value.trim();
+        if (Character.isDigit(trimmed.charAt(0))) {
+            for (int i = 0; i < trimmed.length(); i++) {
+                if (!Character.isDigit(trimmed.charAt(i))) {
+                    return Optional.empty();
+                }
+            }
+            try {
+                return Optional.of(Duration.ofSeconds(Math.min(Long.parseLong(trimmed), MAX_WAIT.toSeconds())));
+            } catch (NumberFormatException e) {
+                return Optional.of(MAX_WAIT);
+            }
+        }
+
+        try {
+            Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration wait = Duration.between(Instant.now(), at);
+            return Optional.of(wait.isNegative() ? Duration.ZERO : wait.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : wait);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
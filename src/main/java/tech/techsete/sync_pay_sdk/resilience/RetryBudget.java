@@ -0,0 +1,57 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de novas tentativas proporcional ao volume de requisições.
+ * <p>
+ * Cada requisição original deposita {@code ratio} no saldo e cada nova tentativa
+ * consome uma unidade. Com o saldo esgotado, falhas deixam de ser repetidas, impedindo
+ * que uma degradação da API seja amplificada pelas próprias tentativas. O saldo é
+ * mantido em milésimos em um único {@link AtomicLong}.
+ * </p>
+ */
+public class RetryBudget {
+
+    private static final long UNIT = 1_000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    /**
+     * Cria um orçamento com saldo inicial cheio.
+     *
+     * @param ratio     Novas tentativas permitidas por requisição original.
+     * @param maxTokens Saldo máximo de novas tentativas.
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.maxBalance = maxTokens * UNIT;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Registra uma requisição original, acrescentando a sua parcela ao saldo.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * Tenta consumir uma nova tentativa do saldo.
+     *
+     * @return {@code true} se havia saldo para a nova tentativa.
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
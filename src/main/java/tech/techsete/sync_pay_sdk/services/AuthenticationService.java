@@ -28,7 +28,12 @@ import tech.techsete.sync_pay_sdk.dtos.response.AuthenticationResponse;
 @Service(value = "syncPayAuthenticationService")
 public class AuthenticationService {
 
-    private final String AUTHENTICATE_URI = "/api/partner/v1/auth-token";
+    /**
+     * URI do endpoint de autenticação, também utilizada pelos filtros do SDK para
+     * identificar a chamada de obtenção de token.
+     */
+    public static final String AUTHENTICATE_URI = "/api/partner/v1/auth-token";
+
     private final WebClient webClient;
 
     /**
@@ -71,7 +76,7 @@ public class AuthenticationService {
                 .bodyValue(authenticationRequest)
                 .retrieve()
                 .bodyToMono(AuthenticationResponse.class)
-                .block();
+                .as(Blocking::block);
     }
 
     /**
@@ -0,0 +1,37 @@
+package tech.techsete.sync_pay_sdk.services;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Espera bloqueante utilizada pelos métodos síncronos dos serviços.
+ * <p>
+ * Os métodos síncronos estacionam a thread chamadora até a resposta, qualquer que seja o
+ * transporte: com o transporte JDK, o executor do {@code HttpClient} apenas processa a
+ * resposta, e a espera continua na thread chamadora. Chamados de uma thread não bloqueante, como
+ * o event loop do Reactor Netty que atende os webhooks, esses métodos travariam a thread que
+ * deveria entregar a resposta; nesse caso, falham imediatamente com uma mensagem que indica a
+ * variante assíncrona.
+ * </p>
+ */
+final class Blocking {
+
+    private Blocking() {
+    }
+
+    /**
+     * Aguarda o resultado de uma chamada assíncrona.
+     *
+     * @param mono A chamada assíncrona.
+     * @param <T>  O tipo do resultado.
+     * @return o resultado, ou {@code null} se a chamada terminar sem valor.
+     * @throws IllegalStateException Se a thread atual for não bloqueante.
+     */
+    static <T> T block(Mono<T> mono) {
+        if (Schedulers.isInNonBlockingThread()) {
+            throw new IllegalStateException("Synchronous SyncPay calls cannot run on non-blocking thread "
+                    + Thread.currentThread().getName() + "; use the corresponding *Async method instead");
+        }
+        return mono.block();
+    }
+}
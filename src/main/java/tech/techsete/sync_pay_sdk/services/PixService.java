@@ -1,16 +1,28 @@
 package tech.techsete.sync_pay_sdk.services;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.domain.BatchStats;
+import tech.techsete.sync_pay_sdk.domain.CashOutResult;
+import tech.techsete.sync_pay_sdk.domain.RequestOptions;
 import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
 import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
 import tech.techsete.sync_pay_sdk.dtos.response.CashInResponse;
 import tech.techsete.sync_pay_sdk.dtos.response.CashOutResponse;
 import tech.techsete.sync_pay_sdk.exceptions.InvalidCashInRequestException;
+import tech.techsete.sync_pay_sdk.exceptions.InvalidCashOutRequestException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayBatchProperties;
+import tech.techsete.sync_pay_sdk.validation.SyncPayRequestValidator;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Serviço responsável pelas operações de PIX, incluindo Cash-In e Cash-Out.
@@ -19,6 +31,10 @@ import java.util.Map;
  * e saída (Cash-Out) de valores utilizando o sistema de pagamentos instantâneos (PIX).
  * Possui métodos para operações síncronas e assíncronas, além de validações nos dados de entrada.
  * </p>
+ * <p>
+ * Também oferece a execução de Cash-Outs em lote com concorrência limitada, na qual cada item
+ * produz um {@link CashOutResult} individual e a falha de um item não interrompe os demais.
+ * </p>
  *
  * <p><b>Endpoints utilizados:</b></p>
  * <ul>
@@ -36,22 +52,43 @@ import java.util.Map;
  * @author Edson Isaac
  */
 
+@Slf4j
 @Service(value = "syncPayPixService")
 public class PixService {
 
     private final WebClient webClient;
+    private final SyncPayBatchProperties batchProperties;
+    private final SyncPayRequestValidator requestValidator;
 
     /**
      * Construtor responsável por inicializar o cliente HTTP {@link WebClient} necessário
      * para a comunicação com a API SyncPay.
      *
-     * @param webClient O cliente HTTP configurado para integração com os endpoints da API SyncPay.
+     * @param webClient        O cliente HTTP configurado para integração com os endpoints da API SyncPay.
+     * @param batchProperties  As propriedades das operações em lote.
+     * @param requestValidator O validador das requisições de Cash-In e Cash-Out.
      */
 
     public PixService(@Qualifier("syncPayWebClient")
-                      WebClient webClient
+                      WebClient webClient,
+                      SyncPayBatchProperties batchProperties,
+                      SyncPayRequestValidator requestValidator
     ) {
         this.webClient = webClient;
+        this.batchProperties = batchProperties;
+        this.requestValidator = requestValidator;
+    }
+
+    /**
+     * Realiza operação de entrada de valores (Cash-In) de forma síncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param cashInRequest    Dados da requisição de entrada de valores.
+     * @return {@link CashInResponse} com os detalhes do Cash-In realizado.
+     * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
+     */
+    public CashInResponse createCashIn(CashInRequest cashInRequest) {
+        return createCashIn(RequestOptions.DEFAULT, cashInRequest);
     }
 
     /**
@@ -66,8 +103,34 @@ public class PixService {
      * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
      */
     public CashInResponse createCashIn(Map<String, ?> headers, CashInRequest cashInRequest) {
-        validateCashInRequest(cashInRequest);
-        return createCashInAsync(headers, cashInRequest).block();
+        return createCashIn(RequestOptions.of(headers), cashInRequest);
+    }
+
+    /**
+     * Realiza operação de entrada de valores (Cash-In) de forma síncrona.
+     * <p>
+     * Este método valida a requisição antes de realizar a chamada ao endpoint de Cash-In.
+     * </p>
+     *
+     * @param options          Opções da requisição.
+     * @param cashInRequest    Dados da requisição de entrada de valores.
+     * @return {@link CashInResponse} com os detalhes do Cash-In realizado.
+     * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
+     */
+    public CashInResponse createCashIn(RequestOptions options, CashInRequest cashInRequest) {
+        return createCashInAsync(options, cashInRequest).as(Blocking::block);
+    }
+
+    /**
+     * Realiza operação de entrada de valores (Cash-In) de forma assíncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param cashInRequest    Dados da requisição de entrada de valores.
+     * @return {@link Mono} contendo {@link CashInResponse} com os detalhes do Cash-In realizado.
+     * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
+     */
+    public Mono<CashInResponse> createCashInAsync(CashInRequest cashInRequest) {
+        return createCashInAsync(RequestOptions.DEFAULT, cashInRequest);
     }
 
     /**
@@ -82,13 +145,39 @@ public class PixService {
      * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
      */
     public Mono<CashInResponse> createCashInAsync(Map<String, ?> headers, CashInRequest cashInRequest) {
-        validateCashInRequest(cashInRequest);
-        return webClient.post()
-                .uri("/api/partner/v1/cash-in")
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return createCashInAsync(RequestOptions.of(headers), cashInRequest);
+    }
+
+    /**
+     * Realiza operação de entrada de valores (Cash-In) de forma assíncrona.
+     * <p>
+     * Este método valida a requisição antes de realizar a chamada ao endpoint de Cash-In.
+     * </p>
+     *
+     * @param options          Opções da requisição.
+     * @param cashInRequest    Dados da requisição de entrada de valores.
+     * @return {@link Mono} contendo {@link CashInResponse} com os detalhes do Cash-In realizado.
+     * @throws InvalidCashInRequestException Se os dados de entrada forem inválidos.
+     */
+    public Mono<CashInResponse> createCashInAsync(RequestOptions options, CashInRequest cashInRequest) {
+        requestValidator.requireValid(cashInRequest);
+        return options.applyTimeout(options.applyTo(webClient.post()
+                        .uri("/api/partner/v1/cash-in"))
                 .bodyValue(cashInRequest)
                 .retrieve()
-                .bodyToMono(CashInResponse.class);
+                .bodyToMono(CashInResponse.class));
+    }
+
+    /**
+     * Realiza operação de saída de valores (Cash-Out) de forma síncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param cashOutRequest   Dados da requisição de saída de valores.
+     * @return {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
+     */
+    public CashOutResponse createCashOut(CashOutRequest cashOutRequest) {
+        return createCashOut(RequestOptions.DEFAULT, cashOutRequest);
     }
 
     /**
@@ -97,9 +186,34 @@ public class PixService {
      * @param headers          Cabeçalhos HTTP a serem enviados na requisição.
      * @param cashOutRequest   Dados da requisição de saída de valores.
      * @return {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
      */
     public CashOutResponse createCashOut(Map<String, ?> headers, CashOutRequest cashOutRequest) {
-        return createCashOutAsync(headers, cashOutRequest).block();
+        return createCashOut(RequestOptions.of(headers), cashOutRequest);
+    }
+
+    /**
+     * Realiza operação de saída de valores (Cash-Out) de forma síncrona.
+     *
+     * @param options          Opções da requisição.
+     * @param cashOutRequest   Dados da requisição de saída de valores.
+     * @return {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
+     */
+    public CashOutResponse createCashOut(RequestOptions options, CashOutRequest cashOutRequest) {
+        return createCashOutAsync(options, cashOutRequest).as(Blocking::block);
+    }
+
+    /**
+     * Realiza operação de saída de valores (Cash-Out) de forma assíncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param cashOutRequest   Dados da requisição de saída de valores.
+     * @return {@link Mono} contendo {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
+     */
+    public Mono<CashOutResponse> createCashOutAsync(CashOutRequest cashOutRequest) {
+        return createCashOutAsync(RequestOptions.DEFAULT, cashOutRequest);
     }
 
     /**
@@ -108,64 +222,150 @@ public class PixService {
      * @param headers          Cabeçalhos HTTP a serem enviados na requisição.
      * @param cashOutRequest   Dados da requisição de saída de valores.
      * @return {@link Mono} contendo {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
      */
     public Mono<CashOutResponse> createCashOutAsync(Map<String, ?> headers, CashOutRequest cashOutRequest) {
-        return webClient.post()
-                .uri("/api/partner/v1/cash-out")
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
-                .bodyValue(cashOutRequest)
+        return createCashOutAsync(RequestOptions.of(headers), cashOutRequest);
+    }
+
+    /**
+     * Realiza operação de saída de valores (Cash-Out) de forma assíncrona.
+     *
+     * @param options          Opções da requisição.
+     * @param cashOutRequest   Dados da requisição de saída de valores.
+     * @return {@link Mono} contendo {@link CashOutResponse} com os detalhes do Cash-Out realizado.
+     * @throws InvalidCashOutRequestException Se os dados de entrada forem inválidos.
+     */
+    public Mono<CashOutResponse> createCashOutAsync(RequestOptions options, CashOutRequest cashOutRequest) {
+        CashOutRequest validRequest = requestValidator.requireValid(cashOutRequest);
+        return options.applyTimeout(options.applyTo(webClient.post()
+                        .uri("/api/partner/v1/cash-out"))
+                .bodyValue(validRequest)
                 .retrieve()
-                .bodyToMono(CashOutResponse.class);
+                .bodyToMono(CashOutResponse.class));
     }
 
     /**
-     * Valida os dados de uma requisição de entrada de valores (Cash-In).
-     * <p>
-     * Este método verifica se os dados fornecidos no {@link CashInRequest} estão consistentes,
-     * incluindo regras como:
-     * <ul>
-     *     <li>Requisição não pode ser nula</li>
-     *     <li>Valor (amount) não pode ser nulo ou negativo</li>
-     *     <li>Percentuais nos splits devem ser válidos (entre 0 e 100) e a soma não pode exceder 100%</li>
-     * </ul>
-     * Caso alguma validação falhe, uma {@link InvalidCashInRequestException} é lançada.
-     * </p>
+     * Realiza Cash-Outs em lote de forma síncrona, com a concorrência padrão de
+     * {@code syncpay.batch.max-concurrency}.
      *
-     * @param cashInRequest Dados da requisição de Cash-In a serem validados.
-     * @throws InvalidCashInRequestException Caso os dados da requisição sejam inválidos.
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @return lista de {@link CashOutResult}, na mesma ordem das requisições.
      */
-    private void validateCashInRequest(CashInRequest cashInRequest) {
+    public List<CashOutResult> createCashOuts(List<CashOutRequest> cashOutRequests) {
+        return createCashOuts(cashOutRequests, batchProperties.getMaxConcurrency());
+    }
 
-        if (cashInRequest == null) {
-            throw new InvalidCashInRequestException("Cash in request cannot be null");
-        }
+    /**
+     * Realiza Cash-Outs em lote de forma síncrona.
+     *
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @param maxConcurrency   Número máximo de requisições em voo simultaneamente.
+     * @return lista de {@link CashOutResult}, na mesma ordem das requisições.
+     */
+    public List<CashOutResult> createCashOuts(List<CashOutRequest> cashOutRequests, int maxConcurrency) {
+        return createCashOuts(Flux.fromIterable(cashOutRequests), maxConcurrency)
+                .collectSortedList(Comparator.comparingLong(CashOutResult::index))
+                .as(Blocking::block);
+    }
 
-        if (cashInRequest.getAmount() == null) {
-            throw new InvalidCashInRequestException("Cash in amount cannot be null");
-        }
+    /**
+     * Realiza Cash-Outs em lote de forma assíncrona, com a concorrência padrão de
+     * {@code syncpay.batch.max-concurrency}.
+     *
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @return {@link Flux} de {@link CashOutResult}, emitidos conforme cada item termina.
+     */
+    public Flux<CashOutResult> createCashOuts(Flux<CashOutRequest> cashOutRequests) {
+        return createCashOuts(cashOutRequests, batchProperties.getMaxConcurrency());
+    }
+
+    /**
+     * Realiza Cash-Outs em lote de forma assíncrona.
+     *
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @param maxConcurrency   Número máximo de requisições em voo simultaneamente.
+     * @return {@link Flux} de {@link CashOutResult}, emitidos conforme cada item termina.
+     */
+    public Flux<CashOutResult> createCashOuts(Flux<CashOutRequest> cashOutRequests, int maxConcurrency) {
+        return createCashOuts(RequestOptions.DEFAULT, cashOutRequests, maxConcurrency, stats -> { });
+    }
+
+    /**
+     * Realiza Cash-Outs em lote de forma assíncrona.
+     * <p>
+     * As requisições são executadas com no máximo {@code maxConcurrency} chamadas em voo.
+     * Cada item produz um {@link CashOutResult}: falhas são convertidas em resultados de falha
+     * em vez de encerrar o fluxo. Ao término do lote, as estatísticas de vazão e latência são
+     * registradas no log e entregues a {@code statsConsumer}.
+     * </p>
+     *
+     * @param headers          Cabeçalhos HTTP a serem enviados em cada requisição.
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @param maxConcurrency   Número máximo de requisições em voo simultaneamente.
+     * @param statsConsumer    Receptor das estatísticas do lote ao seu término.
+     * @return {@link Flux} de {@link CashOutResult}, emitidos conforme cada item termina.
+     */
+    public Flux<CashOutResult> createCashOuts(Map<String, ?> headers,
+                                              Flux<CashOutRequest> cashOutRequests,
+                                              int maxConcurrency,
+                                              Consumer<BatchStats> statsConsumer
+    ) {
+        return createCashOuts(RequestOptions.of(headers), cashOutRequests, maxConcurrency, statsConsumer);
+    }
 
-        if (cashInRequest.getAmount().compareTo(new java.math.BigDecimal("0.00")) < 0) {
-            throw new InvalidCashInRequestException("Cash in amount cannot be negative");
+    /**
+     * Realiza Cash-Outs em lote de forma assíncrona.
+     * <p>
+     * Equivalente a {@link #createCashOuts(Map, Flux, int, Consumer)}, aplicando as opções
+     * informadas a cada requisição. Como cada Cash-Out é uma operação distinta, as opções não
+     * podem conter uma chave de idempotência; cada requisição recebe a sua própria.
+     * </p>
+     *
+     * @param options          Opções aplicadas a cada requisição.
+     * @param cashOutRequests  As requisições de saída de valores.
+     * @param maxConcurrency   Número máximo de requisições em voo simultaneamente.
+     * @param statsConsumer    Receptor das estatísticas do lote ao seu término.
+     * @return {@link Flux} de {@link CashOutResult}, emitidos conforme cada item termina.
+     * @throws IllegalArgumentException Se as opções contiverem uma chave de idempotência.
+     */
+    public Flux<CashOutResult> createCashOuts(RequestOptions options,
+                                              Flux<CashOutRequest> cashOutRequests,
+                                              int maxConcurrency,
+                                              Consumer<BatchStats> statsConsumer
+    ) {
+        if (options.getIdempotencyKey() != null) {
+            throw new IllegalArgumentException("Idempotency key cannot be shared by batch operations");
         }
 
-        if (cashInRequest.getSplit() != null && !cashInRequest.getSplit().isEmpty()) {
-            int sumSplitPercentage = 0;
+        return Flux.defer(() -> {
+            BatchStats.Recorder recorder = BatchStats.recorder();
 
-            for (var split : cashInRequest.getSplit()) {
-                if (split.getPercentage() == null || split.getPercentage() < 0 || split.getPercentage() > 100) {
-                    throw new InvalidCashInRequestException("Split percentage must be between 0 and 100");
-                }
+            return cashOutRequests
+                    .index()
+                    .flatMap(item -> executeCashOut(options, item.getT1(), item.getT2()), maxConcurrency)
+                    .doOnNext(result -> recorder.record(result.latency(), result.isSuccess()))
+                    .doFinally(signal -> {
+                        BatchStats stats = recorder.finish();
+                        log.info("Lote de Cash-Out SyncPay finalizado ({}): total={}, sucesso={}, falha={}, duração={}ms, vazão={}/s, p50={}ms, p99={}ms",
+                                signal, stats.total(), stats.succeeded(), stats.failed(), stats.elapsed().toMillis(),
+                                String.format("%.1f", stats.throughput()), stats.p50().toMillis(), stats.p99().toMillis());
+                        statsConsumer.accept(stats);
+                    });
+        });
+    }
 
-                if (split.getUserId() == null || split.getUserId().isBlank()) {
-                    throw new InvalidCashInRequestException("Split user id cannot be blank");
-                }
+    private Mono<CashOutResult> executeCashOut(RequestOptions options, long index, CashOutRequest cashOutRequest) {
+        long startNanos = System.nanoTime();
 
-                sumSplitPercentage += split.getPercentage();
-            }
+        return Mono.defer(() -> createCashOutAsync(options, cashOutRequest))
+                .map(response -> CashOutResult.success(index, cashOutRequest, response, elapsedSince(startNanos)))
+                .switchIfEmpty(Mono.fromSupplier(() -> CashOutResult.failure(index, cashOutRequest,
+                        new IllegalStateException("Resposta de Cash-Out vazia"), elapsedSince(startNanos))))
+                .onErrorResume(error -> Mono.just(CashOutResult.failure(index, cashOutRequest, error, elapsedSince(startNanos))));
+    }
 
-            if (sumSplitPercentage > 100) {
-                throw new InvalidCashInRequestException("Sum of split percentage cannot be greater than 100");
-            }
-        }
+    private static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
     }
 }
@@ -1,12 +1,25 @@
 package tech.techsete.sync_pay_sdk.services;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.cache.TransactionCache;
+import tech.techsete.sync_pay_sdk.domain.RequestOptions;
 import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayNotFoundException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayBatchProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionCacheProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWatcherProperties;
+import tech.techsete.sync_pay_sdk.state.TransactionStateStore;
+import tech.techsete.sync_pay_sdk.watchers.TransactionWatcher;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Serviço responsável pela gestão de transações na API SyncPay.
@@ -15,6 +28,31 @@ import java.util.Map;
  * como detalhes de status e dados associados às transações realizadas.
  * Oferece métodos para busca síncrona e assíncrona.
  * </p>
+ * <p>
+ * Consultas simultâneas da mesma transação, com as mesmas opções, são agrupadas:
+ * enquanto uma consulta estiver em voo, as demais compartilham a sua resposta em vez de
+ * emitir novas requisições. Também é possível consultar várias transações de uma vez,
+ * com concorrência limitada.
+ * </p>
+ * <p>
+ * Opcionalmente, com {@code syncpay.transaction-cache.enabled=true}, as respostas são mantidas
+ * em um {@link TransactionCache}: transações em status final deixam de ser consultadas na API
+ * e transações em andamento são reaproveitadas por um curto intervalo. O cache é indexado
+ * pelo identificador da transação e pertence a esta instância do serviço; por isso, guarda
+ * apenas as consultas feitas com a conta padrão do serviço, e chamadas com outra conta, por
+ * {@link RequestOptions.Builder#tenant} ou por um cabeçalho {@code Authorization}, sempre
+ * consultam a API. Com o {@link TransactionStateStore} habilitado, uma transação em cache é
+ * consultada novamente quando o registro conhece um status posterior ao armazenado, como um
+ * {@code REFUNDED} recebido por webhook depois de um {@code COMPLETED}.
+ * </p>
+ * <p>
+ * Com {@code syncpay.transaction-state.enabled=true}, o status de cada transação consultada é
+ * registrado no {@link TransactionStateStore}, junto com os recebidos por webhook.
+ * </p>
+ * <p>
+ * O acompanhamento de status é feito por {@link #watchTransaction(String)}, que multiplexa
+ * todas as transações monitoradas em um único {@link TransactionWatcher}.
+ * </p>
  *
  * <p><b>Endpoints utilizados:</b></p>
  * <ul>
@@ -29,16 +67,44 @@ public class TransactionService {
 
     private final String baseURL = "/api/partner/v1/transaction";
     private final WebClient webClient;
+    private final SyncPayBatchProperties batchProperties;
+    private final Map<InFlightKey, Mono<TransactionResponse>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionCache transactionCache;
+    private final TransactionWatcher transactionWatcher;
+    private final TransactionStateStore stateStore;
 
     /**
      * Construtor responsável por configurar o cliente HTTP {@link WebClient}.
      *
-     * @param webClient O cliente HTTP configurado para comunicação com a API SyncPay, providenciado pelo contexto Spring.
+     * @param webClient       O cliente HTTP configurado para comunicação com a API SyncPay, providenciado pelo contexto Spring.
+     * @param batchProperties As propriedades das operações em lote.
+     * @param cacheProperties   As propriedades do cache de transações.
+     * @param watcherProperties As propriedades do monitoramento de transações.
+     * @param stateStore        O registro de status de transações.
      */
     public TransactionService(@Qualifier("syncPayWebClient")
-                              WebClient webClient
+                              WebClient webClient,
+                              SyncPayBatchProperties batchProperties,
+                              SyncPayTransactionCacheProperties cacheProperties,
+                              SyncPayWatcherProperties watcherProperties,
+                              TransactionStateStore stateStore
     ) {
         this.webClient = webClient;
+        this.batchProperties = batchProperties;
+        this.transactionCache = cacheProperties.isEnabled() ? new TransactionCache(cacheProperties) : null;
+        this.stateStore = stateStore.isEnabled() ? stateStore : null;
+        this.transactionWatcher = new TransactionWatcher(id -> fetchTransaction(RequestOptions.DEFAULT, id), watcherProperties);
+    }
+
+    /**
+     * Busca os detalhes de uma transação de forma síncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param id      O identificador único da transação a ser retornada.
+     * @return {@link TransactionResponse} contendo os dados detalhados da transação.
+     */
+    public TransactionResponse findTransaction(String id) {
+        return findTransaction(RequestOptions.DEFAULT, id);
     }
 
     /**
@@ -49,13 +115,38 @@ public class TransactionService {
      * @return {@link TransactionResponse} contendo os dados detalhados da transação.
      */
     public TransactionResponse findTransaction(Map<String, ?> headers, String id) {
-        return findTransactionAsync(headers, id).block();
+        return findTransaction(RequestOptions.of(headers), id);
+    }
+
+    /**
+     * Busca os detalhes de uma transação utilizando um identificador fornecido, de forma síncrona.
+     *
+     * @param options Opções da requisição.
+     * @param id      O identificador único da transação a ser retornada.
+     * @return {@link TransactionResponse} contendo os dados detalhados da transação.
+     */
+    public TransactionResponse findTransaction(RequestOptions options, String id) {
+        return findTransactionAsync(options, id).as(Blocking::block);
+    }
+
+    /**
+     * Busca os detalhes de uma transação de forma assíncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param id      O identificador único da transação a ser retornada.
+     * @return {@link Mono} contendo {@link TransactionResponse} com os dados detalhados da transação.
+     */
+    public Mono<TransactionResponse> findTransactionAsync(String id) {
+        return findTransactionAsync(RequestOptions.DEFAULT, id);
     }
 
     /**
      * Busca os detalhes de uma transação utilizando um identificador fornecido, de forma assíncrona.
      * <p>
      * Este método retorna um {@link Mono} que será resolvido com os dados da transação após a resposta da API.
+     * Se a transação estiver no cache, ela é retornada sem consultar a API. Se já houver uma
+     * consulta em voo para o mesmo identificador e cabeçalhos, a sua resposta é compartilhada
+     * em vez de uma nova requisição ser emitida.
      * </p>
      *
      * @param headers Cabeçalhos HTTP a serem enviados na requisição para autenticação e controle.
@@ -63,10 +154,186 @@ public class TransactionService {
      * @return {@link Mono} contendo {@link TransactionResponse} com os dados detalhados da transação.
      */
     public Mono<TransactionResponse> findTransactionAsync(Map<String, ?> headers, String id) {
-        return webClient.get()
-                .uri(String.format("%s/%s", baseURL, id))
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return findTransactionAsync(RequestOptions.of(headers), id);
+    }
+
+    /**
+     * Busca os detalhes de uma transação utilizando um identificador fornecido, de forma assíncrona.
+     * <p>
+     * Se a transação estiver no cache, ela é retornada sem consultar a API; o cache é utilizado
+     * apenas com a conta padrão do serviço. Se já houver uma consulta em voo para o mesmo
+     * identificador e opções, a sua resposta é compartilhada em
+     * vez de uma nova requisição ser emitida. O tempo limite das opções vale para cada chamador.
+     * </p>
+     *
+     * @param options Opções da requisição.
+     * @param id      O identificador único da transação a ser retornada.
+     * @return {@link Mono} contendo {@link TransactionResponse} com os dados detalhados da transação.
+     */
+    public Mono<TransactionResponse> findTransactionAsync(RequestOptions options, String id) {
+        return options.applyTimeout(Mono.defer(() -> {
+            if (usesCache(options)) {
+                TransactionResponse cached = transactionCache.get(id);
+                if (cached != null && !isOutdated(id, cached)) {
+                    return Mono.just(cached);
+                }
+            }
+
+            return fetchTransaction(options, id);
+        }));
+    }
+
+    /**
+     * Acompanha o status de uma transação, utilizando o token de acesso gerenciado pelo SDK.
+     * <p>
+     * O {@link Flux} emite a transação na assinatura, assim que o seu status for conhecido,
+     * e a cada mudança de status, terminando quando a transação atinge um status final.
+     * As consultas são agendadas conforme {@code syncpay.watcher.*}: transações recentes são
+     * consultadas com mais frequência, e o total de consultas de todos os monitoramentos é
+     * limitado globalmente. Falhas de consulta são registradas e a transação é consultada
+     * novamente no próximo intervalo. Cancelar a assinatura encerra o monitoramento.
+     * </p>
+     *
+     * @param id O identificador único da transação.
+     * @return {@link Flux} com as mudanças de status da transação.
+     */
+    public Flux<TransactionResponse> watchTransaction(String id) {
+        return transactionWatcher.watch(id);
+    }
+
+    /**
+     * Acompanha o status de várias transações, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @param ids Os identificadores das transações.
+     * @return {@link Flux} com as mudanças de status de todas as transações, terminando quando
+     * todas atingirem status final.
+     * @see #watchTransaction(String)
+     */
+    public Flux<TransactionResponse> watchTransactions(Collection<String> ids) {
+        return transactionWatcher.watchAll(ids);
+    }
+
+    /**
+     * Retorna os contadores de acertos, faltas e remoções do cache de transações.
+     *
+     * @return as estatísticas do cache, ou {@link CacheStats#empty()} se o cache estiver desabilitado.
+     */
+    public CacheStats getCacheStats() {
+        return transactionCache != null ? transactionCache.stats() : CacheStats.empty();
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma síncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param ids Os identificadores das transações.
+     * @return {@link Map} do identificador para a {@link TransactionResponse} correspondente.
+     */
+    public Map<String, TransactionResponse> findTransactions(Collection<String> ids) {
+        return findTransactionsAsync(RequestOptions.DEFAULT, ids).as(Blocking::block);
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma síncrona.
+     *
+     * @param headers Cabeçalhos HTTP a serem enviados em cada requisição.
+     * @param ids     Os identificadores das transações.
+     * @return {@link Map} do identificador para a {@link TransactionResponse} correspondente.
+     */
+    public Map<String, TransactionResponse> findTransactions(Map<String, ?> headers, Collection<String> ids) {
+        return findTransactions(RequestOptions.of(headers), ids);
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma síncrona.
+     *
+     * @param options Opções aplicadas a cada requisição.
+     * @param ids     Os identificadores das transações.
+     * @return {@link Map} do identificador para a {@link TransactionResponse} correspondente.
+     */
+    public Map<String, TransactionResponse> findTransactions(RequestOptions options, Collection<String> ids) {
+        return findTransactionsAsync(options, ids).as(Blocking::block);
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma assíncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param ids Os identificadores das transações.
+     * @return {@link Mono} contendo o {@link Map} do identificador para a {@link TransactionResponse}.
+     */
+    public Mono<Map<String, TransactionResponse>> findTransactionsAsync(Collection<String> ids) {
+        return findTransactionsAsync(RequestOptions.DEFAULT, ids);
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma assíncrona.
+     * <p>
+     * Identificadores repetidos são consultados uma única vez e as consultas são feitas com
+     * no máximo {@code syncpay.batch.max-concurrency} requisições em voo. Transações não
+     * encontradas (HTTP 404) são omitidas do mapa; demais falhas encerram a consulta com erro.
+     * </p>
+     *
+     * @param headers Cabeçalhos HTTP a serem enviados em cada requisição.
+     * @param ids     Os identificadores das transações.
+     * @return {@link Mono} contendo o {@link Map} do identificador para a {@link TransactionResponse}.
+     */
+    public Mono<Map<String, TransactionResponse>> findTransactionsAsync(Map<String, ?> headers, Collection<String> ids) {
+        return findTransactionsAsync(RequestOptions.of(headers), ids);
+    }
+
+    /**
+     * Busca os detalhes de várias transações de forma assíncrona.
+     *
+     * @param options Opções aplicadas a cada requisição.
+     * @param ids     Os identificadores das transações.
+     * @return {@link Mono} contendo o {@link Map} do identificador para a {@link TransactionResponse}.
+     * @see #findTransactionsAsync(Map, Collection)
+     */
+    public Mono<Map<String, TransactionResponse>> findTransactionsAsync(RequestOptions options, Collection<String> ids) {
+        return Flux.fromIterable(new LinkedHashSet<>(ids))
+                .flatMap(id -> findTransactionAsync(options, id)
+                                .onErrorResume(this::isNotFound, error -> Mono.empty())
+                                .map(response -> Map.entry(id, response)),
+                        batchProperties.getMaxConcurrency())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<TransactionResponse> fetchTransaction(RequestOptions options, String id) {
+        return inFlight.computeIfAbsent(new InFlightKey(options, id), key ->
+                requestTransaction(options, id)
+                        .doOnNext(response -> {
+                            if (stateStore != null && response.getData() != null) {
+                                stateStore.update(id, response.getData().getStatus());
+                            }
+                            if (usesCache(options)) {
+                                transactionCache.put(id, response);
+                            }
+                        })
+                        .doFinally(signal -> inFlight.remove(key))
+                        .share()
+        );
+    }
+
+    private Mono<TransactionResponse> requestTransaction(RequestOptions options, String id) {
+        return options.applyTo(webClient.get()
+                        .uri(String.format("%s/%s", baseURL, id)))
                 .retrieve()
                 .bodyToMono(TransactionResponse.class);
     }
+
+    private boolean usesCache(RequestOptions options) {
+        return transactionCache != null && options.getAccount().isDefault();
+    }
+
+    private boolean isOutdated(String id, TransactionResponse cached) {
+        return stateStore != null && cached.getData() != null
+                && stateStore.isNewerThan(id, cached.getData().getStatus());
+    }
+
+    private boolean isNotFound(Throwable error) {
+        return error instanceof SyncPayNotFoundException;
+    }
+
+    private record InFlightKey(RequestOptions options, String id) { }
 }
\ No newline at end of file
@@ -1,15 +1,33 @@
 package tech.techsete.sync_pay_sdk.services;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import tech.techsete.sync_pay_sdk.cache.WebhookRegistry;
 import tech.techsete.sync_pay_sdk.domain.Page;
+import tech.techsete.sync_pay_sdk.domain.RequestOptions;
+import tech.techsete.sync_pay_sdk.domain.WebhookChange;
+import tech.techsete.sync_pay_sdk.domain.WebhookKey;
+import tech.techsete.sync_pay_sdk.domain.WebhookReconciliationReport;
 import tech.techsete.sync_pay_sdk.dtos.request.WebhookRequest;
 import tech.techsete.sync_pay_sdk.dtos.response.WebhookResponse;
+import tech.techsete.sync_pay_sdk.enums.WebhookChangeAction;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookRegistryProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Serviço responsável pela gestão de Webhooks na API SyncPay.
@@ -17,6 +35,15 @@ import java.util.Map;
  * Esta classe realiza chamadas à API SyncPay para criar, listar, atualizar e deletar webhooks.
  * Permite a interação com os endpoints de webhooks de forma síncrona e assíncrona.
  * </p>
+ * <p>
+ * A listagem completa pode ser percorrida com {@link #streamAllWebhooks()}, que busca as
+ * páginas sob demanda, sem que quem chama precise controlar a paginação.
+ * </p>
+ * <p>
+ * {@link #reconcile(Collection)} garante de forma declarativa que os webhooks existentes
+ * correspondam a um estado desejado, comparando-o com um {@link WebhookRegistry} local e
+ * aplicando em paralelo apenas as alterações necessárias.
+ * </p>
  *
  * <p><b>Endpoints utilizados:</b></p>
  * <ul>
@@ -29,21 +56,45 @@ import java.util.Map;
  * @see tech.techsete.sync_pay_sdk.domain.Page
  */
 
+@Slf4j
 @Service("syncPayWebhookService")
 public class WebhookService {
 
+    /**
+     * Parâmetro de consulta que seleciona a página da listagem de webhooks.
+     */
+    public static final String PAGE_QUERY_PARAM = "page";
+
+    private static final ParameterizedTypeReference<Page<WebhookResponse>> WEBHOOK_PAGE_TYPE = new ParameterizedTypeReference<>() {};
+
     private final String baseURL = "/api/partner/v1/webhooks";
     private final WebClient webClient;
+    private final SyncPayWebhookRegistryProperties registryProperties;
+    private final WebhookRegistry webhookRegistry;
 
     /**
      * Construtor responsável por configurar o cliente HTTP {@link WebClient}.
      *
-     * @param webClient O cliente HTTP configurado para comunicação com a API SyncPay, providenciado pelo contexto Spring.
+     * @param webClient          O cliente HTTP configurado para comunicação com a API SyncPay, providenciado pelo contexto Spring.
+     * @param registryProperties As propriedades do registro de webhooks utilizado na reconciliação.
      */
     public WebhookService(@Qualifier("syncPayWebClient")
-                          WebClient webClient
+                          WebClient webClient,
+                          SyncPayWebhookRegistryProperties registryProperties
     ) {
         this.webClient = webClient;
+        this.registryProperties = registryProperties;
+        this.webhookRegistry = new WebhookRegistry(registryProperties);
+    }
+
+    /**
+     * Cria um webhook de forma síncrona, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @param webhookRequest  Dados do webhook a ser criado.
+     * @return {@link WebhookResponse} contendo os detalhes do webhook criado.
+     */
+    public WebhookResponse createWebhook(WebhookRequest webhookRequest) {
+        return createWebhook(RequestOptions.DEFAULT, webhookRequest);
     }
 
     /**
@@ -54,7 +105,28 @@ public class WebhookService {
      * @return {@link WebhookResponse} contendo os detalhes do webhook criado.
      */
     public WebhookResponse createWebhook(Map<String, ?> headers, WebhookRequest webhookRequest) {
-        return createWebhookAsync(headers, webhookRequest).block();
+        return createWebhook(RequestOptions.of(headers), webhookRequest);
+    }
+
+    /**
+     * Cria um webhook de forma síncrona.
+     *
+     * @param options         Opções da requisição.
+     * @param webhookRequest  Dados do webhook a ser criado.
+     * @return {@link WebhookResponse} contendo os detalhes do webhook criado.
+     */
+    public WebhookResponse createWebhook(RequestOptions options, WebhookRequest webhookRequest) {
+        return createWebhookAsync(options, webhookRequest).as(Blocking::block);
+    }
+
+    /**
+     * Cria um webhook de forma assíncrona, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @param webhookRequest  Dados do webhook a ser criado.
+     * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook criado.
+     */
+    public Mono<WebhookResponse> createWebhookAsync(WebhookRequest webhookRequest) {
+        return createWebhookAsync(RequestOptions.DEFAULT, webhookRequest);
     }
 
     /**
@@ -65,12 +137,33 @@ public class WebhookService {
      * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook criado.
      */
     public Mono<WebhookResponse> createWebhookAsync(Map<String, ?> headers, WebhookRequest webhookRequest) {
-        return webClient.post()
-                .uri(baseURL)
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return createWebhookAsync(RequestOptions.of(headers), webhookRequest);
+    }
+
+    /**
+     * Cria um webhook de forma assíncrona.
+     *
+     * @param options         Opções da requisição.
+     * @param webhookRequest  Dados do webhook a ser criado.
+     * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook criado.
+     */
+    public Mono<WebhookResponse> createWebhookAsync(RequestOptions options, WebhookRequest webhookRequest) {
+        return options.applyTimeout(options.applyTo(webClient.post()
+                        .uri(baseURL))
                 .bodyValue(webhookRequest)
                 .retrieve()
-                .bodyToMono(WebhookResponse.class);
+                .bodyToMono(WebhookResponse.class))
+                .doOnNext(response -> webhookRegistry.put(options, response));
+    }
+
+    /**
+     * Deleta um webhook de forma síncrona, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @param id      Identificador único do webhook a ser deletado.
+     * @return {@code String} informando o resultado da operação de deleção.
+     */
+    public String deleteWebhook(Integer id) {
+        return deleteWebhook(RequestOptions.DEFAULT, id);
     }
 
     /**
@@ -81,7 +174,28 @@ public class WebhookService {
      * @return {@code String} informando o resultado da operação de deleção.
      */
     public String deleteWebhook(Map<String, ?> headers, Integer id) {
-        return deleteWebhookAsync(headers, id).block();
+        return deleteWebhook(RequestOptions.of(headers), id);
+    }
+
+    /**
+     * Deleta um webhook de forma síncrona.
+     *
+     * @param options Opções da requisição.
+     * @param id      Identificador único do webhook a ser deletado.
+     * @return {@code String} informando o resultado da operação de deleção.
+     */
+    public String deleteWebhook(RequestOptions options, Integer id) {
+        return deleteWebhookAsync(options, id).as(Blocking::block);
+    }
+
+    /**
+     * Deleta um webhook de forma assíncrona, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @param id      Identificador único do webhook a ser deletado.
+     * @return {@link Mono} contendo uma {@code String} com o resultado da operação de deleção.
+     */
+    public Mono<String> deleteWebhookAsync(Integer id) {
+        return deleteWebhookAsync(RequestOptions.DEFAULT, id);
     }
 
     /**
@@ -92,11 +206,36 @@ public class WebhookService {
      * @return {@link Mono} contendo uma {@code String} com o resultado da operação de deleção.
      */
     public Mono<String> deleteWebhookAsync(Map<String, ?> headers, Integer id) {
-        return webClient.delete()
-                .uri(String.format("%s/%d", baseURL, id))
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return deleteWebhookAsync(RequestOptions.of(headers), id);
+    }
+
+    /**
+     * Deleta um webhook de forma assíncrona.
+     *
+     * @param options Opções da requisição.
+     * @param id      Identificador único do webhook a ser deletado.
+     * @return {@link Mono} contendo uma {@code String} com o resultado da operação de deleção.
+     */
+    public Mono<String> deleteWebhookAsync(RequestOptions options, Integer id) {
+        return requestDelete(options, id)
+                .doOnSuccess(result -> webhookRegistry.invalidate(options));
+    }
+
+    private Mono<String> requestDelete(RequestOptions options, Integer id) {
+        return options.applyTimeout(options.applyTo(webClient.delete()
+                        .uri(String.format("%s/%d", baseURL, id)))
                 .retrieve()
-                .bodyToMono(String.class);
+                .bodyToMono(String.class));
+    }
+
+    /**
+     * Lista todos os webhooks existentes de forma síncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @return {@link Page} contendo uma lista de {@link WebhookResponse}.
+     */
+    public Page<WebhookResponse> findAllWebhooks() {
+        return findAllWebhooks(RequestOptions.DEFAULT, Map.of());
     }
 
     /**
@@ -106,7 +245,7 @@ public class WebhookService {
      * @return {@link Page} contendo uma lista de {@link WebhookResponse}.
      */
     public Page<WebhookResponse> findAllWebhooks(Map<String, ?> headers) {
-        return findAllWebhooksAsync(headers, null).block();
+        return findAllWebhooks(RequestOptions.of(headers), Map.of());
     }
 
     /**
@@ -117,26 +256,145 @@ public class WebhookService {
      * @return {@link Page} contendo uma lista de {@link WebhookResponse}.
      */
     public Page<WebhookResponse> findAllWebhooks(Map<String, ?> headers, Map<String, ?> queryParams) {
-        return findAllWebhooksAsync(headers, queryParams).block();
+        return findAllWebhooks(RequestOptions.of(headers), queryParams);
+    }
+
+    /**
+     * Lista todos os webhooks existentes de forma síncrona com parâmetros de consulta.
+     *
+     * @param options     Opções da requisição.
+     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks.
+     * @return {@link Page} contendo uma lista de {@link WebhookResponse}.
+     */
+    public Page<WebhookResponse> findAllWebhooks(RequestOptions options, Map<String, ?> queryParams) {
+        return findAllWebhooksAsync(options, queryParams).as(Blocking::block);
+    }
+
+    /**
+     * Lista todos os webhooks existentes de forma assíncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @return {@link Mono} contendo uma {@link Page} de {@link WebhookResponse}.
+     */
+    public Mono<Page<WebhookResponse>> findAllWebhooksAsync() {
+        return findAllWebhooksAsync(RequestOptions.DEFAULT, Map.of());
     }
 
     /**
      * Lista todos os webhooks existentes de forma assíncrona.
      *
      * @param headers     Cabeçalhos HTTP enviados na requisição.
-     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks.
+     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks, ou {@code null}.
      * @return {@link Mono} contendo uma {@link Page} de {@link WebhookResponse}.
      */
     public Mono<Page<WebhookResponse>> findAllWebhooksAsync(Map<String, ?> headers, Map<String, ?> queryParams) {
-        return webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path(baseURL);
-                    queryParams.forEach(uriBuilder::queryParam);
-                    return uriBuilder.build();
-                })
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return findAllWebhooksAsync(RequestOptions.of(headers), queryParams);
+    }
+
+    /**
+     * Lista todos os webhooks existentes de forma assíncrona.
+     *
+     * @param options     Opções da requisição.
+     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks, ou {@code null}.
+     * @return {@link Mono} contendo uma {@link Page} de {@link WebhookResponse}.
+     */
+    public Mono<Page<WebhookResponse>> findAllWebhooksAsync(RequestOptions options, Map<String, ?> queryParams) {
+        return options.applyTimeout(options.applyTo(webClient.get()
+                        .uri(uriBuilder -> {
+                            uriBuilder.path(baseURL);
+                            if (queryParams != null) {
+                                queryParams.forEach(uriBuilder::queryParam);
+                            }
+                            return uriBuilder.build();
+                        }))
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Page<WebhookResponse>>() {});
+                .bodyToMono(WEBHOOK_PAGE_TYPE));
+    }
+
+    /**
+     * Percorre todos os webhooks existentes, utilizando o token de acesso gerenciado pelo SDK.
+     *
+     * @return {@link Flux} com os {@link WebhookResponse} de todas as páginas.
+     * @see #streamAllWebhooks(Map, Map)
+     */
+    public Flux<WebhookResponse> streamAllWebhooks() {
+        return streamAllWebhooks(RequestOptions.DEFAULT, Map.of());
+    }
+
+    /**
+     * Percorre todos os webhooks existentes, página a página.
+     * <p>
+     * As páginas são buscadas sob demanda: a primeira na assinatura e cada página seguinte
+     * enquanto a anterior é consumida, de forma que não há espera entre páginas e no máximo
+     * duas páginas ficam em memória. A listagem começa na página informada em
+     * {@value #PAGE_QUERY_PARAM}, ou na primeira, e termina quando a API indica que não há
+     * mais páginas. Os demais parâmetros de consulta são enviados em todas as páginas.
+     * </p>
+     *
+     * @param headers     Cabeçalhos HTTP enviados em cada requisição.
+     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks, ou {@code null}.
+     * @return {@link Flux} com os {@link WebhookResponse} de todas as páginas.
+     */
+    public Flux<WebhookResponse> streamAllWebhooks(Map<String, ?> headers, Map<String, ?> queryParams) {
+        return streamAllWebhooks(RequestOptions.of(headers), queryParams);
+    }
+
+    /**
+     * Percorre todos os webhooks existentes, página a página. O tempo limite das opções vale
+     * para cada página.
+     *
+     * @param options     Opções aplicadas a cada requisição.
+     * @param queryParams Parâmetros adicionais para personalizar a listagem de webhooks, ou {@code null}.
+     * @return {@link Flux} com os {@link WebhookResponse} de todas as páginas.
+     * @see #streamAllWebhooks(Map, Map)
+     */
+    public Flux<WebhookResponse> streamAllWebhooks(RequestOptions options, Map<String, ?> queryParams) {
+        int firstPage = queryParams != null && queryParams.get(PAGE_QUERY_PARAM) != null
+                ? Integer.parseInt(queryParams.get(PAGE_QUERY_PARAM).toString())
+                : 1;
+
+        return findPage(options, queryParams, firstPage)
+                .expand(page -> hasNextPage(page.getT2())
+                        ? findPage(options, queryParams, nextPage(page))
+                        : Mono.empty())
+                .concatMap(page -> page.getT2().getData() != null
+                        ? Flux.fromIterable(page.getT2().getData())
+                        : Flux.empty(), 1);
+    }
+
+    private Mono<Tuple2<Integer, Page<WebhookResponse>>> findPage(RequestOptions options,
+                                                                  Map<String, ?> queryParams,
+                                                                  int page
+    ) {
+        Map<String, Object> pageParams = queryParams != null ? new HashMap<>(queryParams) : new HashMap<>();
+        pageParams.put(PAGE_QUERY_PARAM, page);
+
+        return findAllWebhooksAsync(options, pageParams)
+                .map(response -> Tuples.of(page, response));
+    }
+
+    private boolean hasNextPage(Page<WebhookResponse> page) {
+        return page.getMeta() != null
+                && page.getMeta().isHasMorePages()
+                && page.getData() != null
+                && !page.getData().isEmpty();
+    }
+
+    private int nextPage(Tuple2<Integer, Page<WebhookResponse>> page) {
+        Integer currentPage = page.getT2().getMeta().getCurrentPage();
+        return (currentPage != null ? currentPage : page.getT1()) + 1;
+    }
+
+    /**
+     * Atualiza um webhook existente de forma síncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param id              Identificador único do webhook a ser atualizado.
+     * @param webhookRequest  Dados atualizados do webhook.
+     * @return {@link WebhookResponse} contendo os detalhes do webhook atualizado.
+     */
+    public WebhookResponse updateWebhook(Integer id, WebhookRequest webhookRequest) {
+        return updateWebhook(RequestOptions.DEFAULT, id, webhookRequest);
     }
 
     /**
@@ -148,7 +406,31 @@ public class WebhookService {
      * @return {@link WebhookResponse} contendo os detalhes do webhook atualizado.
      */
     public WebhookResponse updateWebhook(Map<String, ?> headers, Integer id, WebhookRequest webhookRequest) {
-        return updateWebhookAsync(headers, id, webhookRequest).block();
+        return updateWebhook(RequestOptions.of(headers), id, webhookRequest);
+    }
+
+    /**
+     * Atualiza um webhook existente de forma síncrona.
+     *
+     * @param options         Opções da requisição.
+     * @param id              Identificador único do webhook a ser atualizado.
+     * @param webhookRequest  Dados atualizados do webhook.
+     * @return {@link WebhookResponse} contendo os detalhes do webhook atualizado.
+     */
+    public WebhookResponse updateWebhook(RequestOptions options, Integer id, WebhookRequest webhookRequest) {
+        return updateWebhookAsync(options, id, webhookRequest).as(Blocking::block);
+    }
+
+    /**
+     * Atualiza um webhook existente de forma assíncrona, utilizando o token de acesso
+     * gerenciado pelo SDK.
+     *
+     * @param id              Identificador único do webhook a ser atualizado.
+     * @param webhookRequest  Dados atualizados do webhook.
+     * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook atualizado.
+     */
+    public Mono<WebhookResponse> updateWebhookAsync(Integer id, WebhookRequest webhookRequest) {
+        return updateWebhookAsync(RequestOptions.DEFAULT, id, webhookRequest);
     }
 
     /**
@@ -160,11 +442,205 @@ public class WebhookService {
      * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook atualizado.
      */
     public Mono<WebhookResponse> updateWebhookAsync(Map<String, ?> headers, Integer id, WebhookRequest webhookRequest) {
-        return webClient.put()
-                .uri(String.format("%s/%d", baseURL, id))
-                .headers(httpHeaders -> headers.forEach((key, value) -> httpHeaders.add(key, value.toString())))
+        return updateWebhookAsync(RequestOptions.of(headers), id, webhookRequest);
+    }
+
+    /**
+     * Atualiza um webhook existente de forma assíncrona.
+     *
+     * @param options         Opções da requisição.
+     * @param id              Identificador único do webhook a ser atualizado.
+     * @param webhookRequest  Dados atualizados do webhook.
+     * @return {@link Mono} contendo {@link WebhookResponse} com os detalhes do webhook atualizado.
+     */
+    public Mono<WebhookResponse> updateWebhookAsync(RequestOptions options, Integer id, WebhookRequest webhookRequest) {
+        return requestUpdate(options, id, webhookRequest)
+                .doOnNext(response -> webhookRegistry.invalidate(options));
+    }
+
+    private Mono<WebhookResponse> requestUpdate(RequestOptions options, Integer id, WebhookRequest webhookRequest) {
+        return options.applyTimeout(options.applyTo(webClient.put()
+                        .uri(String.format("%s/%d", baseURL, id)))
                 .bodyValue(webhookRequest)
                 .retrieve()
-                .bodyToMono(WebhookResponse.class);
+                .bodyToMono(WebhookResponse.class));
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma síncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param desired Os webhooks desejados.
+     * @return {@link WebhookReconciliationReport} com as alterações aplicadas.
+     * @see #reconcileAsync(Map, Collection)
+     */
+    public WebhookReconciliationReport reconcile(Collection<WebhookRequest> desired) {
+        return reconcileAsync(RequestOptions.DEFAULT, desired).as(Blocking::block);
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma síncrona.
+     *
+     * @param headers Cabeçalhos HTTP enviados em cada requisição, que também identificam a conta no registro.
+     * @param desired Os webhooks desejados.
+     * @return {@link WebhookReconciliationReport} com as alterações aplicadas.
+     * @see #reconcileAsync(Map, Collection)
+     */
+    public WebhookReconciliationReport reconcile(Map<String, ?> headers, Collection<WebhookRequest> desired) {
+        return reconcile(RequestOptions.of(headers), desired);
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma síncrona.
+     *
+     * @param options Opções aplicadas a cada requisição, que também identificam a conta no registro.
+     * @param desired Os webhooks desejados.
+     * @return {@link WebhookReconciliationReport} com as alterações aplicadas.
+     * @see #reconcileAsync(Map, Collection)
+     */
+    public WebhookReconciliationReport reconcile(RequestOptions options, Collection<WebhookRequest> desired) {
+        return reconcileAsync(options, desired).as(Blocking::block);
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma assíncrona, utilizando
+     * o token de acesso gerenciado pelo SDK.
+     *
+     * @param desired Os webhooks desejados.
+     * @return {@link Mono} contendo o {@link WebhookReconciliationReport} com as alterações aplicadas.
+     * @see #reconcileAsync(Map, Collection)
+     */
+    public Mono<WebhookReconciliationReport> reconcileAsync(Collection<WebhookRequest> desired) {
+        return reconcileAsync(RequestOptions.DEFAULT, desired);
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma assíncrona.
+     * <p>
+     * Os webhooks são identificados por URL e evento ({@link WebhookKey}). O estado atual é
+     * obtido do {@link WebhookRegistry}, que lista os webhooks da conta apenas quando a listagem
+     * em cache expirou ({@code syncpay.webhook-registry.ttl}). Em seguida:
+     * </p>
+     * <ul>
+     *     <li>webhooks desejados inexistentes são criados;</li>
+     *     <li>webhooks existentes com título ou {@code trigger_all_products} divergentes são atualizados;</li>
+     *     <li>webhooks existentes fora do estado desejado, e repetições de um mesmo webhook, são
+     *     removidos, se {@code syncpay.webhook-registry.delete-unmatched} estiver habilitado.</li>
+     * </ul>
+     * <p>
+     * As alterações são aplicadas em paralelo, com no máximo
+     * {@code syncpay.webhook-registry.max-concurrency} requisições em voo, e registradas no
+     * registro local à medida que são concluídas. A falha de uma alteração não interrompe as
+     * demais: ela é informada no relatório e a listagem em cache da conta é descartada, para
+     * que a próxima reconciliação parta do estado real.
+     * </p>
+     *
+     * @param headers Cabeçalhos HTTP enviados em cada requisição, que também identificam a conta no registro.
+     * @param desired Os webhooks desejados. Para uma mesma identidade, prevalece o último informado.
+     * @return {@link Mono} contendo o {@link WebhookReconciliationReport} com as alterações aplicadas.
+     */
+    public Mono<WebhookReconciliationReport> reconcileAsync(Map<String, ?> headers, Collection<WebhookRequest> desired) {
+        return reconcileAsync(RequestOptions.of(headers), desired);
+    }
+
+    /**
+     * Reconcilia os webhooks existentes com o estado desejado, de forma assíncrona.
+     * <p>
+     * Como a reconciliação emite várias requisições distintas, as opções não podem conter
+     * uma chave de idempotência.
+     * </p>
+     *
+     * @param options Opções aplicadas a cada requisição, que também identificam a conta no registro.
+     * @param desired Os webhooks desejados. Para uma mesma identidade, prevalece o último informado.
+     * @return {@link Mono} contendo o {@link WebhookReconciliationReport} com as alterações aplicadas.
+     * @throws IllegalArgumentException Se as opções contiverem uma chave de idempotência.
+     * @see #reconcileAsync(Map, Collection)
+     */
+    public Mono<WebhookReconciliationReport> reconcileAsync(RequestOptions options, Collection<WebhookRequest> desired) {
+        if (options.getIdempotencyKey() != null) {
+            throw new IllegalArgumentException("Idempotency key cannot be shared by reconciliation requests");
+        }
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return webhookRegistry.get(options, accountOptions -> streamAllWebhooks(accountOptions, Map.of()))
+                    .flatMap(entries -> {
+                        Map<WebhookKey, WebhookRequest> desiredByKey = new LinkedHashMap<>();
+                        desired.forEach(request -> desiredByKey.put(WebhookKey.of(request), request));
+
+                        Map<WebhookKey, WebhookResponse> existing = entries.getByKey();
+                        List<Mono<WebhookChange>> changes = new ArrayList<>();
+                        int unchanged = 0;
+
+                        for (Map.Entry<WebhookKey, WebhookRequest> entry : desiredByKey.entrySet()) {
+                            WebhookResponse current = existing.get(entry.getKey());
+                            if (current == null) {
+                                changes.add(applyCreate(options, entry.getKey(), entry.getValue()));
+                            } else if (isOutdated(current, entry.getValue())) {
+                                changes.add(applyUpdate(options, entry.getKey(), entry.getValue(), current));
+                            } else {
+                                unchanged++;
+                            }
+                        }
+
+                        if (registryProperties.isDeleteUnmatched()) {
+                            existing.forEach((key, current) -> {
+                                if (!desiredByKey.containsKey(key)) {
+                                    changes.add(applyDelete(options, key, current));
+                                }
+                            });
+                            entries.getDuplicates().forEach(duplicate ->
+                                    changes.add(applyDelete(options, WebhookKey.of(duplicate), duplicate)));
+                        }
+
+                        int unchangedCount = unchanged;
+                        return Flux.fromIterable(changes)
+                                .flatMap(change -> change, registryProperties.getMaxConcurrency())
+                                .collectList()
+                                .map(applied -> new WebhookReconciliationReport(applied, unchangedCount,
+                                        Duration.ofNanos(System.nanoTime() - start)));
+                    })
+                    .doOnNext(report -> {
+                        if (report.hasFailures()) {
+                            webhookRegistry.invalidate(options);
+                        }
+                        log.info("Reconciliação de webhooks SyncPay finalizada: criados={}, atualizados={}, removidos={}, inalterados={}, falhas={}, duração={}ms",
+                                report.count(WebhookChangeAction.CREATE), report.count(WebhookChangeAction.UPDATE),
+                                report.count(WebhookChangeAction.DELETE), report.unchanged(),
+                                report.failures().size(), report.elapsed().toMillis());
+                    });
+        });
+    }
+
+    private boolean isOutdated(WebhookResponse current, WebhookRequest desired) {
+        return !Objects.equals(current.title(), desired.getTitle())
+                || current.triggerAllProducts() != desired.isTriggerAllProducts();
+    }
+
+    private Mono<WebhookChange> applyCreate(RequestOptions options, WebhookKey key, WebhookRequest desired) {
+        return createWebhookAsync(options, desired)
+                .map(result -> new WebhookChange(WebhookChangeAction.CREATE, key, desired, null, result, null))
+                .onErrorResume(error -> Mono.just(new WebhookChange(WebhookChangeAction.CREATE, key, desired, null, null, error)));
+    }
+
+    private Mono<WebhookChange> applyUpdate(RequestOptions options,
+                                            WebhookKey key,
+                                            WebhookRequest desired,
+                                            WebhookResponse current
+    ) {
+        return requestUpdate(options, current.id(), desired)
+                .doOnNext(result -> webhookRegistry.put(options, result))
+                .map(result -> new WebhookChange(WebhookChangeAction.UPDATE, key, desired, current, result, null))
+                .onErrorResume(error -> Mono.just(new WebhookChange(WebhookChangeAction.UPDATE, key, desired, current, null, error)));
+    }
+
+    private Mono<WebhookChange> applyDelete(RequestOptions options, WebhookKey key, WebhookResponse current) {
+        return requestDelete(options, current.id())
+                .then(Mono.fromSupplier(() -> {
+                    webhookRegistry.remove(options, current);
+                    return new WebhookChange(WebhookChangeAction.DELETE, key, null, current, null, null);
+                }))
+                .onErrorResume(error -> Mono.just(new WebhookChange(WebhookChangeAction.DELETE, key, null, current, null, error)));
     }
 }
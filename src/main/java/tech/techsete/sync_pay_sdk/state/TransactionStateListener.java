@@ -0,0 +1,25 @@
+package tech.techsete.sync_pay_sdk.state;
+
+import tech.techsete.sync_pay_sdk.domain.TransactionStateChange;
+
+/**
+ * Ouvinte das mudanças de status registradas pelo {@link TransactionStateStore}.
+ * <p>
+ * Os beans deste tipo declarados na aplicação são avisados automaticamente. O aviso é feito na
+ * thread que registrou a mudança, que pode ser a de um handler de webhooks ou a de uma consulta
+ * de transação. As mudanças de uma mesma transação são avisadas uma a uma, na ordem em que foram
+ * aplicadas; implementações demoradas devem repassar o trabalho para outra thread.
+ * </p>
+ *
+ * @see TransactionStateStore
+ */
+@FunctionalInterface
+public interface TransactionStateListener {
+
+    /**
+     * Recebe uma mudança de status.
+     *
+     * @param change A mudança.
+     */
+    void onTransition(TransactionStateChange change);
+}
@@ -0,0 +1,404 @@
+package tech.techsete.sync_pay_sdk.state;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tech.techsete.sync_pay_sdk.domain.TransactionStateChange;
+import tech.techsete.sync_pay_sdk.enums.TransactionStatus;
+import tech.techsete.sync_pay_sdk.enums.WebhookEventStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionStateProperties;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro em memória do último status conhecido de cada transação.
+ * <p>
+ * Os status chegam por dois canais, os webhooks e as consultas do {@code TransactionService},
+ * e os webhooks frequentemente chegam fora de ordem. O registro aceita apenas as mudanças que
+ * avançam a transação e descarta as demais como atrasadas, por exemplo um {@code PENDING}
+ * recebido depois de um {@code COMPLETED}. Uma transação pode pular etapas, já que eventos
+ * intermediários podem se perder ou chegar depois:
+ * </p>
+ * <ul>
+ *     <li>{@code PENDING} → qualquer outro status;</li>
+ *     <li>{@code WAITING_FOR_APPROVAL} → {@code COMPLETED}, {@code PAID_OUT}, {@code FAILED},
+ *     {@code MED} ou {@code REFUNDED};</li>
+ *     <li>{@code COMPLETED} e {@code PAID_OUT} → {@code MED} ou {@code REFUNDED};</li>
+ *     <li>{@code MED} → {@code REFUNDED};</li>
+ *     <li>{@code FAILED} e {@code REFUNDED} são finais.</li>
+ * </ul>
+ * <p>
+ * Os status ficam em um {@link ConcurrentHashMap}. Status repetidos e atrasados são descartados
+ * com uma única leitura do mapa, sem lock e sem alocação. As mudanças que avançam a transação
+ * são aplicadas sob um de 64 locks, escolhido pelo identificador, sem lock
+ * global: transações diferentes raramente competem entre si, e entre atualizações concorrentes
+ * da mesma transação só as que partem do status vigente são aplicadas.
+ * </p>
+ * <p>
+ * Somente as mudanças aplicadas, incluindo o primeiro status de uma transação, são repassadas
+ * aos {@link TransactionStateListener}. Cada mudança entra, ainda sob o lock, na fila de avisos
+ * do lock, que é esvaziada fora dele pela thread que aplicou a mudança; se outra thread já está
+ * esvaziando a fila, o aviso fica a cargo dela. Assim, os avisos de uma mesma transação chegam
+ * um a um, na ordem em que as mudanças foram aplicadas, e um ouvinte pode atualizar o registro
+ * ou consultar o contexto Spring sem risco de deadlock. Um ouvinte lento atrasa os avisos das
+ * transações que compartilham o seu lock, e não deve bloquear. Os ouvintes declarados no
+ * contexto Spring são resolvidos depois que todos os singletons são criados.
+ * </p>
+ * <p>
+ * As transações sem mudanças de status por {@code retention} são removidas em uma varredura
+ * executada em uma thread própria do registro, disparada pelas próprias atualizações no máximo a
+ * cada {@code retention / 4}; uma varredura disparada enquanto outra está em andamento é
+ * descartada. Uma transação esquecida volta a aceitar qualquer status.
+ * </p>
+ *
+ * @see SyncPayTransactionStateProperties
+ * @see TransactionStateListener
+ */
+@Slf4j
+@Component("syncPayTransactionStateStore")
+public class TransactionStateStore implements SmartInitializingSingleton, AutoCloseable {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final WebhookEventStatus[] STATUSES = WebhookEventStatus.values();
+    private static final boolean[][] TRANSITIONS = transitions();
+    private static final WebhookEventStatus[] BY_TRANSACTION_STATUS = byTransactionStatus();
+
+    private final boolean enabled;
+    private final long retentionNanos;
+    private final long sweepIntervalNanos;
+    private final AtomicLong nextSweep;
+    private final ThreadPoolExecutor sweeper;
+    private final Stripe[] stripes = new Stripe[LOCK_STRIPES];
+    private final ConcurrentHashMap<String, State> states = new ConcurrentHashMap<>();
+    private final List<TransactionStateListener> listeners = new CopyOnWriteArrayList<>();
+    private final ObjectProvider<TransactionStateListener> listenerBeans;
+
+    private final LongAdder transitions = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    /**
+     * Cria o registro sem ouvintes iniciais.
+     *
+     * @param stateProperties As propriedades do registro de status de transações.
+     */
+    public TransactionStateStore(SyncPayTransactionStateProperties stateProperties) {
+        this(stateProperties, null);
+    }
+
+    /**
+     * Cria o registro com os ouvintes declarados no contexto Spring, resolvidos depois que todos
+     * os singletons do contexto são criados.
+     *
+     * @param stateProperties As propriedades do registro de status de transações.
+     * @param listenerBeans   Os ouvintes declarados na aplicação.
+     */
+    @Autowired
+    public TransactionStateStore(SyncPayTransactionStateProperties stateProperties,
+                                 ObjectProvider<TransactionStateListener> listenerBeans
+    ) {
+        if (stateProperties.getRetention().isNegative() || stateProperties.getRetention().isZero()) {
+            throw new IllegalArgumentException("Transaction state retention must be positive");
+        }
+
+        this.enabled = stateProperties.isEnabled();
+        this.retentionNanos = stateProperties.getRetention().toNanos();
+        this.sweepIntervalNanos = Math.max(1, retentionNanos / 4);
+        this.nextSweep = new AtomicLong(System.nanoTime() + sweepIntervalNanos);
+        this.sweeper = new ThreadPoolExecutor(0, 1, 1, TimeUnit.MINUTES, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "syncpay-transaction-state-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.listenerBeans = listenerBeans;
+    }
+
+    /**
+     * Registra os ouvintes declarados no contexto Spring, antes dos adicionados com
+     * {@link #addListener(TransactionStateListener)}.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (listenerBeans != null) {
+            listeners.addAll(0, listenerBeans.orderedStream().toList());
+        }
+    }
+
+    /**
+     * Indica se os status consultados e recebidos por webhook devem ser registrados
+     * automaticamente pelo SDK.
+     *
+     * @return o valor de {@code syncpay.transaction-state.enabled}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registra um ouvinte adicional.
+     *
+     * @param listener O ouvinte.
+     */
+    public void addListener(TransactionStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Retorna o último status conhecido de uma transação.
+     *
+     * @param id O identificador da transação.
+     * @return o status, ou {@code null} se a transação não estiver registrada.
+     */
+    public WebhookEventStatus get(String id) {
+        State state = states.get(id);
+        return state != null ? state.status() : null;
+    }
+
+    /**
+     * Indica se o status registrado de uma transação é posterior ao informado, ou seja, se uma
+     * cópia da transação com o status informado está desatualizada.
+     *
+     * @param id     O identificador da transação.
+     * @param status O status da cópia.
+     * @return {@code true} se o registro conhece um status que avança a transação além de {@code status}.
+     */
+    public boolean isNewerThan(String id, TransactionStatus status) {
+        State state = states.get(id);
+        return state != null && status != null
+                && TRANSITIONS[BY_TRANSACTION_STATUS[status.ordinal()].ordinal()][state.status().ordinal()];
+    }
+
+    /**
+     * Registra o status de uma transação consultada na API.
+     *
+     * @param id     O identificador da transação.
+     * @param status O status consultado.
+     * @return {@code true} se o status foi aplicado e os ouvintes avisados.
+     * @see #update(String, WebhookEventStatus)
+     */
+    public boolean update(String id, TransactionStatus status) {
+        return update(id, status != null ? BY_TRANSACTION_STATUS[status.ordinal()] : null);
+    }
+
+    /**
+     * Registra o status de uma transação, se for o primeiro conhecido ou um avanço em relação
+     * ao atual.
+     *
+     * @param id     O identificador da transação.
+     * @param status O status recebido.
+     * @return {@code true} se o status foi aplicado e os ouvintes avisados; {@code false} se é
+     * igual ao atual, atrasado, ou se o identificador ou o status são nulos.
+     */
+    public boolean update(String id, WebhookEventStatus status) {
+        if (id == null || status == null) {
+            return false;
+        }
+
+        State current = states.get(id);
+        if (current != null && !advances(id, current, status)) {
+            return false;
+        }
+
+        Stripe stripe = stripeOf(id);
+        boolean drain;
+        synchronized (stripe) {
+            while (true) {
+                current = states.get(id);
+                if (current == null) {
+                    if (states.putIfAbsent(id, new State(status, System.nanoTime())) == null) {
+                        break;
+                    }
+                    continue;
+                }
+                if (!advances(id, current, status)) {
+                    return false;
+                }
+                if (states.replace(id, current, new State(status, System.nanoTime()))) {
+                    break;
+                }
+            }
+            drain = publish(stripe, id, current != null ? current.status() : null, status);
+        }
+
+        if (drain) {
+            drain(stripe);
+        }
+        return true;
+    }
+
+    /**
+     * Indica se uma transação pode passar de um status a outro.
+     *
+     * @param from O status atual.
+     * @param to   O novo status.
+     * @return {@code true} se a mudança avança a transação.
+     */
+    public static boolean isAllowed(WebhookEventStatus from, WebhookEventStatus to) {
+        return TRANSITIONS[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Retorna o número aproximado de transações registradas.
+     *
+     * @return as transações registradas.
+     */
+    public long size() {
+        return states.size();
+    }
+
+    /**
+     * Retorna o número de mudanças de status aplicadas, incluindo o primeiro status de cada transação.
+     *
+     * @return as mudanças aplicadas.
+     */
+    public long getTransitionCount() {
+        return transitions.sum();
+    }
+
+    /**
+     * Retorna o número de status descartados por não avançarem a transação.
+     *
+     * @return os status descartados.
+     */
+    public long getStaleCount() {
+        return stale.sum();
+    }
+
+    /**
+     * Encerra a thread de varredura.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private boolean advances(String id, State current, WebhookEventStatus status) {
+        if (current.status() == status) {
+            return false;
+        }
+        if (!TRANSITIONS[current.status().ordinal()][status.ordinal()]) {
+            stale.increment();
+            log.debug("Status {} da transação {} ignorado: status atual {}", status, id, current.status());
+            return false;
+        }
+        return true;
+    }
+
+    private Stripe stripeOf(String id) {
+        int hash = id.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Contabiliza uma mudança aplicada e a enfileira para os ouvintes. Executado sob o lock da
+     * transação.
+     *
+     * @return {@code true} se a thread atual deve esvaziar a fila de avisos.
+     */
+    private boolean publish(Stripe stripe, String id, WebhookEventStatus previous, WebhookEventStatus current) {
+        transitions.increment();
+        long now = System.nanoTime();
+        long next = nextSweep.get();
+        if (now - next >= 0 && nextSweep.compareAndSet(next, now + sweepIntervalNanos)) {
+            sweeper.execute(() -> sweep(now - retentionNanos));
+        }
+
+        if (listeners.isEmpty()) {
+            return false;
+        }
+        stripe.changes.add(new TransactionStateChange(id, previous, current, Instant.now()));
+        if (stripe.draining) {
+            return false;
+        }
+        stripe.draining = true;
+        return true;
+    }
+
+    /**
+     * Entrega aos ouvintes, fora do lock e na ordem de aplicação, as mudanças enfileiradas no
+     * lock, incluindo as enfileiradas por outras threads durante a entrega.
+     */
+    private void drain(Stripe stripe) {
+        while (true) {
+            TransactionStateChange change;
+            synchronized (stripe) {
+                change = stripe.changes.poll();
+                if (change == null) {
+                    stripe.draining = false;
+                    return;
+                }
+            }
+
+            for (TransactionStateListener listener : listeners) {
+                try {
+                    listener.onTransition(change);
+                } catch (RuntimeException e) {
+                    log.error("Falha ao avisar mudança de status da transação {} de {} para {}: {}",
+                            change.id(), change.previous(), change.current(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void sweep(long cutoff) {
+        int before = states.size();
+        states.values().removeIf(state -> state.updatedAt() - cutoff < 0);
+        log.debug("{} transações sem mudanças de status removidas do registro", before - states.size());
+    }
+
+    /**
+     * Status de uma transação e o instante, em {@link System#nanoTime()}, da última mudança.
+     */
+    private record State(WebhookEventStatus status, long updatedAt) { }
+
+    /**
+     * Lock de um grupo de transações e a sua fila de avisos pendentes.
+     */
+    private static final class Stripe {
+
+        private final ArrayDeque<TransactionStateChange> changes = new ArrayDeque<>();
+        private boolean draining;
+    }
+
+    private static int rank(WebhookEventStatus status) {
+        return switch (status) {
+            case PENDING -> 0;
+            case WAITING_FOR_APPROVAL -> 1;
+            case COMPLETED, PAID_OUT, FAILED -> 2;
+            case MED -> 3;
+            case REFUNDED -> 4;
+        };
+    }
+
+    private static boolean[][] transitions() {
+        boolean[][] transitions = new boolean[STATUSES.length][STATUSES.length];
+        for (WebhookEventStatus from : STATUSES) {
+            for (WebhookEventStatus to : STATUSES) {
+                transitions[from.ordinal()][to.ordinal()] = from != WebhookEventStatus.FAILED && rank(to) > rank(from);
+            }
+        }
+        return transitions;
+    }
+
+    private static WebhookEventStatus[] byTransactionStatus() {
+        TransactionStatus[] statuses = TransactionStatus.values();
+        WebhookEventStatus[] mapped = new WebhookEventStatus[statuses.length];
+        for (TransactionStatus status : statuses) {
+            mapped[status.ordinal()] = WebhookEventStatus.valueOf(status.name());
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,188 @@
+package tech.techsete.sync_pay_sdk.tenants;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import tech.techsete.sync_pay_sdk.auth.AccessTokenManager;
+import tech.techsete.sync_pay_sdk.domain.SyncPayCredentials;
+import tech.techsete.sync_pay_sdk.filters.AccessTokenExchangeFilter;
+import tech.techsete.sync_pay_sdk.properties.SyncPayAuthProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayBatchProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTenantProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionCacheProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWatcherProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookRegistryProperties;
+import tech.techsete.sync_pay_sdk.services.AuthenticationService;
+import tech.techsete.sync_pay_sdk.services.PixService;
+import tech.techsete.sync_pay_sdk.services.TransactionService;
+import tech.techsete.sync_pay_sdk.services.WebhookService;
+import tech.techsete.sync_pay_sdk.state.TransactionStateStore;
+import tech.techsete.sync_pay_sdk.validation.SyncPayRequestValidator;
+
+import java.time.Clock;
+
+/**
+ * Registro de clientes SyncPay por conta (multi-tenant).
+ * <p>
+ * Entrega, para cada conta, uma {@link SyncPayTenantClient} com seus próprios
+ * {@link PixService}, {@link TransactionService} e {@link WebhookService}. Todas as visões
+ * são derivadas do {@code syncPayWebClient} e, portanto, compartilham o pool de conexões,
+ * os codecs JSON e os filtros do SDK; apenas o token de acesso é mantido por conta, em um
+ * {@link AccessTokenManager} próprio.
+ * </p>
+ * <p>
+ * As visões são criadas sob demanda e descartadas após {@code syncpay.tenants.idle-timeout}
+ * sem uso, ou quando o número de contas excede {@code syncpay.tenants.maximum-size},
+ * removendo primeiro as menos utilizadas. Se as credenciais de uma conta mudarem, a visão
+ * é recriada com as novas credenciais.
+ * </p>
+ *
+ * @see SyncPayTenantProperties
+ * @see SyncPayCredentialsProvider
+ */
+@Slf4j
+@Component("syncPayClientRegistry")
+public class SyncPayClientRegistry {
+
+    private final WebClient webClient;
+    private final AuthenticationService authenticationService;
+    private final SyncPayAuthProperties authProperties;
+    private final SyncPayBatchProperties batchProperties;
+    private final SyncPayRequestValidator requestValidator;
+    private final SyncPayTransactionCacheProperties cacheProperties;
+    private final SyncPayWatcherProperties watcherProperties;
+    private final TransactionStateStore stateStore;
+    private final SyncPayWebhookRegistryProperties webhookRegistryProperties;
+    private final ObjectProvider<SyncPayCredentialsProvider> credentialsProvider;
+    private final Cache<String, SyncPayTenantClient> clients;
+
+    /**
+     * Construtor do registro.
+     *
+     * @param webClient                 O cliente HTTP do SDK, do qual as visões são derivadas.
+     * @param authenticationService     O serviço de autenticação utilizado pelos tokens das contas.
+     * @param authProperties            As propriedades de autenticação do SDK.
+     * @param tenantProperties          As propriedades do registro de contas.
+     * @param batchProperties           As propriedades das operações em lote.
+     * @param requestValidator          O validador das requisições de Cash-In e Cash-Out.
+     * @param cacheProperties           As propriedades do cache de transações.
+     * @param watcherProperties         As propriedades do monitoramento de transações.
+     * @param stateStore                O registro de status de transações, compartilhado entre as contas.
+     * @param webhookRegistryProperties As propriedades do registro de webhooks.
+     * @param credentialsProvider       Fonte opcional das credenciais das contas.
+     */
+    public SyncPayClientRegistry(@Qualifier("syncPayWebClient")
+                                 WebClient webClient,
+                                 AuthenticationService authenticationService,
+                                 SyncPayAuthProperties authProperties,
+                                 SyncPayTenantProperties tenantProperties,
+                                 SyncPayBatchProperties batchProperties,
+                                 SyncPayRequestValidator requestValidator,
+                                 SyncPayTransactionCacheProperties cacheProperties,
+                                 SyncPayWatcherProperties watcherProperties,
+                                 TransactionStateStore stateStore,
+                                 SyncPayWebhookRegistryProperties webhookRegistryProperties,
+                                 ObjectProvider<SyncPayCredentialsProvider> credentialsProvider
+    ) {
+        this.webClient = webClient;
+        this.authenticationService = authenticationService;
+        this.authProperties = authProperties;
+        this.batchProperties = batchProperties;
+        this.requestValidator = requestValidator;
+        this.cacheProperties = cacheProperties;
+        this.watcherProperties = watcherProperties;
+        this.stateStore = stateStore;
+        this.webhookRegistryProperties = webhookRegistryProperties;
+        this.credentialsProvider = credentialsProvider;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(tenantProperties.getMaximumSize())
+                .expireAfterAccess(tenantProperties.getIdleTimeout())
+                .removalListener((String tenantId, SyncPayTenantClient client, RemovalCause cause) ->
+                        log.debug("Cliente SyncPay da conta {} descartado: {}", tenantId, cause))
+                .build();
+    }
+
+    /**
+     * Retorna o cliente de uma conta, criando-o se necessário.
+     *
+     * @param credentials As credenciais da conta.
+     * @return o cliente da conta.
+     */
+    public SyncPayTenantClient getClient(SyncPayCredentials credentials) {
+        SyncPayTenantClient client = clients.getIfPresent(credentials.tenantId());
+        if (client != null && client.getCredentials().equals(credentials)) {
+            return client;
+        }
+
+        return clients.asMap().compute(credentials.tenantId(), (tenantId, existing) ->
+                existing != null && existing.getCredentials().equals(credentials) ? existing : createClient(credentials));
+    }
+
+    /**
+     * Retorna o cliente de uma conta, obtendo as credenciais do {@link SyncPayCredentialsProvider}
+     * quando o cliente ainda não existir.
+     *
+     * @param tenantId O identificador da conta.
+     * @return o cliente da conta.
+     * @throws IllegalStateException    se não houver um {@link SyncPayCredentialsProvider} registrado.
+     * @throws IllegalArgumentException se a conta não for conhecida pelo provedor.
+     */
+    public SyncPayTenantClient getClient(String tenantId) {
+        return clients.get(tenantId, id -> {
+            SyncPayCredentialsProvider provider = credentialsProvider.getIfAvailable();
+            if (provider == null) {
+                throw new IllegalStateException("Nenhum SyncPayCredentialsProvider registrado para obter a conta " + id);
+            }
+
+            SyncPayCredentials credentials = provider.getCredentials(id);
+            if (credentials == null) {
+                throw new IllegalArgumentException("Conta SyncPay desconhecida: " + id);
+            }
+            return createClient(credentials);
+        });
+    }
+
+    /**
+     * Descarta o cliente de uma conta.
+     *
+     * @param tenantId O identificador da conta.
+     */
+    public void invalidate(String tenantId) {
+        clients.invalidate(tenantId);
+    }
+
+    /**
+     * Retorna o número aproximado de contas mantidas no registro.
+     *
+     * @return as contas mantidas.
+     */
+    public long getTenantCount() {
+        return clients.estimatedSize();
+    }
+
+    private SyncPayTenantClient createClient(SyncPayCredentials credentials) {
+        AccessTokenManager accessTokenManager = new AccessTokenManager(
+                () -> authenticationService.authenticateAsync(credentials.clientId(), credentials.clientSecret()),
+                authProperties.getRefreshSkew(),
+                authProperties.getDefaultTokenTtl(),
+                Clock.systemUTC()
+        );
+
+        WebClient tenantWebClient = webClient.mutate()
+                .defaultRequest(request -> request.attribute(AccessTokenExchangeFilter.ACCESS_TOKEN_MANAGER_ATTRIBUTE, accessTokenManager))
+                .build();
+
+        return new SyncPayTenantClient(
+                credentials,
+                accessTokenManager,
+                new PixService(tenantWebClient, batchProperties, requestValidator),
+                new TransactionService(tenantWebClient, batchProperties, cacheProperties, watcherProperties, stateStore),
+                new WebhookService(tenantWebClient, webhookRegistryProperties)
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package tech.techsete.sync_pay_sdk.tenants;
+
+import tech.techsete.sync_pay_sdk.domain.SyncPayCredentials;
+
+/**
+ * Fonte das credenciais das contas atendidas pela aplicação.
+ * <p>
+ * Opcional. Quando registrado como bean, permite obter clientes do
+ * {@link SyncPayClientRegistry} apenas pelo identificador da conta, inclusive após a
+ * visão da conta ter sido descartada por ociosidade.
+ * </p>
+ */
+@FunctionalInterface
+public interface SyncPayCredentialsProvider {
+
+    /**
+     * Retorna as credenciais de uma conta.
+     *
+     * @param tenantId O identificador da conta.
+     * @return as credenciais da conta, ou {@code null} se a conta não for conhecida.
+     */
+    SyncPayCredentials getCredentials(String tenantId);
+}
@@ -0,0 +1,50 @@
+package tech.techsete.sync_pay_sdk.tenants;
+
+import lombok.Getter;
+import tech.techsete.sync_pay_sdk.auth.AccessTokenManager;
+import tech.techsete.sync_pay_sdk.domain.SyncPayCredentials;
+import tech.techsete.sync_pay_sdk.services.PixService;
+import tech.techsete.sync_pay_sdk.services.TransactionService;
+import tech.techsete.sync_pay_sdk.services.WebhookService;
+
+/**
+ * Visão dos serviços do SDK para uma conta SyncPay.
+ * <p>
+ * Os serviços utilizam um {@code WebClient} derivado do {@code syncPayWebClient}, que
+ * compartilha o pool de conexões, os codecs e os filtros do SDK, mas autentica as
+ * requisições com o {@link AccessTokenManager} da conta.
+ * </p>
+ *
+ * @see SyncPayClientRegistry
+ */
+@Getter
+public class SyncPayTenantClient {
+
+    private final SyncPayCredentials credentials;
+    private final AccessTokenManager accessTokenManager;
+    private final PixService pixService;
+    private final TransactionService transactionService;
+    private final WebhookService webhookService;
+
+    SyncPayTenantClient(SyncPayCredentials credentials,
+                        AccessTokenManager accessTokenManager,
+                        PixService pixService,
+                        TransactionService transactionService,
+                        WebhookService webhookService
+    ) {
+        this.credentials = credentials;
+        this.accessTokenManager = accessTokenManager;
+        this.pixService = pixService;
+        this.transactionService = transactionService;
+        this.webhookService = webhookService;
+    }
+
+    /**
+     * Retorna o identificador da conta.
+     *
+     * @return o identificador da conta.
+     */
+    public String getTenantId() {
+        return credentials.tenantId();
+    }
+}
@@ -0,0 +1,107 @@
+package tech.techsete.sync_pay_sdk.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import tech.techsete.sync_pay_sdk.properties.SyncPayHttpProperties;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transporte sobre o {@link HttpClient} do JDK.
+ * <p>
+ * Indicado para aplicações que usam principalmente os métodos síncronos dos serviços: as
+ * respostas são processadas no executor do cliente, e não em um event loop compartilhado. Com
+ * {@code syncpay.http.virtual-threads} e Java 21 ou superior, o executor cria uma thread
+ * virtual por tarefa; nas demais versões, é utilizado um executor de threads daemon
+ * reaproveitáveis. O executor atende apenas o processamento interno do cliente: a espera de um
+ * método síncrono continua na thread chamadora, que só custa uma thread virtual estacionada se
+ * ela própria for virtual. Os métodos síncronos falham com {@link IllegalStateException} quando
+ * chamados de uma thread não bloqueante, como o event loop que recebe os webhooks.
+ * </p>
+ * <p>
+ * O tempo limite de conexão e de resposta seguem {@link SyncPayHttpProperties}. O pool de
+ * conexões é gerenciado pelo próprio JDK, e as propriedades de pool do Reactor Netty não se
+ * aplicam a este transporte.
+ * </p>
+ */
+@Slf4j
+public class JdkHttpClientTransport implements SyncPayTransport {
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final ClientHttpConnector connector;
+
+    /**
+     * Cria o transporte a partir das propriedades informadas.
+     *
+     * @param httpProperties As propriedades HTTP do SDK.
+     */
+    public JdkHttpClientTransport(SyncPayHttpProperties httpProperties) {
+        ExecutorService virtualExecutor = httpProperties.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+        this.virtualThreads = virtualExecutor != null;
+        this.executor = virtualExecutor != null ? virtualExecutor : Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(httpProperties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+
+        JdkClientHttpConnector jdkConnector = new JdkClientHttpConnector(httpClient);
+        jdkConnector.setReadTimeout(httpProperties.getResponseTimeout());
+        this.connector = jdkConnector;
+    }
+
+    /**
+     * Indica se o executor do cliente utiliza threads virtuais.
+     *
+     * @return {@code true} se as threads virtuais estiverem em uso.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public String getName() {
+        return virtualThreads ? "jdk-virtual-threads" : "jdk";
+    }
+
+    @Override
+    public ClientHttpConnector getConnector() {
+        return connector;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Cria o executor de threads virtuais por reflexão, já que o SDK é compilado para Java 17.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Threads virtuais indisponíveis nesta JVM; utilizando threads de plataforma no transporte JDK");
+            return null;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "syncpay-jdk-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package tech.techsete.sync_pay_sdk.transport;
+
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Transporte sobre o Reactor Netty, o padrão do SDK.
+ * <p>
+ * As respostas são processadas nas threads de I/O do Netty. Os métodos síncronos dos
+ * serviços bloqueiam a thread chamadora até a resposta, e não podem ser chamados a partir
+ * dessas threads.
+ * </p>
+ */
+public class ReactorNettyTransport implements SyncPayTransport {
+
+    private final ClientHttpConnector connector;
+
+    /**
+     * Cria o transporte sobre o cliente informado. O pool de conexões do cliente pertence
+     * a quem o criou e não é liberado por este transporte.
+     *
+     * @param httpClient O cliente HTTP do Reactor Netty.
+     */
+    public ReactorNettyTransport(HttpClient httpClient) {
+        this.connector = new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Override
+    public String getName() {
+        return "reactor-netty";
+    }
+
+    @Override
+    public ClientHttpConnector getConnector() {
+        return connector;
+    }
+}
@@ -0,0 +1,39 @@
+package tech.techsete.sync_pay_sdk.transport;
+
+import org.springframework.http.client.reactive.ClientHttpConnector;
+
+/**
+ * Transporte HTTP utilizado pelo {@code syncPayWebClient}.
+ * <p>
+ * O transporte fornece apenas o {@link ClientHttpConnector}; filtros, codecs, autenticação e
+ * métricas continuam no {@code WebClient} e valem para qualquer implementação. O SDK oferece
+ * {@link ReactorNettyTransport} e {@link JdkHttpClientTransport}, escolhidos por
+ * {@code syncpay.http.transport}; aplicações podem registrar o próprio bean desta interface
+ * para substituí-los.
+ * </p>
+ *
+ * @see tech.techsete.sync_pay_sdk.properties.SyncPayHttpProperties
+ */
+public interface SyncPayTransport extends AutoCloseable {
+
+    /**
+     * Retorna o nome do transporte, utilizado nos logs.
+     *
+     * @return o nome do transporte.
+     */
+    String getName();
+
+    /**
+     * Retorna o conector HTTP deste transporte.
+     *
+     * @return o conector HTTP.
+     */
+    ClientHttpConnector getConnector();
+
+    /**
+     * Libera os recursos próprios do transporte. Por padrão, não faz nada.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,75 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Verificação de chaves PIX com cache das chaves válidas.
+ * <p>
+ * Cada tipo de chave tem o seu próprio cache, limitado a {@code maximumSize} entradas, de forma
+ * que a consulta não aloca uma chave composta. Apenas chaves válidas são mantidas em cache;
+ * chaves inválidas são sempre verificadas de novo por {@link PixKeys}.
+ * </p>
+ *
+ * @see PixKeys
+ */
+public class PixKeyValidator {
+
+    private final Map<PixKeyType, Cache<String, String>> caches;
+
+    /**
+     * Cria o validador.
+     *
+     * @param maximumSize Número máximo de chaves em cache por tipo de chave; {@code 0} desabilita o cache.
+     */
+    public PixKeyValidator(long maximumSize) {
+        this.caches = new EnumMap<>(PixKeyType.class);
+        if (maximumSize > 0) {
+            for (PixKeyType type : PixKeyType.values()) {
+                caches.put(type, Caffeine.newBuilder().maximumSize(maximumSize).build());
+            }
+        }
+    }
+
+    /**
+     * Normaliza a chave para o tipo informado.
+     *
+     * @param type O tipo da chave.
+     * @param key  A chave.
+     * @return a chave normalizada, ou {@code null} se a chave ou o tipo forem inválidos.
+     */
+    public String normalize(PixKeyType type, String key) {
+        if (type == null || key == null) {
+            return null;
+        }
+
+        Cache<String, String> cache = caches.get(type);
+        if (cache == null) {
+            return PixKeys.normalize(type, key);
+        }
+
+        String normalized = cache.getIfPresent(key);
+        if (normalized == null) {
+            normalized = PixKeys.normalize(type, key);
+            if (normalized != null) {
+                cache.put(key, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Verifica se a chave é válida para o tipo informado.
+     *
+     * @param type O tipo da chave.
+     * @param key  A chave.
+     * @return {@code true} se a chave for válida.
+     */
+    public boolean isValid(PixKeyType type, String key) {
+        return normalize(type, key) != null;
+    }
+}
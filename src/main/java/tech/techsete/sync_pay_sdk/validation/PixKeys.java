@@ -0,0 +1,146 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+
+import java.util.Locale;
+
+/**
+ * Verificação e normalização de chaves PIX conforme o {@link PixKeyType}.
+ * <p>
+ * Formas normalizadas, as mesmas registradas no DICT:
+ * </p>
+ * <ul>
+ *     <li>{@link PixKeyType#CPF} e {@link PixKeyType#CNPJ}: apenas os dígitos, com dígitos
+ *     verificadores corretos; a pontuação é aceita na entrada;</li>
+ *     <li>{@link PixKeyType#EMAIL}: em minúsculas, com até 77 caracteres;</li>
+ *     <li>{@link PixKeyType#PHONE}: no formato E.164 ({@code +5511999999999}); números sem código
+ *     de país são considerados brasileiros, e espaços, parênteses, pontos e hífens são ignorados;</li>
+ *     <li>{@link PixKeyType#EVP}: UUID em minúsculas, com hífens.</li>
+ * </ul>
+ * <p>
+ * Espaços nas extremidades são removidos antes da verificação.
+ * </p>
+ */
+public final class PixKeys {
+
+    private static final int MAX_EMAIL_LENGTH = 77;
+    private static final int MAX_E164_DIGITS = 15;
+    private static final int UUID_LENGTH = 36;
+
+    private PixKeys() { }
+
+    /**
+     * Verifica se a chave é válida para o tipo informado.
+     *
+     * @param type O tipo da chave.
+     * @param key  A chave.
+     * @return {@code true} se a chave for válida.
+     */
+    public static boolean isValid(PixKeyType type, String key) {
+        return normalize(type, key) != null;
+    }
+
+    /**
+     * Normaliza a chave para o tipo informado.
+     *
+     * @param type O tipo da chave.
+     * @param key  A chave.
+     * @return a chave normalizada, ou {@code null} se a chave ou o tipo forem inválidos.
+     */
+    public static String normalize(PixKeyType type, String key) {
+        if (type == null || key == null) {
+            return null;
+        }
+        String value = key.strip();
+        return switch (type) {
+            case CPF -> TaxIds.isValidCpf(value) ? digits(value) : null;
+            case CNPJ -> TaxIds.isValidCnpj(value) ? digits(value) : null;
+            case EMAIL -> normalizeEmail(value);
+            case PHONE -> normalizePhone(value);
+            case EVP -> normalizeEvp(value);
+        };
+    }
+
+    private static String normalizeEmail(String value) {
+        if (value.length() > MAX_EMAIL_LENGTH || !RequestValidator.isEmail(value)) {
+            return null;
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Converte o telefone para E.164. Números brasileiros devem ter DDD sem zeros e, com nove
+     * dígitos, começar por 9.
+     */
+    private static String normalizePhone(String value) {
+        StringBuilder digits = new StringBuilder(MAX_E164_DIGITS + 1).append('+');
+        boolean international = false;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c == '+' && i == 0) {
+                international = true;
+            } else if (c != ' ' && c != '(' && c != ')' && c != '-' && c != '.') {
+                return null;
+            }
+        }
+
+        int length = digits.length() - 1;
+        if (!international && (length == 10 || length == 11)) {
+            digits.insert(1, "55");
+            length += 2;
+        }
+        if (length < 2 || length > MAX_E164_DIGITS || digits.charAt(1) == '0') {
+            return null;
+        }
+
+        if (digits.charAt(1) == '5' && digits.charAt(2) == '5') {
+            int national = length - 2;
+            if ((national != 10 && national != 11)
+                    || digits.charAt(3) == '0' || digits.charAt(4) == '0'
+                    || (national == 11 && digits.charAt(5) != '9')) {
+                return null;
+            }
+        }
+        return digits.toString();
+    }
+
+    private static String normalizeEvp(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return null;
+        }
+        boolean lowerCase = true;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+            } else if (c >= 'A' && c <= 'F') {
+                lowerCase = false;
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return null;
+            }
+        }
+        return lowerCase ? value : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String digits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                StringBuilder digits = new StringBuilder(value.length());
+                for (int j = 0; j < value.length(); j++) {
+                    char d = value.charAt(j);
+                    if (d >= '0' && d <= '9') {
+                        digits.append(d);
+                    }
+                }
+                return digits.toString();
+            }
+        }
+        return value;
+    }
+}
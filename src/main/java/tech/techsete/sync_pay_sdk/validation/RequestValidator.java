@@ -0,0 +1,473 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+
+/**
+ * Validador de requisições compilado a partir das anotações de Jakarta Validation.
+ * <p>
+ * As anotações de cada classe são lidas uma única vez, em {@link #compile(Class, String)}, e
+ * convertidas em regras com acesso direto aos campos. Propriedades anotadas com
+ * {@link Valid} são validadas em cascata, inclusive os elementos de listas. A validação de
+ * uma requisição válida aloca apenas os {@link Matcher} das restrições {@link Pattern}, e a
+ * de uma requisição inválida retorna todas as violações de uma vez.
+ * </p>
+ * <p>
+ * Anotações suportadas: {@link NotNull}, {@link NotEmpty}, {@link NotBlank}, {@link Email},
+ * {@link Pattern}, {@link Min}, {@link Max}, {@link Positive}, {@link PositiveOrZero},
+ * {@link CPF} e {@link CNPJ}. Qualquer outra anotação de restrição faz a compilação falhar,
+ * para que nenhuma regra declarada deixe de ser aplicada sem aviso.
+ * </p>
+ *
+ * @param <T> O tipo da requisição.
+ */
+public final class RequestValidator<T> {
+
+    private final String nullMessage;
+    private final Node node;
+    private final List<BiFunction<T, List<Violation>, List<Violation>>> rules;
+
+    private RequestValidator(String nullMessage, Node node, List<BiFunction<T, List<Violation>, List<Violation>>> rules) {
+        this.nullMessage = nullMessage;
+        this.node = node;
+        this.rules = rules;
+    }
+
+    /**
+     * Compila o validador de uma classe.
+     *
+     * @param type        A classe da requisição.
+     * @param nullMessage A mensagem da violação de requisição nula.
+     * @param <T>         O tipo da requisição.
+     * @return o validador compilado.
+     * @throws IllegalStateException se a classe utilizar uma restrição não suportada.
+     */
+    public static <T> RequestValidator<T> compile(Class<T> type, String nullMessage) {
+        return new RequestValidator<>(nullMessage, compileNode(type), List.of());
+    }
+
+    /**
+     * Cria um validador com uma regra adicional, aplicada depois das anotações e apenas a
+     * requisições não nulas. A regra recebe a lista de violações acumulada, possivelmente
+     * {@code null}, e retorna a lista com as suas violações, utilizando {@link #add}.
+     *
+     * @param rule A regra adicional.
+     * @return um novo validador.
+     */
+    public RequestValidator<T> withRule(BiFunction<T, List<Violation>, List<Violation>> rule) {
+        List<BiFunction<T, List<Violation>, List<Violation>>> combined = new ArrayList<>(rules);
+        combined.add(rule);
+        return new RequestValidator<>(nullMessage, node, List.copyOf(combined));
+    }
+
+    /**
+     * Valida uma requisição.
+     *
+     * @param request A requisição.
+     * @return as violações encontradas, ou uma lista vazia se a requisição for válida.
+     */
+    public List<Violation> validate(T request) {
+        if (request == null) {
+            return List.of(new Violation("", nullMessage));
+        }
+
+        List<Violation> violations = node.validate(request, null);
+        for (BiFunction<T, List<Violation>, List<Violation>> rule : rules) {
+            violations = rule.apply(request, violations);
+        }
+        return violations == null ? List.of() : Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Valida um lote de requisições.
+     *
+     * @param requests As requisições.
+     * @return as violações de cada requisição inválida, pela posição no lote; vazio se todas
+     * forem válidas.
+     */
+    public Map<Integer, List<Violation>> validateAll(List<? extends T> requests) {
+        Map<Integer, List<Violation>> invalid = null;
+        for (int i = 0; i < requests.size(); i++) {
+            List<Violation> violations = validate(requests.get(i));
+            if (!violations.isEmpty()) {
+                if (invalid == null) {
+                    invalid = new LinkedHashMap<>();
+                }
+                invalid.put(i, violations);
+            }
+        }
+        return invalid == null ? Map.of() : Collections.unmodifiableMap(invalid);
+    }
+
+    /**
+     * Adiciona uma violação à lista, criando-a se necessário.
+     *
+     * @param violations A lista acumulada, possivelmente {@code null}.
+     * @param path       O caminho da propriedade.
+     * @param message    A mensagem da violação.
+     * @return a lista com a violação.
+     */
+    public static List<Violation> add(List<Violation> violations, String path, String message) {
+        List<Violation> result = violations != null ? violations : new ArrayList<>(4);
+        result.add(new Violation(path, message));
+        return result;
+    }
+
+    /**
+     * Verificação de endereços de e-mail equivalente à do Hibernate Validator para os casos
+     * usuais: parte local de até 64 caracteres, sem pontos nas extremidades ou repetidos, e
+     * domínio com rótulos de letras, dígitos e hífens. Um valor vazio não é um endereço; assim
+     * como no Hibernate Validator, a restrição {@link Email} o aceita antes desta verificação.
+     */
+    static boolean isEmail(CharSequence value) {
+        int at = -1;
+        for (int i = value.length() - 1; i >= 0; i--) {
+            if (value.charAt(i) == '@') {
+                at = i;
+                break;
+            }
+        }
+        if (at <= 0 || at > 64 || at == value.length() - 1 || value.length() - at - 1 > 255) {
+            return false;
+        }
+
+        char previous = '.';
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (previous == '.') {
+                    return false;
+                }
+            } else if (!Character.isLetterOrDigit(c) && "!#$%&'*+/=?^_`{|}~-".indexOf(c) < 0) {
+                return false;
+            }
+            previous = c;
+        }
+        if (previous == '.') {
+            return false;
+        }
+
+        int labelLength = 0;
+        previous = '.';
+        for (int i = at + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0 || previous == '-') {
+                    return false;
+                }
+                labelLength = 0;
+            } else if (Character.isLetterOrDigit(c) || (c == '-' && labelLength > 0)) {
+                if (++labelLength > 63) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return labelLength > 0 && previous != '-';
+    }
+
+    private static Node compileNode(Class<?> type) {
+        List<Property> properties = new ArrayList<>();
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access " + type.getName(), e);
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            List<Constraint> constraints = new ArrayList<>();
+            for (Annotation annotation : field.getAnnotations()) {
+                Constraint constraint = Constraint.of(annotation);
+                if (constraint != null) {
+                    constraints.add(constraint);
+                }
+            }
+
+            Node nested = null;
+            boolean elements = false;
+            if (field.isAnnotationPresent(Valid.class)) {
+                elements = Collection.class.isAssignableFrom(field.getType());
+                nested = compileNode(elements ? elementType(field) : field.getType());
+            }
+
+            if (constraints.isEmpty() && nested == null) {
+                continue;
+            }
+
+            MethodHandle getter;
+            try {
+                getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access " + type.getName() + "." + field.getName(), e);
+            }
+            properties.add(new Property(field.getName(), getter, constraints.toArray(new Constraint[0]), nested, elements));
+        }
+        return new Node(properties.toArray(new Property[0]));
+    }
+
+    private static Class<?> elementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element;
+        }
+        throw new IllegalStateException("Cannot resolve element type of " + field);
+    }
+
+    /**
+     * Regras compiladas de uma classe.
+     */
+    private record Node(Property[] properties) {
+
+        /**
+         * Valida um objeto, com caminhos relativos a ele. Os caminhos das violações de objetos
+         * em cascata recebem o prefixo da propriedade apenas quando há violação.
+         */
+        private List<Violation> validate(Object target, List<Violation> violations) {
+            for (Property property : properties) {
+                Object value = property.get(target);
+
+                for (Constraint constraint : property.constraints) {
+                    if (!constraint.isValid(value)) {
+                        violations = add(violations, property.name, constraint.message);
+                    }
+                }
+
+                if (property.nested == null || value == null) {
+                    continue;
+                }
+                if (!property.elements) {
+                    violations = validateNested(property, value, -1, violations);
+                    continue;
+                }
+
+                List<?> list = value instanceof List<?> l ? l : List.copyOf((Collection<?>) value);
+                for (int i = 0; i < list.size(); i++) {
+                    Object element = list.get(i);
+                    if (element != null) {
+                        violations = validateNested(property, element, i, violations);
+                    }
+                }
+            }
+            return violations;
+        }
+
+        private static List<Violation> validateNested(Property property, Object value, int index, List<Violation> violations) {
+            int before = violations == null ? 0 : violations.size();
+            List<Violation> result = property.nested.validate(value, violations);
+            if (result == null || result.size() == before) {
+                return result;
+            }
+
+            String prefix = index < 0 ? property.name + "." : property.name + "[" + index + "].";
+            for (int i = before; i < result.size(); i++) {
+                Violation violation = result.get(i);
+                result.set(i, new Violation(prefix + violation.path(), violation.message()));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Propriedade com restrições ou validada em cascata.
+     */
+    private record Property(String name, MethodHandle getter, Constraint[] constraints, Node nested, boolean elements) {
+
+        private Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read " + name, e);
+            }
+        }
+    }
+
+    /**
+     * Restrição compilada a partir de uma anotação.
+     */
+    private abstract static class Constraint {
+
+        private final String message;
+
+        private Constraint(String message) {
+            this.message = message;
+        }
+
+        abstract boolean isValid(Object value);
+
+        private static Constraint of(Annotation annotation) {
+            if (annotation instanceof NotNull a) {
+                return new Constraint(message(a.message(), "must not be null")) {
+                    boolean isValid(Object value) {
+                        return value != null;
+                    }
+                };
+            }
+            if (annotation instanceof NotEmpty a) {
+                return new Constraint(message(a.message(), "must not be empty")) {
+                    boolean isValid(Object value) {
+                        if (value instanceof CharSequence text) {
+                            return text.length() > 0;
+                        }
+                        if (value instanceof Collection<?> collection) {
+                            return !collection.isEmpty();
+                        }
+                        return value != null;
+                    }
+                };
+            }
+            if (annotation instanceof NotBlank a) {
+                return new Constraint(message(a.message(), "must not be blank")) {
+                    boolean isValid(Object value) {
+                        return value instanceof CharSequence text && !isBlank(text);
+                    }
+                };
+            }
+            if (annotation instanceof Email a) {
+                return new Constraint(message(a.message(), "must be a well-formed email address")) {
+                    boolean isValid(Object value) {
+                        return value == null || ((CharSequence) value).isEmpty() || RequestValidator.isEmail((CharSequence) value);
+                    }
+                };
+            }
+            if (annotation instanceof Pattern a) {
+                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(a.regexp());
+                return new Constraint(message(a.message(), "must match \"" + a.regexp() + "\"")) {
+                    boolean isValid(Object value) {
+                        if (value == null) {
+                            return true;
+                        }
+                        Matcher matcher = pattern.matcher((CharSequence) value);
+                        return matcher.matches();
+                    }
+                };
+            }
+            if (annotation instanceof Min a) {
+                long min = a.value();
+                return new Constraint(message(a.message(), "must be greater than or equal to " + min)) {
+                    boolean isValid(Object value) {
+                        return value == null || compare((Number) value, min) >= 0;
+                    }
+                };
+            }
+            if (annotation instanceof Max a) {
+                long max = a.value();
+                return new Constraint(message(a.message(), "must be less than or equal to " + max)) {
+                    boolean isValid(Object value) {
+                        return value == null || compare((Number) value, max) <= 0;
+                    }
+                };
+            }
+            if (annotation instanceof Positive a) {
+                return new Constraint(message(a.message(), "must be greater than 0")) {
+                    boolean isValid(Object value) {
+                        return value == null || signum((Number) value) > 0;
+                    }
+                };
+            }
+            if (annotation instanceof PositiveOrZero a) {
+                return new Constraint(message(a.message(), "must be greater than or equal to 0")) {
+                    boolean isValid(Object value) {
+                        return value == null || signum((Number) value) >= 0;
+                    }
+                };
+            }
+            if (annotation instanceof CPF a) {
+                return new Constraint(message(a.message(), "invalid Brazilian individual taxpayer registry number (CPF)")) {
+                    boolean isValid(Object value) {
+                        return isEmpty(value) || TaxIds.isValidCpf((CharSequence) value);
+                    }
+                };
+            }
+            if (annotation instanceof CNPJ a) {
+                return new Constraint(message(a.message(), "invalid Brazilian corporate taxpayer registry number (CNPJ)")) {
+                    boolean isValid(Object value) {
+                        return isEmpty(value) || TaxIds.isValidCnpj((CharSequence) value);
+                    }
+                };
+            }
+
+            if (annotation.annotationType().isAnnotationPresent(jakarta.validation.Constraint.class)) {
+                throw new IllegalStateException("Unsupported constraint " + annotation.annotationType().getName());
+            }
+            return null;
+        }
+
+        private static String message(String message, String defaultMessage) {
+            return message.startsWith("{") ? defaultMessage : message;
+        }
+
+        private static boolean isEmpty(Object value) {
+            return value == null || ((CharSequence) value).length() == 0;
+        }
+
+        private static boolean isBlank(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (!Character.isWhitespace(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int signum(Number value) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal.signum();
+            }
+            if (value instanceof BigInteger integer) {
+                return integer.signum();
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return (int) Math.signum(value.doubleValue());
+            }
+            return Long.signum(value.longValue());
+        }
+
+        private static int compare(Number value, long bound) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal.compareTo(BigDecimal.valueOf(bound));
+            }
+            if (value instanceof BigInteger integer) {
+                return integer.compareTo(BigInteger.valueOf(bound));
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return Double.compare(value.doubleValue(), bound);
+            }
+            return Long.compare(value.longValue(), bound);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import org.springframework.stereotype.Component;
+import tech.techsete.sync_pay_sdk.dtos.request.CashInRequest;
+import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
+import tech.techsete.sync_pay_sdk.enums.DocumentType;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+import tech.techsete.sync_pay_sdk.exceptions.InvalidCashInRequestException;
+import tech.techsete.sync_pay_sdk.exceptions.InvalidCashOutRequestException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayValidationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validação das requisições de Cash-In e Cash-Out antes do envio à API SyncPay.
+ * <p>
+ * As regras vêm das anotações de {@link CashInRequest}, {@link CashOutRequest} e das suas
+ * classes internas, compiladas uma única vez por {@link RequestValidator}. Ao Cash-In soma-se
+ * a regra de que os percentuais dos splits não podem ultrapassar 100%. No Cash-Out, a chave PIX
+ * é verificada conforme o {@link PixKeyType} e o número do documento conforme o
+ * {@link DocumentType}, para que pagamentos com dados malformados sejam recusados localmente,
+ * sem uma chamada à API.
+ * </p>
+ *
+ * @see RequestValidator
+ * @see PixKeyValidator
+ * @see SyncPayValidationProperties
+ */
+@Component("syncPayRequestValidator")
+public class SyncPayRequestValidator {
+
+    private final RequestValidator<CashInRequest> cashInValidator =
+            RequestValidator.compile(CashInRequest.class, "Cash in request cannot be null")
+                    .withRule(SyncPayRequestValidator::validateSplitSum);
+
+    private final RequestValidator<CashOutRequest> cashOutValidator;
+    private final PixKeyValidator pixKeyValidator;
+    private final boolean normalizePixKeys;
+
+    /**
+     * Cria o validador a partir das propriedades informadas.
+     *
+     * @param validationProperties As propriedades da validação.
+     */
+    public SyncPayRequestValidator(SyncPayValidationProperties validationProperties) {
+        this.pixKeyValidator = new PixKeyValidator(validationProperties.getPixKeyCacheSize());
+        this.normalizePixKeys = validationProperties.isNormalizePixKeys();
+        this.cashOutValidator = RequestValidator.compile(CashOutRequest.class, "Cash out request cannot be null")
+                .withRule(this::validatePixKey)
+                .withRule(SyncPayRequestValidator::validateDocument);
+    }
+
+    /**
+     * Valida uma requisição de Cash-In.
+     *
+     * @param cashInRequest A requisição.
+     * @return as violações encontradas, ou uma lista vazia se a requisição for válida.
+     */
+    public List<Violation> validate(CashInRequest cashInRequest) {
+        return cashInValidator.validate(cashInRequest);
+    }
+
+    /**
+     * Valida uma requisição de Cash-Out.
+     *
+     * @param cashOutRequest A requisição.
+     * @return as violações encontradas, ou uma lista vazia se a requisição for válida.
+     */
+    public List<Violation> validate(CashOutRequest cashOutRequest) {
+        return cashOutValidator.validate(cashOutRequest);
+    }
+
+    /**
+     * Valida um lote de requisições de Cash-In.
+     *
+     * @param cashInRequests As requisições.
+     * @return as violações de cada requisição inválida, pela posição no lote.
+     */
+    public Map<Integer, List<Violation>> validateCashIns(List<CashInRequest> cashInRequests) {
+        return cashInValidator.validateAll(cashInRequests);
+    }
+
+    /**
+     * Valida um lote de requisições de Cash-Out.
+     *
+     * @param cashOutRequests As requisições.
+     * @return as violações de cada requisição inválida, pela posição no lote.
+     */
+    public Map<Integer, List<Violation>> validateCashOuts(List<CashOutRequest> cashOutRequests) {
+        return cashOutValidator.validateAll(cashOutRequests);
+    }
+
+    /**
+     * Exige que uma requisição de Cash-In seja válida.
+     *
+     * @param cashInRequest A requisição.
+     * @throws InvalidCashInRequestException com todas as violações, se a requisição for inválida.
+     */
+    public void requireValid(CashInRequest cashInRequest) {
+        List<Violation> violations = cashInValidator.validate(cashInRequest);
+        if (!violations.isEmpty()) {
+            throw new InvalidCashInRequestException(violations);
+        }
+    }
+
+    /**
+     * Exige que uma requisição de Cash-Out seja válida e retorna a requisição a ser enviada.
+     * <p>
+     * Com {@code syncpay.validation.normalize-pix-keys} habilitado e uma chave PIX fora da forma
+     * normalizada (ver {@link PixKeys}), retorna uma cópia da requisição com a chave normalizada;
+     * caso contrário, retorna a própria requisição. A requisição informada não é alterada.
+     * </p>
+     *
+     * @param cashOutRequest A requisição.
+     * @return a requisição a ser enviada à API.
+     * @throws InvalidCashOutRequestException com todas as violações, se a requisição for inválida.
+     */
+    public CashOutRequest requireValid(CashOutRequest cashOutRequest) {
+        List<Violation> violations = cashOutValidator.validate(cashOutRequest);
+        if (!violations.isEmpty()) {
+            throw new InvalidCashOutRequestException(violations);
+        }
+        if (!normalizePixKeys) {
+            return cashOutRequest;
+        }
+
+        String pixKey = pixKeyValidator.normalize(cashOutRequest.getPixKeyType(), cashOutRequest.getPixKey());
+        if (pixKey == null || pixKey.equals(cashOutRequest.getPixKey())) {
+            return cashOutRequest;
+        }
+        return CashOutRequest.builder()
+                .amount(cashOutRequest.getAmount())
+                .description(cashOutRequest.getDescription())
+                .pixKeyType(cashOutRequest.getPixKeyType())
+                .pixKey(pixKey)
+                .document(cashOutRequest.getDocument())
+                .build();
+    }
+
+    /**
+     * Normaliza uma chave PIX, consultando o cache de chaves já verificadas.
+     *
+     * @param type O tipo da chave.
+     * @param key  A chave.
+     * @return a chave normalizada, ou {@code null} se a chave ou o tipo forem inválidos.
+     */
+    public String normalizePixKey(PixKeyType type, String key) {
+        return pixKeyValidator.normalize(type, key);
+    }
+
+    private static List<Violation> validateSplitSum(CashInRequest cashInRequest, List<Violation> violations) {
+        List<CashInRequest.Split> splits = cashInRequest.getSplit();
+        if (splits == null || splits.isEmpty()) {
+            return violations;
+        }
+
+        int sum = 0;
+        for (CashInRequest.Split split : splits) {
+            if (split != null && split.getPercentage() != null) {
+                sum += split.getPercentage();
+            }
+        }
+        return sum > 100
+                ? RequestValidator.add(violations, "split", "Sum of split percentage cannot be greater than 100")
+                : violations;
+    }
+
+    private List<Violation> validatePixKey(CashOutRequest cashOutRequest, List<Violation> violations) {
+        PixKeyType type = cashOutRequest.getPixKeyType();
+        String key = cashOutRequest.getPixKey();
+        if (type == null || key == null || key.isEmpty() || pixKeyValidator.isValid(type, key)) {
+            return violations;
+        }
+        return RequestValidator.add(violations, "pixKey", "Pix key is not a valid " + type);
+    }
+
+    private static List<Violation> validateDocument(CashOutRequest cashOutRequest, List<Violation> violations) {
+        CashOutRequest.Document document = cashOutRequest.getDocument();
+        if (document == null || document.getType() == null || document.getNumber() == null || document.getNumber().isEmpty()) {
+            return violations;
+        }
+
+        boolean valid = switch (document.getType()) {
+            case CPF -> TaxIds.isValidCpf(document.getNumber());
+            case CNPJ -> TaxIds.isValidCnpj(document.getNumber());
+        };
+        return valid
+                ? violations
+                : RequestValidator.add(violations, "document.number", "Document number is not a valid " + document.getType());
+    }
+}
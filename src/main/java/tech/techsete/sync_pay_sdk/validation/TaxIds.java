@@ -0,0 +1,167 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+/**
+ * Verificação dos dígitos de CPF e CNPJ.
+ * <p>
+ * Os números são verificados em uma única passagem, sem alocações. Os formatos aceitos são
+ * os que passam por {@code @CPF} e {@code @CNPJ} do Hibernate Validator: o CPF apenas com
+ * dígitos, só com o hífen ({@code 123456789-09}) ou com a pontuação completa
+ * ({@code 123.456.789-09}), e o CNPJ apenas com dígitos ou com a pontuação completa
+ * ({@code 12.345.678/0001-95}). A expressão regular do Hibernate admite cada separador do CNPJ
+ * isoladamente, mas a sua verificação dos dígitos considera posições fixas, e por isso recusa as
+ * formas com pontuação parcial, como {@code 12.345678/0001-95}. Números com todos os dígitos
+ * iguais são recusados.
+ * </p>
+ */
+public final class TaxIds {
+
+    private static final int CPF_LENGTH = 11;
+    private static final int CNPJ_LENGTH = 14;
+
+    private TaxIds() { }
+
+    /**
+     * Verifica se o valor é um CPF válido.
+     *
+     * @param value O valor a verificar.
+     * @return {@code true} se o valor for um CPF com dígitos verificadores corretos.
+     */
+    public static boolean isValidCpf(CharSequence value) {
+        if (value == null || value.length() < CPF_LENGTH || value.length() > CPF_LENGTH + 3) {
+            return false;
+        }
+
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstCheck = -1;
+        int secondCheck = -1;
+        int firstDigit = -1;
+        boolean repeated = true;
+        int dots = 0;
+        boolean dash = false;
+        int index = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.' || c == '-') {
+                if (!isCpfSeparator(c, index) || !isDigit(value, i - 1)) {
+                    return false;
+                }
+                dots += c == '.' ? 1 : 0;
+                dash |= c == '-';
+                continue;
+            }
+            if (c < '0' || c > '9' || index == CPF_LENGTH) {
+                return false;
+            }
+
+            int digit = c - '0';
+            if (firstDigit < 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                repeated = false;
+            }
+
+            if (index < 9) {
+                firstSum += digit * (10 - index);
+                secondSum += digit * (11 - index);
+            } else if (index == 9) {
+                firstCheck = digit;
+                secondSum += digit * 2;
+            } else {
+                secondCheck = digit;
+            }
+            index++;
+        }
+
+        return index == CPF_LENGTH
+                && (dots == 0 || (dots == 2 && dash))
+                && !repeated
+                && firstCheck == checkDigit(firstSum)
+                && secondCheck == checkDigit(secondSum);
+    }
+
+    /**
+     * Verifica se o valor é um CNPJ válido.
+     *
+     * @param value O valor a verificar.
+     * @return {@code true} se o valor for um CNPJ com dígitos verificadores corretos.
+     */
+    public static boolean isValidCnpj(CharSequence value) {
+        if (value == null || value.length() < CNPJ_LENGTH || value.length() > CNPJ_LENGTH + 4) {
+            return false;
+        }
+
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstCheck = -1;
+        int secondCheck = -1;
+        int firstDigit = -1;
+        boolean repeated = true;
+        int separators = 0;
+        int index = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.' || c == '/' || c == '-') {
+                if (!isCnpjSeparator(c, index) || !isDigit(value, i - 1)) {
+                    return false;
+                }
+                separators++;
+                continue;
+            }
+            if (c < '0' || c > '9' || index == CNPJ_LENGTH) {
+                return false;
+            }
+
+            int digit = c - '0';
+            if (firstDigit < 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                repeated = false;
+            }
+
+            if (index < 12) {
+                firstSum += digit * (index < 4 ? 5 - index : 13 - index);
+                secondSum += digit * (index < 5 ? 6 - index : 14 - index);
+            } else if (index == 12) {
+                firstCheck = digit;
+                secondSum += digit * 2;
+            } else {
+                secondCheck = digit;
+            }
+            index++;
+        }
+
+        return index == CNPJ_LENGTH
+                && (separators == 0 || separators == 4)
+                && !repeated
+                && firstCheck == checkDigit(firstSum)
+                && secondCheck == checkDigit(secondSum);
+    }
+
+    private static boolean isCpfSeparator(char c, int digitsRead) {
+        return c == '.' ? digitsRead == 3 || digitsRead == 6 : digitsRead == 9;
+    }
+
+    private static boolean isCnpjSeparator(char c, int digitsRead) {
+        return switch (c) {
+            case '.' -> digitsRead == 2 || digitsRead == 5;
+            case '/' -> digitsRead == 8;
+            default -> digitsRead == 12;
+        };
+    }
+
+    private static boolean isDigit(CharSequence value, int index) {
+        if (index < 0) {
+            return false;
+        }
+        char c = value.charAt(index);
+        return c >= '0' && c <= '9';
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -0,0 +1,16 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+/**
+ * Violação de uma regra de validação de requisição.
+ *
+ * @param path    O caminho da propriedade, como {@code amount} ou {@code split[1].userId};
+ *                vazio para a própria requisição.
+ * @param message A mensagem da regra violada.
+ */
+public record Violation(String path, String message) {
+
+    @Override
+    public String toString() {
+        return path.isEmpty() ? message : path + ": " + message;
+    }
+}
@@ -0,0 +1,239 @@
+package tech.techsete.sync_pay_sdk.watchers;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.enums.TransactionStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWatcherProperties;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Monitoramento multiplexado de status de transações.
+ * <p>
+ * Em vez de um laço de consultas por transação, um único agendador percorre todas as
+ * transações monitoradas a cada {@code tick-interval} e consulta apenas as que estão
+ * vencidas, respeitando o limite global de consultas por segundo e de consultas em voo. As
+ * consultas em voo são contadas entre os ciclos: uma consulta lenta ocupa a sua vaga até
+ * terminar, e um ciclo só seleciona transações vencidas para as vagas livres.
+ * O intervalo de cada transação cresce com a idade do monitoramento, de forma que
+ * cobranças recentes são consultadas com frequência e as antigas, raramente.
+ * </p>
+ * <p>
+ * Assinantes de uma mesma transação compartilham as consultas. Cada assinante recebe o
+ * último status conhecido e, a partir daí, apenas mudanças de status; o fluxo termina ao
+ * atingir um {@link TransactionStatus} final. O monitoramento de uma transação é encerrado
+ * quando não restam assinantes, e o agendador para quando não há transações monitoradas.
+ * </p>
+ *
+ * @see SyncPayWatcherProperties
+ */
+@Slf4j
+public class TransactionWatcher {
+
+    private final Function<String, Mono<TransactionResponse>> fetcher;
+    private final long minIntervalNanos;
+    private final long maxIntervalNanos;
+    private final double ageFactor;
+    private final double requestsPerTick;
+    private final int maxConcurrency;
+    private final SyncPayWatcherProperties watcherProperties;
+
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private Disposable ticker;
+    private double requestAllowance;
+
+    /**
+     * Cria um monitor.
+     *
+     * @param fetcher           Função que consulta uma transação na API SyncPay.
+     * @param watcherProperties As propriedades do monitoramento.
+     */
+    public TransactionWatcher(Function<String, Mono<TransactionResponse>> fetcher,
+                              SyncPayWatcherProperties watcherProperties
+    ) {
+        this.fetcher = fetcher;
+        this.watcherProperties = watcherProperties;
+        this.minIntervalNanos = watcherProperties.getMinPollInterval().toNanos();
+        this.maxIntervalNanos = watcherProperties.getMaxPollInterval().toNanos();
+        this.ageFactor = watcherProperties.getAgeFactor();
+        this.requestsPerTick = watcherProperties.getMaxRequestsPerSecond()
+                * watcherProperties.getTickInterval().toNanos() / 1_000_000_000d;
+        this.maxConcurrency = watcherProperties.getMaxConcurrency();
+    }
+
+    /**
+     * Monitora o status de uma transação.
+     *
+     * @param id O identificador da transação.
+     * @return {@link Flux} que emite a transação a cada mudança de status e termina em status final.
+     */
+    public Flux<TransactionResponse> watch(String id) {
+        return Flux.defer(() -> {
+            Watch watch = subscribe(id);
+            ensureTicker();
+            return watch.sink.asFlux().doFinally(signal -> unsubscribe(watch));
+        });
+    }
+
+    /**
+     * Monitora o status de várias transações.
+     *
+     * @param ids Os identificadores das transações.
+     * @return {@link Flux} com as mudanças de status de todas as transações, terminando quando
+     * todas atingirem status final.
+     */
+    public Flux<TransactionResponse> watchAll(Collection<String> ids) {
+        return Flux.fromIterable(ids)
+                .distinct()
+                .flatMap(this::watch, Math.max(1, ids.size()));
+    }
+
+    /**
+     * Retorna o número de transações monitoradas.
+     *
+     * @return as transações monitoradas.
+     */
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    private Watch subscribe(String id) {
+        while (true) {
+            Watch watch = watches.computeIfAbsent(id, Watch::new);
+            synchronized (watch) {
+                if (!watch.closed) {
+                    watch.subscribers++;
+                    return watch;
+                }
+            }
+        }
+    }
+
+    private void unsubscribe(Watch watch) {
+        synchronized (watch) {
+            if (--watch.subscribers > 0) {
+                return;
+            }
+            watch.closed = true;
+        }
+        watches.remove(watch.id, watch);
+    }
+
+    private synchronized void ensureTicker() {
+        if (ticker == null) {
+            ticker = Flux.interval(watcherProperties.getTickInterval(), watcherProperties.getTickInterval())
+                    .onBackpressureDrop()
+                    .subscribe(tick -> onTick());
+        }
+    }
+
+    private synchronized boolean stopTickerIfIdle() {
+        if (watches.isEmpty() && ticker != null) {
+            ticker.dispose();
+            ticker = null;
+            requestAllowance = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private void onTick() {
+        if (stopTickerIfIdle()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        List<Watch> due = new ArrayList<>();
+        for (Watch watch : watches.values()) {
+            if (!watch.polling.get() && watch.nextPollNanos <= now) {
+                due.add(watch);
+            }
+        }
+
+        requestAllowance = Math.min(requestAllowance + requestsPerTick, Math.max(1, requestsPerTick));
+        int budget = Math.min((int) requestAllowance, maxConcurrency - inFlight.get());
+        if (due.isEmpty() || budget <= 0) {
+            return;
+        }
+
+        if (due.size() > budget) {
+            due.sort(Comparator.comparingLong(watch -> watch.nextPollNanos));
+            due = due.subList(0, budget);
+        }
+
+        List<Watch> polled = new ArrayList<>(due.size());
+        for (Watch watch : due) {
+            if (watch.polling.compareAndSet(false, true)) {
+                inFlight.incrementAndGet();
+                polled.add(watch);
+            }
+        }
+        requestAllowance -= polled.size();
+
+        Flux.fromIterable(polled)
+                .flatMap(this::poll, Math.max(1, polled.size()))
+                .subscribe();
+    }
+
+    private Mono<Void> poll(Watch watch) {
+        return Mono.defer(() -> fetcher.apply(watch.id))
+                .doOnNext(response -> onResponse(watch, response))
+                .doOnError(error -> log.debug("Falha ao consultar a transação {} monitorada: {}", watch.id, error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> {
+                    watch.nextPollNanos = System.nanoTime() + nextInterval(watch);
+                    watch.polling.set(false);
+                    inFlight.decrementAndGet();
+                })
+                .then();
+    }
+
+    private void onResponse(Watch watch, TransactionResponse response) {
+        TransactionStatus status = response.getData() != null ? response.getData().getStatus() : null;
+
+        if (status != null && status != watch.lastStatus) {
+            watch.lastStatus = status;
+            watch.sink.tryEmitNext(response);
+        }
+
+        if (status != null && status.isTerminal()) {
+            watch.sink.tryEmitComplete();
+            watches.remove(watch.id, watch);
+        }
+    }
+
+    private long nextInterval(Watch watch) {
+        long age = System.nanoTime() - watch.createdNanos;
+        long interval = (long) (age * ageFactor);
+        return Math.max(minIntervalNanos, Math.min(maxIntervalNanos, interval));
+    }
+
+    private static final class Watch {
+
+        private final String id;
+        private final long createdNanos = System.nanoTime();
+        private final Sinks.Many<TransactionResponse> sink = Sinks.many().replay().latest();
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile long nextPollNanos = createdNanos;
+        private volatile TransactionStatus lastStatus;
+        private int subscribers;
+        private boolean closed;
+
+        private Watch(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+
+/**
+ * Tratamento dos webhooks recebidos da SyncPay.
+ * <p>
+ * Beans deste tipo são registrados automaticamente no {@link WebhookDispatcher}. O handler é
+ * chamado fora da thread de I/O, depois que o recebimento já foi confirmado à SyncPay, e pode
+ * bloquear. Os eventos de uma mesma transação chegam em ordem e nunca em paralelo; eventos de
+ * transações diferentes podem ser tratados simultaneamente.
+ * </p>
+ *
+ * @see WebhookDispatcher
+ */
+@FunctionalInterface
+public interface SyncPayWebhookHandler {
+
+    /**
+     * Trata um evento.
+     *
+     * @param event O evento recebido.
+     * @throws Exception em caso de falha, registrada no log sem interromper os demais handlers.
+     */
+    void handle(WebhookEventRequest event) throws Exception;
+}
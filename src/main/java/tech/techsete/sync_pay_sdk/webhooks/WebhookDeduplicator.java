@@ -0,0 +1,290 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookDedupProperties;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detecção de webhooks repetidos com memória limitada.
+ * <p>
+ * A SyncPay reenvia um webhook até receber a confirmação, e o mesmo par identificador da
+ * transação e status pode chegar várias vezes. Em vez de guardar os identificadores, o
+ * deduplicador guarda um resumo de 64 bits de cada par em tabelas de {@code long} com
+ * endereçamento aberto, precedidas por filtros de Bloom que evitam consultar as tabelas para a
+ * maioria dos webhooks novos. A memória é alocada de uma vez, conforme o número esperado de
+ * webhooks por período de retenção, e não cresce com o volume recebido.
+ * </p>
+ * <p>
+ * O período de retenção é dividido em gerações: os webhooks são registrados na geração atual, e
+ * a cada {@code retention / 3} a geração mais antiga é descartada e uma nova passa a ser a atual.
+ * Um webhook é, assim, lembrado por no mínimo {@code retention}. As consultas e os registros
+ * não usam locks; entre duas entregas concorrentes do mesmo par, apenas uma é considerada nova.
+ * </p>
+ * <p>
+ * Um webhook novo só é tomado por repetido se o seu resumo coincidir com o de outro par, com
+ * probabilidade da ordem de {@code n / 2^64}. No sentido oposto, uma repetição pode passar
+ * despercebida quando a geração atual recebe mais webhooks do que o previsto, ou em uma corrida
+ * com a troca de geração.
+ * </p>
+ *
+ * @see SyncPayWebhookDedupProperties
+ * @see WebhookReceiver
+ */
+public class WebhookDeduplicator {
+
+    private static final int GENERATIONS = 4;
+    private static final int MAX_PROBES = 64;
+    private static final long EMPTY = 0L;
+    private static final long REMOVED = -1L;
+    private static final long SEED_1 = 0xcbf29ce484222325L;
+    private static final long SEED_2 = 0x84222325cbf29ce4L;
+    private static final long MULTIPLIER_1 = 0x100000001b3L;
+    private static final long MULTIPLIER_2 = 0x9e3779b97f4a7c15L;
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long generationNanos;
+    private final int expectedPerGeneration;
+    private final double falsePositiveRate;
+    private final AtomicLong nextRotation;
+    private volatile Generation[] generations;
+
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    /**
+     * Cria o deduplicador.
+     *
+     * @param dedupProperties As propriedades da eliminação de webhooks repetidos.
+     */
+    public WebhookDeduplicator(SyncPayWebhookDedupProperties dedupProperties) {
+        double falsePositiveRate = dedupProperties.getFalsePositiveRate();
+        if (dedupProperties.getRetention().isNegative() || dedupProperties.getRetention().isZero()
+                || dedupProperties.getExpectedInsertions() < 1
+                || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException(
+                    "Webhook dedup retention and expected insertions must be positive and false positive rate between 0 and 1");
+        }
+
+        this.generationNanos = Math.max(1, dedupProperties.getRetention().toNanos() / (GENERATIONS - 1));
+        this.expectedPerGeneration = Math.toIntExact(Math.min(1 << 28,
+                (dedupProperties.getExpectedInsertions() + GENERATIONS - 2) / (GENERATIONS - 1)));
+        this.falsePositiveRate = falsePositiveRate;
+        this.nextRotation = new AtomicLong(System.nanoTime() + generationNanos);
+
+        Generation[] generations = new Generation[GENERATIONS];
+        for (int i = 0; i < GENERATIONS; i++) {
+            generations[i] = new Generation(expectedPerGeneration, falsePositiveRate);
+        }
+        this.generations = generations;
+    }
+
+    /**
+     * Registra um webhook, indicando se o par já foi recebido no período de retenção.
+     *
+     * @param id     O identificador da transação.
+     * @param status O status do evento.
+     * @return {@code true} se o par é novo e foi registrado, ou {@code false} se é repetido.
+     */
+    public boolean register(CharSequence id, CharSequence status) {
+        long h1 = hash(id, status, SEED_1, MULTIPLIER_1);
+        long h2 = hash(id, status, SEED_2, MULTIPLIER_2) | 1L;
+        long fingerprint = fingerprint(h1, h2);
+
+        Generation[] generations = current();
+        for (int i = 1; i < generations.length; i++) {
+            if (generations[i].mightContain(h1, h2) && generations[i].contains(fingerprint)) {
+                duplicates.increment();
+                return false;
+            }
+        }
+
+        switch (generations[0].insert(fingerprint)) {
+            case PRESENT -> {
+                duplicates.increment();
+                return false;
+            }
+            case FULL -> overflows.increment();
+            default -> generations[0].addBloom(h1, h2);
+        }
+        return true;
+    }
+
+    /**
+     * Remove o registro de um par, para que a próxima entrega seja considerada nova. Utilizado
+     * quando o webhook registrado não pôde ser aceito e será reenviado pela SyncPay.
+     *
+     * @param id     O identificador da transação.
+     * @param status O status do evento.
+     */
+    public void forget(CharSequence id, CharSequence status) {
+        long h1 = hash(id, status, SEED_1, MULTIPLIER_1);
+        long h2 = hash(id, status, SEED_2, MULTIPLIER_2) | 1L;
+        long fingerprint = fingerprint(h1, h2);
+        for (Generation generation : generations) {
+            generation.remove(fingerprint);
+        }
+    }
+
+    /**
+     * Retorna o número de webhooks identificados como repetidos.
+     *
+     * @return os webhooks repetidos.
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Retorna o número de webhooks que não puderam ser registrados por excederem a capacidade
+     * da geração atual.
+     *
+     * @return os webhooks não registrados.
+     */
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    private Generation[] current() {
+        long now = System.nanoTime();
+        long next = nextRotation.get();
+        if (now - next >= 0) {
+            long elapsed = Math.min(GENERATIONS, (now - next) / generationNanos + 1);
+            if (nextRotation.compareAndSet(next, next + elapsed * generationNanos)) {
+                Generation[] previous = generations;
+                Generation[] rotated = new Generation[GENERATIONS];
+                for (int i = 0; i < GENERATIONS; i++) {
+                    rotated[i] = i < elapsed
+                            ? new Generation(expectedPerGeneration, falsePositiveRate)
+                            : previous[i - (int) elapsed];
+                }
+                generations = rotated;
+            }
+        }
+        return generations;
+    }
+
+    private static long hash(CharSequence id, CharSequence status, long seed, long multiplier) {
+        long hash = seed;
+        for (int i = 0, length = id.length(); i < length; i++) {
+            hash = (hash ^ id.charAt(i)) * multiplier;
+        }
+        hash = (hash ^ 0xffff_0000L) * multiplier;
+        for (int i = 0, length = status.length(); i < length; i++) {
+            hash = (hash ^ status.charAt(i)) * multiplier;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long fingerprint(long h1, long h2) {
+        long fingerprint = h1 ^ Long.rotateLeft(h2, 32);
+        return fingerprint == EMPTY || fingerprint == REMOVED ? 1L : fingerprint;
+    }
+
+    private enum Insertion {
+        INSERTED, PRESENT, FULL
+    }
+
+    /**
+     * Geração do deduplicador: filtro de Bloom e tabela de resumos com endereçamento aberto.
+     */
+    private static final class Generation {
+
+        private final long[] bloom;
+        private final long bloomMask;
+        private final int hashes;
+        private final long[] table;
+        private final int tableMask;
+
+        private Generation(int expected, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            long bloomBits = Math.max(Long.SIZE, Long.highestOneBit(Math.max(1, bits - 1)) << 1);
+            this.bloom = new long[Math.toIntExact(bloomBits / Long.SIZE)];
+            this.bloomMask = bloomBits - 1;
+            this.hashes = (int) Math.max(1, Math.round((double) bloomBits / expected * Math.log(2)));
+
+            int slots = Math.max(MAX_PROBES, Integer.highestOneBit(expected * 2 - 1) << 1);
+            this.table = new long[slots];
+            this.tableMask = slots - 1;
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) & bloomMask;
+                long word = (long) LONGS.getAcquire(bloom, (int) (bit >>> 6));
+                if ((word & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addBloom(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) & bloomMask;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if (((long) LONGS.getAcquire(bloom, index) & mask) == 0) {
+                    LONGS.getAndBitwiseOrRelease(bloom, index, mask);
+                }
+            }
+        }
+
+        private boolean contains(long fingerprint) {
+            int slot = slotOf(fingerprint);
+            for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & tableMask) {
+                long value = (long) LONGS.getAcquire(table, slot);
+                if (value == fingerprint) {
+                    return true;
+                }
+                if (value == EMPTY) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private Insertion insert(long fingerprint) {
+            int slot = slotOf(fingerprint);
+            for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & tableMask) {
+                long value = (long) LONGS.getAcquire(table, slot);
+                if (value == EMPTY) {
+                    value = (long) LONGS.compareAndExchange(table, slot, EMPTY, fingerprint);
+                    if (value == EMPTY) {
+                        return Insertion.INSERTED;
+                    }
+                }
+                if (value == fingerprint) {
+                    return Insertion.PRESENT;
+                }
+            }
+            return Insertion.FULL;
+        }
+
+        private void remove(long fingerprint) {
+            int slot = slotOf(fingerprint);
+            for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & tableMask) {
+                long value = (long) LONGS.getAcquire(table, slot);
+                if (value == fingerprint) {
+                    LONGS.compareAndSet(table, slot, fingerprint, REMOVED);
+                    return;
+                }
+                if (value == EMPTY) {
+                    return;
+                }
+            }
+        }
+
+        private int slotOf(long fingerprint) {
+            return (int) (fingerprint ^ (fingerprint >>> 32)) & tableMask;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import lombok.extern.slf4j.Slf4j;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.enums.WebhookOverflowPolicy;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookReceiverProperties;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega dos webhooks recebidos aos {@link SyncPayWebhookHandler} em um conjunto fixo de threads.
+ * <p>
+ * Cada thread tem a sua própria fila limitada, e cada evento é enfileirado na thread escolhida
+ * pelo identificador da transação. Assim, os eventos de uma mesma transação são tratados um a
+ * um, na ordem de chegada, enquanto transações diferentes são tratadas em paralelo. Um handler
+ * lento atrasa apenas as transações da sua thread.
+ * </p>
+ * <p>
+ * Quando a fila está cheia, o evento é recusado, descartado ou substitui o mais antigo, conforme
+ * o {@link WebhookOverflowPolicy}. No encerramento, novos eventos são recusados e os já
+ * enfileirados são tratados por até {@code shutdown-timeout}.
+ * </p>
+ *
+ * @see SyncPayWebhookReceiverProperties
+ */
+@Slf4j
+public class WebhookDispatcher implements AutoCloseable {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final List<SyncPayWebhookHandler> handlers;
+    private final WebhookOverflowPolicy overflowPolicy;
+    private final long shutdownTimeoutNanos;
+    private final Lane[] lanes;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Cria o distribuidor e inicia as suas threads.
+     *
+     * @param handlers           Os handlers iniciais.
+     * @param receiverProperties As propriedades do receptor de webhooks.
+     */
+    public WebhookDispatcher(List<SyncPayWebhookHandler> handlers, SyncPayWebhookReceiverProperties receiverProperties) {
+        if (receiverProperties.getWorkers() < 1 || receiverProperties.getQueueCapacity() < 1) {
+            throw new IllegalArgumentException("Webhook workers and queue capacity must be positive");
+        }
+
+        this.handlers = new CopyOnWriteArrayList<>(handlers);
+        this.overflowPolicy = receiverProperties.getOverflowPolicy();
+        this.shutdownTimeoutNanos = receiverProperties.getShutdownTimeout().toNanos();
+        this.lanes = new Lane[receiverProperties.getWorkers()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, receiverProperties.getQueueCapacity());
+            lanes[i].thread.start();
+        }
+    }
+
+    /**
+     * Registra um handler adicional.
+     *
+     * @param handler O handler.
+     */
+    public void register(SyncPayWebhookHandler handler) {
+        handlers.add(handler);
+    }
+
+    /**
+     * Enfileira um evento para tratamento.
+     *
+     * @param key   A chave de ordenação, normalmente o identificador da transação.
+     * @param event O evento.
+     * @return {@code false} se o evento não foi enfileirado, por encerramento ou por fila cheia
+     * com {@link WebhookOverflowPolicy#REJECT} ou {@link WebhookOverflowPolicy#DROP_NEWEST}.
+     */
+    public boolean dispatch(String key, WebhookEventRequest event) {
+        return dispatch(key, event, null);
+    }
+
+    /**
+     * Enfileira um evento para tratamento, com uma ação executada quando o evento é tratado.
+     *
+     * @param key        A chave de ordenação, normalmente o identificador da transação.
+     * @param event      O evento.
+     * @param onComplete Ação executada depois que todos os handlers trataram o evento; não é
+     *                   executada se o evento não for enfileirado ou for descartado. Pode ser {@code null}.
+     * @return {@code false} se o evento não foi enfileirado, por encerramento ou por fila cheia
+     * com {@link WebhookOverflowPolicy#REJECT} ou {@link WebhookOverflowPolicy#DROP_NEWEST}.
+     */
+    public boolean dispatch(String key, WebhookEventRequest event, Runnable onComplete) {
+        return dispatch(key, event, onComplete, null);
+    }
+
+    /**
+     * Enfileira um evento para tratamento, com ações executadas quando o evento é tratado ou
+     * descartado por fila cheia.
+     *
+     * @param key        A chave de ordenação, normalmente o identificador da transação.
+     * @param event      O evento.
+     * @param onComplete Ação executada depois que todos os handlers trataram o evento. Pode ser {@code null}.
+     * @param onDrop     Ação executada quando o evento é descartado sem ser tratado: de imediato,
+     *                   com {@link WebhookOverflowPolicy#DROP_NEWEST}, ou ao ser removido da fila
+     *                   para dar lugar a um novo, com {@link WebhookOverflowPolicy#DROP_OLDEST}.
+     *                   Pode ser {@code null}.
+     * @return {@code false} se o evento não foi enfileirado, por encerramento ou por fila cheia
+     * com {@link WebhookOverflowPolicy#REJECT} ou {@link WebhookOverflowPolicy#DROP_NEWEST}.
+     */
+    public boolean dispatch(String key, WebhookEventRequest event, Runnable onComplete, Runnable onDrop) {
+        if (closed) {
+            rejected.incrementAndGet();
+            return false;
+        }
+
+        BlockingQueue<Delivery> queue = lanes[laneOf(key)].queue;
+        Delivery delivery = new Delivery(event, onComplete, onDrop);
+        if (queue.offer(delivery)) {
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                do {
+                    Delivery oldest = queue.poll();
+                    if (oldest != null) {
+                        dropped.incrementAndGet();
+                        oldest.drop();
+                    }
+                } while (!queue.offer(delivery));
+                return true;
+            }
+            case DROP_NEWEST -> {
+                dropped.incrementAndGet();
+                delivery.drop();
+            }
+            default -> rejected.incrementAndGet();
+        }
+        return false;
+    }
+
+    /**
+     * Enfileira um evento para tratamento, aguardando espaço na fila em vez de aplicar o
+     * {@link WebhookOverflowPolicy}. Utilizado na reentrega de eventos do journal.
+     *
+     * @param key        A chave de ordenação, normalmente o identificador da transação.
+     * @param event      O evento.
+     * @param onComplete Ação executada depois que todos os handlers trataram o evento. Pode ser {@code null}.
+     * @return {@code false} se o distribuidor estiver encerrado.
+     * @throws InterruptedException se a espera for interrompida.
+     */
+    public boolean dispatchAndWait(String key, WebhookEventRequest event, Runnable onComplete) throws InterruptedException {
+        if (closed) {
+            return false;
+        }
+        lanes[laneOf(key)].queue.put(new Delivery(event, onComplete, null));
+        return true;
+    }
+
+    /**
+     * Enfileira um evento para tratamento somente se houver espaço na fila, sem aplicar o
+     * {@link WebhookOverflowPolicy}. Utilizado na reentrega de eventos descartados.
+     *
+     * @param key        A chave de ordenação, normalmente o identificador da transação.
+     * @param event      O evento.
+     * @param onComplete Ação executada depois que todos os handlers trataram o evento. Pode ser {@code null}.
+     * @return {@code false} se a fila estiver cheia ou o distribuidor estiver encerrado.
+     */
+    public boolean tryDispatch(String key, WebhookEventRequest event, Runnable onComplete) {
+        return !closed && lanes[laneOf(key)].queue.offer(new Delivery(event, onComplete, null));
+    }
+
+    /**
+     * Retorna o número de eventos aguardando tratamento.
+     *
+     * @return os eventos enfileirados.
+     */
+    public int getQueuedCount() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    /**
+     * Retorna o número de eventos entregues aos handlers.
+     *
+     * @return os eventos entregues.
+     */
+    public long getDispatchedCount() {
+        return dispatched.get();
+    }
+
+    /**
+     * Retorna o número de eventos descartados por fila cheia.
+     *
+     * @return os eventos descartados.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Retorna o número de eventos recusados por fila cheia ou por encerramento.
+     *
+     * @return os eventos recusados.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Retorna o número de falhas de handlers.
+     *
+     * @return as falhas.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Indica se o distribuidor foi encerrado e recusa novos eventos.
+     *
+     * @return {@code true} após {@link #close()}.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Recusa novos eventos e aguarda o tratamento dos enfileirados por até {@code shutdown-timeout};
+     * após esse prazo, as threads são interrompidas.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        long deadline = System.nanoTime() + shutdownTimeoutNanos;
+        for (Lane lane : lanes) {
+            try {
+                TimeUnit.NANOSECONDS.timedJoin(lane.thread, Math.max(1, deadline - System.nanoTime()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        int pending = 0;
+        for (Lane lane : lanes) {
+            if (lane.thread.isAlive()) {
+                lane.thread.interrupt();
+            }
+            pending += lane.queue.size();
+        }
+        if (pending > 0) {
+            log.warn("Receptor de webhooks SyncPay encerrado com {} eventos não tratados", pending);
+        }
+    }
+
+    private int laneOf(String key) {
+        if (key == null) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private void handle(Delivery delivery) {
+        WebhookEventRequest event = delivery.event();
+        dispatched.incrementAndGet();
+        for (SyncPayWebhookHandler handler : handlers) {
+            try {
+                handler.handle(event);
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("Falha ao tratar webhook SyncPay da transação {}: {}",
+                        event.getData() != null ? event.getData().getIdTransaction() : null, e.getMessage(), e);
+            }
+        }
+        delivery.complete();
+    }
+
+    private record Delivery(WebhookEventRequest event, Runnable onComplete, Runnable onDrop) {
+
+        private void complete() {
+            if (onComplete != null) {
+                onComplete.run();
+            }
+        }
+
+        private void drop() {
+            if (onDrop != null) {
+                onDrop.run();
+            }
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Delivery> queue;
+        private final Thread thread;
+
+        private Lane(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "syncpay-webhook-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed || !queue.isEmpty()) {
+                    Delivery delivery = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (delivery != null) {
+                        handle(delivery);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
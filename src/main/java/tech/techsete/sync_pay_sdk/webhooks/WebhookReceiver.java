@@ -0,0 +1,165 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonDecoder;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.enums.WebhookOverflowPolicy;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookReceiverProperties;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Rota WebFlux que recebe os webhooks da SyncPay.
+ * <p>
+ * O corpo é lido até {@code max-body-size} e decodificado diretamente dos {@code DataBuffer}
+ * da requisição pelo decodificador do SDK, sem passar pelos conversores da aplicação. O evento
+ * é entregue ao {@link WebhookDispatcher} e o recebimento é confirmado em seguida, sem esperar
+ * pelos handlers. Com o {@link WebhookSpool}, o conteúdo original é antes gravado no journal,
+ * e a confirmação aguarda a sincronização do registro com o disco. Com o
+ * {@link WebhookDeduplicator}, um webhook com a mesma transação e status de outro já aceito é
+ * confirmado logo após a decodificação, sem ser gravado nem enfileirado.
+ * </p>
+ * <p>
+ * Respostas:
+ * </p>
+ * <ul>
+ *     <li>{@code 200}: evento enfileirado, repetido, ou descartado por fila cheia com
+ *     {@link WebhookOverflowPolicy#DROP_NEWEST};</li>
+ *     <li>{@code 400}: corpo inválido ou sem identificador de transação;</li>
+ *     <li>{@code 413}: corpo maior que {@code max-body-size};</li>
+ *     <li>{@code 500}: falha ao gravar o evento no journal ou ao enfileirá-lo;</li>
+ *     <li>{@code 503}: fila cheia com {@link WebhookOverflowPolicy#REJECT}, ou receptor encerrado.</li>
+ * </ul>
+ *
+ * @see WebhookDispatcher
+ * @see WebhookSpool
+ * @see WebhookDeduplicator
+ * @see SyncPayWebhookReceiverProperties
+ */
+@Slf4j
+public class WebhookReceiver {
+
+    private static final ResolvableType EVENT_TYPE = ResolvableType.forClass(WebhookEventRequest.class);
+    private static final Map<String, Object> HINTS = Map.of();
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final SyncPayJsonDecoder decoder;
+    private final WebhookDispatcher dispatcher;
+    private final WebhookSpool spool;
+    private final WebhookDeduplicator deduplicator;
+    private final int maxBodySize;
+    private final boolean rejectOnOverflow;
+
+    /**
+     * Cria o receptor.
+     *
+     * @param decoder            O decodificador JSON do SDK.
+     * @param dispatcher         O distribuidor dos eventos aos handlers.
+     * @param spool              O spool com journal, ou {@code null} para entregar os eventos
+     *                           diretamente ao distribuidor.
+     * @param deduplicator       O deduplicador, ou {@code null} para aceitar webhooks repetidos.
+     * @param receiverProperties As propriedades do receptor de webhooks.
+     */
+    public WebhookReceiver(SyncPayJsonDecoder decoder,
+                           WebhookDispatcher dispatcher,
+                           WebhookSpool spool,
+                           WebhookDeduplicator deduplicator,
+                           SyncPayWebhookReceiverProperties receiverProperties
+    ) {
+        this.decoder = decoder;
+        this.dispatcher = dispatcher;
+        this.spool = spool;
+        this.deduplicator = deduplicator;
+        this.maxBodySize = Math.toIntExact(receiverProperties.getMaxBodySize().toBytes());
+        this.rejectOnOverflow = receiverProperties.getOverflowPolicy() != WebhookOverflowPolicy.DROP_NEWEST;
+    }
+
+    /**
+     * Recebe um webhook.
+     *
+     * @param request A requisição.
+     * @return a confirmação do recebimento.
+     */
+    public Mono<ServerResponse> receive(ServerRequest request) {
+        return DataBufferUtils.join(request.exchange().getRequest().getBody(), maxBodySize)
+                .flatMap(this::accept)
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.badRequest().build()))
+                .onErrorResume(DataBufferLimitException.class,
+                        error -> ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).build())
+                .onErrorResume(CodecException.class, error -> {
+                    log.warn("Webhook SyncPay inválido: {}", error.getMessage());
+                    return ServerResponse.badRequest().build();
+                });
+    }
+
+    private Mono<ServerResponse> accept(DataBuffer buffer) {
+        ByteBuffer payload = null;
+        if (spool != null) {
+            payload = ByteBuffer.allocate(buffer.readableByteCount());
+            buffer.toByteBuffer(buffer.readPosition(), payload, 0, payload.capacity());
+        }
+
+        WebhookEventRequest event = (WebhookEventRequest) decoder.decode(buffer, EVENT_TYPE, MediaType.APPLICATION_JSON, HINTS);
+        String key = keyOf(event);
+        if (key == null) {
+            return ServerResponse.badRequest().build();
+        }
+
+        String status = event.getData().getStatus() != null ? event.getData().getStatus().name() : "";
+        if (deduplicator != null && !deduplicator.register(key, status)) {
+            log.debug("Webhook SyncPay repetido da transação {} com status {} ignorado", key, status);
+            return ServerResponse.ok().build();
+        }
+
+        ByteBuffer journaled = payload;
+        Mono<Boolean> accepted = spool == null
+                ? Mono.fromCallable(() -> dispatcher.dispatch(key, event))
+                : Mono.fromFuture(() -> spool.offer(key, event, journaled));
+        return accepted
+                .onErrorResume(error -> {
+                    forget(key, status);
+                    log.error("Falha ao aceitar webhook SyncPay da transação {}: {}", key, error.getMessage(), error);
+                    return Mono.empty();
+                })
+                .flatMap(result -> respond(key, status, result))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+    }
+
+    /**
+     * Retorna a chave de ordenação de um evento: o identificador da transação ou, na sua
+     * ausência, o identificador do evento.
+     */
+    static String keyOf(WebhookEventRequest event) {
+        WebhookEventRequest.Data data = event.getData();
+        return data == null ? null : data.getIdTransaction() != null ? data.getIdTransaction() : data.getId();
+    }
+
+    private Mono<ServerResponse> respond(String key, String status, boolean accepted) {
+        if (accepted || (!rejectOnOverflow && !dispatcher.isClosed())) {
+            return ServerResponse.ok().build();
+        }
+        forget(key, status);
+        log.debug("Webhook SyncPay da transação {} recusado: fila cheia", key);
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    private void forget(String key, String status) {
+        if (deduplicator != null) {
+            deduplicator.forget(key, status);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonDecoder;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.enums.WebhookOverflowPolicy;
+import tech.techsete.sync_pay_sdk.journal.WebhookJournal;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Entrega dos webhooks aos handlers com gravação prévia no {@link WebhookJournal}.
+ * <p>
+ * O conteúdo original de cada webhook é gravado no journal e enfileirado no
+ * {@link WebhookDispatcher}; o recebimento só é confirmado depois que o registro está em disco.
+ * À medida que os handlers terminam, o spool confirma no journal a posição anterior ao registro
+ * mais antigo ainda pendente, já que as transações são tratadas em paralelo e podem terminar
+ * fora de ordem. Na inicialização, os registros posteriores à última posição confirmada são
+ * entregues novamente aos handlers; um evento pode, portanto, ser entregue mais de uma vez.
+ * </p>
+ * <p>
+ * Um evento descartado da fila por {@link WebhookOverflowPolicy#DROP_OLDEST} ou
+ * {@link WebhookOverflowPolicy#DROP_NEWEST} também só tem o recebimento confirmado depois que o
+ * registro está em disco, e não é dado como tratado: a sua posição é mantida em memória e a
+ * posição confirmada não passa do descartado mais antigo. Sempre que um handler termina, os
+ * descartados são lidos do journal e reenfileirados, do mais antigo ao mais recente, enquanto
+ * houver espaço na fila, e deixam de reter a posição confirmada quando são tratados. Um evento
+ * reentregue pode chegar aos handlers depois de eventos mais recentes da mesma transação. Até
+ * a reentrega, o journal retém os segmentos a partir do descartado mais antigo;
+ * {@link #getDroppedPendingCount()} informa quantos aguardam reentrega. Os que restarem no
+ * encerramento são reentregues, com os registros seguintes, na próxima inicialização.
+ * </p>
+ *
+ * @see WebhookJournal
+ * @see WebhookReceiver
+ */
+@Slf4j
+public class WebhookSpool implements AutoCloseable {
+
+    /**
+     * Nome do consumidor do journal utilizado pelo spool.
+     */
+    public static final String CONSUMER = "webhook-dispatcher";
+
+    private static final ResolvableType EVENT_TYPE = ResolvableType.forClass(WebhookEventRequest.class);
+
+    private final WebhookJournal journal;
+    private final WebhookDispatcher dispatcher;
+    private final SyncPayJsonDecoder decoder;
+    private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<Long> dropped = new ConcurrentSkipListSet<>();
+    private final AtomicBoolean redelivering = new AtomicBoolean();
+
+    /**
+     * Cria o spool.
+     *
+     * @param journal    O journal dos webhooks.
+     * @param dispatcher O distribuidor dos eventos aos handlers.
+     * @param decoder    O decodificador JSON do SDK, utilizado na reentrega.
+     */
+    public WebhookSpool(WebhookJournal journal, WebhookDispatcher dispatcher, SyncPayJsonDecoder decoder) {
+        this.journal = journal;
+        this.dispatcher = dispatcher;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Grava um webhook no journal e o enfileira para tratamento.
+     *
+     * @param key     A chave de ordenação, normalmente o identificador da transação.
+     * @param event   O evento decodificado.
+     * @param payload O conteúdo original do webhook.
+     * @return {@link CompletableFuture} concluído com {@code true} quando o registro estiver em
+     * disco; com {@code false} quando o registro estiver em disco, se o evento foi descartado por
+     * {@link WebhookOverflowPolicy#DROP_NEWEST}; ou com {@code false} de imediato, se o evento foi
+     * recusado, por fila cheia com {@link WebhookOverflowPolicy#REJECT} ou por encerramento.
+     */
+    public CompletableFuture<Boolean> offer(String key, WebhookEventRequest event, ByteBuffer payload) {
+        long offset;
+        synchronized (this) {
+            offset = journal.append(payload);
+            pending.add(offset);
+        }
+
+        AtomicBoolean dropped = new AtomicBoolean();
+        boolean dispatched = dispatcher.dispatch(key, event, () -> complete(offset), () -> {
+            dropped.set(true);
+            drop(offset);
+        });
+        if (!dispatched && !dropped.get()) {
+            complete(offset);
+            return CompletableFuture.completedFuture(false);
+        }
+        return journal.sync(offset).thenApply(durable -> dispatched);
+    }
+
+    /**
+     * Entrega novamente aos handlers os registros posteriores à última posição confirmada.
+     *
+     * @return o número de eventos entregues.
+     */
+    public int replay() {
+        long from = journal.getCommittedOffset(CONSUMER);
+        journal.commit(CONSUMER, from);
+
+        int[] replayed = {0};
+        journal.read(from, (offset, payload) -> {
+            pending.add(offset);
+            if (replay(offset, payload)) {
+                replayed[0]++;
+            } else {
+                complete(offset);
+            }
+        });
+        commit();
+
+        if (replayed[0] > 0) {
+            log.info("{} webhooks SyncPay não tratados reenviados aos handlers a partir do journal", replayed[0]);
+        }
+        return replayed[0];
+    }
+
+    /**
+     * Retorna o número de eventos descartados por fila cheia que aguardam reentrega. Enquanto
+     * houver algum, a posição confirmada no journal não passa do mais antigo.
+     *
+     * @return os eventos descartados aguardando reentrega.
+     */
+    public int getDroppedPendingCount() {
+        return dropped.size();
+    }
+
+    /**
+     * Encerra o distribuidor, aguardando o tratamento dos eventos enfileirados, e em seguida o
+     * journal, para que as posições confirmadas pelos últimos eventos sejam gravadas em disco.
+     */
+    @Override
+    public void close() {
+        dispatcher.close();
+        journal.close();
+    }
+
+    private boolean replay(long offset, ByteBuffer payload) {
+        WebhookEventRequest event = decode(offset, payload);
+        if (event == null) {
+            return false;
+        }
+
+        try {
+            return dispatcher.dispatchAndWait(WebhookReceiver.keyOf(event), event, () -> complete(offset));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private WebhookEventRequest decode(long offset, ByteBuffer payload) {
+        try {
+            return (WebhookEventRequest) decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(payload),
+                    EVENT_TYPE, MediaType.APPLICATION_JSON, Map.of());
+        } catch (CodecException e) {
+            log.warn("Webhook SyncPay inválido no journal na posição {}: {}", offset, e.getMessage());
+            return null;
+        }
+    }
+
+    private void complete(long offset) {
+        pending.remove(offset);
+        commit();
+        redeliver();
+    }
+
+    /**
+     * Reenfileira os eventos descartados, do mais antigo ao mais recente, até encontrar a fila
+     * cheia. Executado por uma thread de cada vez; a posição passa a ser pendente antes de deixar
+     * de ser descartada, para que a posição confirmada nunca a ultrapasse.
+     */
+    private void redeliver() {
+        if (dropped.isEmpty() || !redelivering.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            for (Long offset : dropped) {
+                WebhookEventRequest[] event = new WebhookEventRequest[1];
+                if (!journal.readRecord(offset, (position, payload) -> event[0] = decode(position, payload)) || event[0] == null) {
+                    log.warn("Webhook SyncPay descartado na posição {} não pôde ser lido do journal e não será reentregue", offset);
+                    dropped.remove(offset);
+                    continue;
+                }
+
+                synchronized (this) {
+                    pending.add(offset);
+                }
+                if (!dispatcher.tryDispatch(WebhookReceiver.keyOf(event[0]), event[0], () -> complete(offset))) {
+                    pending.remove(offset);
+                    break;
+                }
+                synchronized (this) {
+                    dropped.remove(offset);
+                }
+            }
+        } finally {
+            redelivering.set(false);
+        }
+        commit();
+    }
+
+    private synchronized void drop(long offset) {
+        dropped.add(offset);
+        pending.remove(offset);
+    }
+
+    private synchronized void commit() {
+        Long oldest = pending.ceiling(Long.MIN_VALUE);
+        Long oldestDropped = dropped.ceiling(Long.MIN_VALUE);
+        long committed = oldest != null ? oldest : journal.getEndOffset();
+        journal.commit(CONSUMER, oldestDropped != null ? Math.min(committed, oldestDropped) : committed);
+    }
+}
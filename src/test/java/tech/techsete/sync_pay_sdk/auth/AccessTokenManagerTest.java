@@ -0,0 +1,128 @@
+package tech.techsete.sync_pay_sdk.auth;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tech.techsete.sync_pay_sdk.dtos.response.AuthenticationResponse;
+import tech.techsete.sync_pay_sdk.exceptions.SyncPayAuthenticationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessTokenManagerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void responseWithoutAccessTokenIsRejected() {
+        AccessTokenManager manager = manager(() -> Mono.just(new AuthenticationResponse(null, "Bearer", 3600, null)));
+
+        assertThatThrownBy(() -> manager.getAccessToken().block(TIMEOUT))
+                .isInstanceOf(SyncPayAuthenticationException.class)
+                .hasMessageContaining("no access token");
+    }
+
+    @Test
+    void shortLivedTokenIsNotRefreshedOnEveryRequest() {
+        AccessTokenManager manager = manager(() -> Mono.just(token(30)));
+
+        assertThat(manager.getAccessToken().block(TIMEOUT)).isEqualTo("token-1");
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(manager.getAccessToken().block(TIMEOUT)).isEqualTo("token-1");
+        assertThat(fetches).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(manager.getAccessToken().block(TIMEOUT)).isEqualTo("token-1");
+        assertThat(fetches).hasValue(2);
+        assertThat(manager.getAccessToken().block(TIMEOUT)).isEqualTo("token-2");
+    }
+
+    @Test
+    void configuredSkewAppliesToLongLivedTokens() {
+        AccessTokenManager manager = manager(() -> Mono.just(token(3600)));
+
+        manager.getAccessToken().block(TIMEOUT);
+        clock.advance(Duration.ofSeconds(3539));
+        manager.getAccessToken().block(TIMEOUT);
+        assertThat(fetches).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        manager.getAccessToken().block(TIMEOUT);
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void concurrentCallersShareOneFetch() {
+        Sinks.One<AuthenticationResponse> response = Sinks.one();
+        AccessTokenManager manager = manager(response::asMono);
+
+        Mono<String> first = manager.getAccessToken().cache();
+        Mono<String> second = manager.getAccessToken().cache();
+        first.subscribe();
+        second.subscribe();
+        response.tryEmitValue(token(3600));
+
+        assertThat(first.block(TIMEOUT)).isEqualTo("token-1");
+        assertThat(second.block(TIMEOUT)).isEqualTo("token-1");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void throwingFetcherDoesNotBlockLaterRefreshes() {
+        AccessTokenManager manager = manager(() -> {
+            if (fetches.get() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return Mono.just(token(3600));
+        });
+
+        assertThatThrownBy(() -> manager.getAccessToken().block(TIMEOUT)).hasMessageContaining("boom");
+        assertThat(manager.getAccessToken().block(TIMEOUT)).isEqualTo("token-2");
+    }
+
+    private AccessTokenManager manager(Supplier<Mono<AuthenticationResponse>> fetcher) {
+        return new AccessTokenManager(() -> {
+            fetches.incrementAndGet();
+            return fetcher.get();
+        }, Duration.ofSeconds(60), Duration.ofHours(1), clock);
+    }
+
+    private AuthenticationResponse token(int expiresIn) {
+        return new AuthenticationResponse("token-" + fetches.get(), "Bearer", expiresIn, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
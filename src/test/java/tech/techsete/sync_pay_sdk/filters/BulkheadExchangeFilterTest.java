@@ -0,0 +1,56 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.properties.SyncPayBulkheadProperties;
+import tech.techsete.sync_pay_sdk.resilience.Bulkhead;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadExchangeFilterTest {
+
+    private static final URI URL = URI.create("https://api.syncpay.pro/api/partner/v1/cash-in");
+
+    private final BulkheadExchangeFilter filter = new BulkheadExchangeFilter(new SyncPayBulkheadProperties());
+    private final Bulkhead bulkhead = filter.getBulkhead(SyncPayEndpoint.resolve(URL));
+    private final ClientRequest request = ClientRequest.create(HttpMethod.POST, URL).build();
+
+    @Test
+    void permitIsHeldUntilBodyIsConsumed() {
+        ClientResponse response = filter
+                .filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).body("{}").build()))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+        assertThat(response.bodyToMono(String.class).block(Duration.ofSeconds(5))).isEqualTo("{}");
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void permitIsReleasedOnceWhenBodyIsDiscarded() {
+        ClientResponse response = filter
+                .filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build()))
+                .block(Duration.ofSeconds(5));
+
+        response.releaseBody().block(Duration.ofSeconds(5));
+        response.releaseBody().block(Duration.ofSeconds(5));
+
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void permitIsReleasedWhenExchangeFails() {
+        Mono<ClientResponse> failed = filter.filter(request, r -> Mono.error(new IllegalStateException("connection refused")));
+
+        assertThat(failed.onErrorResume(error -> Mono.empty()).block(Duration.ofSeconds(5))).isNull();
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+}
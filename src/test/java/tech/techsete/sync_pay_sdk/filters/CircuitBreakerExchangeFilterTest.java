@@ -0,0 +1,73 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.CircuitBreakerState;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.properties.SyncPayCircuitBreakerProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayRateLimitProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerExchangeFilterTest {
+
+    private static final URI URL = URI.create("https://api.syncpay.pro/api/partner/v1/cash-in");
+    private static final int CALLS = 10;
+
+    @Test
+    void queueWaitInRateLimiterIsNotCountedAsSlowCall() {
+        CircuitBreakerExchangeFilter circuitBreaker = circuitBreaker();
+        ExchangeFunction exchange = circuitBreaker.andThen(rateLimiter())
+                .apply(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        long succeeded = callConcurrently(exchange);
+
+        assertThat(succeeded).isEqualTo(CALLS);
+        assertThat(circuitBreaker.getState(SyncPayEndpoint.resolve(URL))).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    void slowApiStillOpensCircuitAfterQueueWait() {
+        CircuitBreakerExchangeFilter circuitBreaker = circuitBreaker();
+        ExchangeFunction exchange = circuitBreaker.andThen(rateLimiter())
+                .apply(request -> Mono.delay(Duration.ofMillis(150)).thenReturn(ClientResponse.create(HttpStatus.OK).build()));
+
+        callConcurrently(exchange);
+
+        assertThat(circuitBreaker.getState(SyncPayEndpoint.resolve(URL))).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    private static long callConcurrently(ExchangeFunction exchange) {
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URL).build();
+        return Flux.range(0, CALLS)
+                .flatMap(i -> exchange.exchange(request).onErrorResume(error -> Mono.empty()), CALLS)
+                .count()
+                .block(Duration.ofSeconds(10));
+    }
+
+    private static CircuitBreakerExchangeFilter circuitBreaker() {
+        SyncPayCircuitBreakerProperties properties = new SyncPayCircuitBreakerProperties();
+        SyncPayCircuitBreakerProperties.Config config = properties.getDefaultConfig();
+        config.setSlowCallDurationThreshold(Duration.ofMillis(100));
+        config.setSlowCallRateThreshold(50);
+        config.setSlidingWindowSize(4);
+        config.setMinimumNumberOfCalls(4);
+        return new CircuitBreakerExchangeFilter(properties, event -> { });
+    }
+
+    private static RateLimiterExchangeFilter rateLimiter() {
+        SyncPayRateLimitProperties properties = new SyncPayRateLimitProperties();
+        properties.setEnabled(true);
+        properties.setDefaultLimit(new SyncPayRateLimitProperties.Limit(20, 1));
+        return new RateLimiterExchangeFilter(properties);
+    }
+}
@@ -0,0 +1,52 @@
+package tech.techsete.sync_pay_sdk.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.enums.SyncPayEndpoint;
+import tech.techsete.sync_pay_sdk.properties.SyncPayRateLimitProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterExchangeFilterTest {
+
+    private static final URI URL = URI.create("https://api.syncpay.pro/api/partner/v1/cash-out");
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.POST, URL).build();
+
+    @Test
+    void isDisabledByDefault() {
+        RateLimiterExchangeFilter filter = new RateLimiterExchangeFilter(new SyncPayRateLimitProperties());
+
+        long responses = Flux.range(0, 1_000)
+                .flatMap(i -> filter.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())))
+                .count()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(responses).isEqualTo(1_000);
+    }
+
+    @Test
+    void hugeRetryAfterThrottlesWithoutFailingTheResponse() {
+        SyncPayRateLimitProperties properties = new SyncPayRateLimitProperties();
+        properties.setEnabled(true);
+        RateLimiterExchangeFilter filter = new RateLimiterExchangeFilter(properties);
+        ClientResponse throttled = ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "99999999999999999999")
+                .build();
+
+        ClientResponse response = filter.filter(request, r -> Mono.just(throttled)).block(Duration.ofSeconds(5));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(filter.getCurrentRate(SyncPayEndpoint.resolve(URL)))
+                .isLessThan(properties.getLimit(SyncPayEndpoint.resolve(URL)).getPermitsPerSecond());
+    }
+}
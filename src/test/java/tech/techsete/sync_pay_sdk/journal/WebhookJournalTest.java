@@ -0,0 +1,156 @@
+package tech.techsete.sync_pay_sdk.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookJournalProperties;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookJournalTest {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 20;
+    private static final int SEGMENT_SIZE = 2 * (HEADER_SIZE + RECORD_SIZE);
+
+    @TempDir
+    private Path directory;
+
+    private WebhookJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void recordsSpanSegmentsAndSurviveReopen() {
+        journal = open();
+        List<Long> offsets = append(5);
+        journal.close();
+
+        journal = open();
+        assertThat(journal.getSegmentCount()).isEqualTo(3);
+        assertThat(offsets).containsExactly(0L, 28L, 56L, 84L, 112L);
+        assertThat(readAll()).containsExactly(record(0), record(1), record(2), record(3), record(4));
+        assertThat(journal.getEndOffset()).isEqualTo(140);
+    }
+
+    @Test
+    void tornWriteIsDiscardedAndAppendResumesAtIt() throws IOException {
+        journal = open();
+        List<Long> offsets = append(3);
+        journal.close();
+
+        long torn = offsets.get(2);
+        corrupt(torn, HEADER_SIZE + RECORD_SIZE - 1);
+
+        journal = open();
+        assertThat(readAll()).containsExactly(record(0), record(1));
+        assertThat(journal.getEndOffset()).isEqualTo(torn);
+        assertThat(journal.append(payload(9))).isEqualTo(torn);
+        assertThat(readAll()).containsExactly(record(0), record(1), record(9));
+    }
+
+    @Test
+    void corruptCrcDiscardsTheRestOfItsSegmentOnly() throws IOException {
+        journal = open();
+        List<Long> offsets = append(6);
+        journal.close();
+
+        corrupt(offsets.get(2), 4);
+
+        journal = open();
+        assertThat(journal.getSegmentCount()).isEqualTo(3);
+        assertThat(readAll()).containsExactly(record(0), record(1), record(4), record(5));
+        assertThat(journal.readRecord(offsets.get(2), (offset, payload) -> { })).isFalse();
+        assertThat(journal.readRecord(offsets.get(3), (offset, payload) -> { })).isFalse();
+    }
+
+    @Test
+    void readRecordReturnsASingleRecord() {
+        journal = open();
+        List<Long> offsets = append(3);
+
+        List<String> read = new ArrayList<>();
+        assertThat(journal.readRecord(offsets.get(1), (offset, payload) -> read.add(text(payload)))).isTrue();
+        assertThat(read).containsExactly(record(1));
+        assertThat(journal.readRecord(journal.getEndOffset(), (offset, payload) -> read.add(text(payload)))).isFalse();
+        assertThat(journal.readRecord(offsets.get(1) + 1, (offset, payload) -> read.add(text(payload)))).isFalse();
+    }
+
+    @Test
+    void compactionStopsAtTheCommittedOffset() {
+        journal = open();
+        List<Long> offsets = append(5);
+
+        journal.commit("consumer", offsets.get(2));
+        assertThat(journal.compact()).isEqualTo(1);
+        assertThat(journal.getCommittedOffset("consumer")).isEqualTo(offsets.get(2));
+        assertThat(readAll()).containsExactly(record(2), record(3), record(4));
+
+        journal.commit("consumer", offsets.get(1));
+        assertThat(journal.getCommittedOffset("consumer")).isEqualTo(offsets.get(2));
+    }
+
+    private WebhookJournal open() {
+        SyncPayWebhookJournalProperties properties = new SyncPayWebhookJournalProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofBytes(SEGMENT_SIZE));
+        return new WebhookJournal(properties);
+    }
+
+    private List<Long> append(int count) {
+        List<Long> offsets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            offsets.add(journal.append(payload(i)));
+        }
+        journal.sync(offsets.get(count - 1)).join();
+        return offsets;
+    }
+
+    private List<String> readAll() {
+        List<String> records = new ArrayList<>();
+        journal.read(journal.getCommittedOffset("reader"), (offset, payload) -> records.add(text(payload)));
+        return records;
+    }
+
+    /**
+     * Inverte um byte do registro na posição informada, diretamente no arquivo do segmento.
+     */
+    private void corrupt(long offset, int at) throws IOException {
+        long base = offset - offset % SEGMENT_SIZE;
+        Path segment = directory.resolve(String.format("%020d.seg", base));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = offset - base + at;
+            ByteBuffer value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            value.put(0, (byte) ~value.get(0)).rewind();
+            channel.write(value, position);
+        }
+    }
+
+    private static String record(int index) {
+        return String.format("record-%013d", index);
+    }
+
+    private static ByteBuffer payload(int index) {
+        return ByteBuffer.wrap(record(index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer payload) {
+        return StandardCharsets.UTF_8.decode(payload).toString();
+    }
+}
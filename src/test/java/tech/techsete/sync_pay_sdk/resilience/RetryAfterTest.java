@@ -0,0 +1,44 @@
+package tech.techsete.sync_pay_sdk.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryAfterTest {
+
+    @Test
+    void parsesSeconds() {
+        assertThat(RetryAfter.parse(" 120 ")).contains(Duration.ofSeconds(120));
+    }
+
+    @Test
+    void clampsHugeSecondsToMaxWait() {
+        assertThat(RetryAfter.parse(String.valueOf(Long.MAX_VALUE))).contains(RetryAfter.MAX_WAIT);
+        assertThat(RetryAfter.parse("99999999999999999999999")).contains(RetryAfter.MAX_WAIT);
+        assertThat(RetryAfter.parse(String.valueOf(Long.MAX_VALUE)).orElseThrow().toNanos()).isPositive();
+    }
+
+    @Test
+    void clampsFarFutureDateToMaxWait() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusYears(50));
+        assertThat(RetryAfter.parse(date)).contains(RetryAfter.MAX_WAIT);
+    }
+
+    @Test
+    void pastDateMeansNoWait() {
+        assertThat(RetryAfter.parse("Wed, 21 Oct 2015 07:28:00 GMT")).contains(Duration.ZERO);
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThat(RetryAfter.parse((String) null)).isEmpty();
+        assertThat(RetryAfter.parse(" ")).isEmpty();
+        assertThat(RetryAfter.parse("12s")).isEmpty();
+        assertThat(RetryAfter.parse("soon")).isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+package tech.techsete.sync_pay_sdk.state;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import tech.techsete.sync_pay_sdk.domain.TransactionStateChange;
+import tech.techsete.sync_pay_sdk.enums.TransactionStatus;
+import tech.techsete.sync_pay_sdk.enums.WebhookEventStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayTransactionStateProperties;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.COMPLETED;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.FAILED;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.MED;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.PAID_OUT;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.PENDING;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.REFUNDED;
+import static tech.techsete.sync_pay_sdk.enums.WebhookEventStatus.WAITING_FOR_APPROVAL;
+
+class TransactionStateStoreTest {
+
+    private final TransactionStateStore store = new TransactionStateStore(new SyncPayTransactionStateProperties());
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        store.close();
+    }
+
+    @Test
+    void transitionTableMatchesTheDocumentedLifecycle() {
+        Map<WebhookEventStatus, Set<WebhookEventStatus>> allowed = Map.of(
+                PENDING, EnumSet.of(WAITING_FOR_APPROVAL, COMPLETED, PAID_OUT, FAILED, MED, REFUNDED),
+                WAITING_FOR_APPROVAL, EnumSet.of(COMPLETED, PAID_OUT, FAILED, MED, REFUNDED),
+                COMPLETED, EnumSet.of(MED, REFUNDED),
+                PAID_OUT, EnumSet.of(MED, REFUNDED),
+                MED, EnumSet.of(REFUNDED),
+                FAILED, EnumSet.noneOf(WebhookEventStatus.class),
+                REFUNDED, EnumSet.noneOf(WebhookEventStatus.class));
+
+        for (WebhookEventStatus from : WebhookEventStatus.values()) {
+            for (WebhookEventStatus to : WebhookEventStatus.values()) {
+                assertThat(TransactionStateStore.isAllowed(from, to))
+                        .as("%s -> %s", from, to)
+                        .isEqualTo(allowed.get(from).contains(to));
+            }
+        }
+    }
+
+    @Test
+    void repeatedAndStaleStatusesAreDiscarded() {
+        List<TransactionStateChange> changes = new CopyOnWriteArrayList<>();
+        store.addListener(changes::add);
+
+        assertThat(store.update("tx", PENDING)).isTrue();
+        assertThat(store.update("tx", COMPLETED)).isTrue();
+        assertThat(store.update("tx", COMPLETED)).isFalse();
+        assertThat(store.update("tx", PENDING)).isFalse();
+        assertThat(store.update("tx", TransactionStatus.REFUNDED)).isTrue();
+
+        assertThat(store.get("tx")).isEqualTo(REFUNDED);
+        assertThat(store.getTransitionCount()).isEqualTo(3);
+        assertThat(store.getStaleCount()).isEqualTo(1);
+        assertThat(store.isNewerThan("tx", TransactionStatus.COMPLETED)).isTrue();
+        assertThat(changes).extracting(TransactionStateChange::previous, TransactionStateChange::current)
+                .containsExactly(
+                        tuple(null, PENDING),
+                        tuple(PENDING, COMPLETED),
+                        tuple(COMPLETED, REFUNDED));
+    }
+
+    @Test
+    void listenerMayUpdateTheStoreAcrossStripes() throws Exception {
+        CyclicBarrier bothNotified = new CyclicBarrier(2);
+        store.addListener(change -> {
+            if (change.current() != PENDING) {
+                return;
+            }
+            try {
+                bothNotified.await(1, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                Thread.currentThread().interrupt();
+            }
+            store.update(change.id().equals("a") ? "b" : "a", COMPLETED);
+        });
+
+        Future<Boolean> first = executor.submit(() -> store.update("a", PENDING));
+        Future<Boolean> second = executor.submit(() -> store.update("b", PENDING));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.get("a")).isEqualTo(COMPLETED);
+        assertThat(store.get("b")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void listenerUpdatesOfTheSameTransactionAreNotifiedInOrder() {
+        List<TransactionStateChange> changes = new CopyOnWriteArrayList<>();
+        store.addListener(change -> {
+            changes.add(change);
+            if (change.current() == PENDING) {
+                store.update(change.id(), COMPLETED);
+                changes.add(new TransactionStateChange("marker", null, null, null));
+            }
+        });
+
+        store.update("tx", PENDING);
+
+        assertThat(changes).extracting(TransactionStateChange::id).containsExactly("tx", "marker", "tx");
+        assertThat(changes.get(2).previous()).isEqualTo(PENDING);
+    }
+
+    @Test
+    void concurrentNotificationsFollowTheAppliedOrder() throws Exception {
+        Map<String, WebhookEventStatus> last = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        store.addListener(change -> {
+            if (last.put(change.id(), change.current()) != change.previous()) {
+                outOfOrder.incrementAndGet();
+            }
+        });
+
+        WebhookEventStatus[] statuses = WebhookEventStatus.values();
+        List<Future<?>> workers = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 50_000; i++) {
+                    store.update("tx-" + random.nextInt(2_000), statuses[random.nextInt(statuses.length)]);
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(outOfOrder).hasValue(0);
+        assertThat(last).hasSize((int) store.size());
+    }
+
+    @Test
+    void listenerBeansAreResolvedAfterSingletonsAndNotifiedFirst() {
+        List<String> notified = new CopyOnWriteArrayList<>();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("bean", (TransactionStateListener) change -> notified.add("bean"));
+        TransactionStateStore beanStore = new TransactionStateStore(new SyncPayTransactionStateProperties(),
+                beanFactory.getBeanProvider(TransactionStateListener.class));
+        beanStore.addListener(change -> notified.add("added"));
+
+        beanStore.afterSingletonsInstantiated();
+        beanStore.update("tx", PENDING);
+        beanStore.close();
+
+        assertThat(notified).containsExactly("bean", "added");
+    }
+}
@@ -0,0 +1,72 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import org.junit.jupiter.api.Test;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PixKeysTest {
+
+    @Test
+    void taxIdKeysAreReducedToDigits() {
+        assertThat(PixKeys.normalize(PixKeyType.CPF, " 123.456.789-09 ")).isEqualTo("12345678909");
+        assertThat(PixKeys.normalize(PixKeyType.CPF, "123456789-09")).isEqualTo("12345678909");
+        assertThat(PixKeys.normalize(PixKeyType.CPF, "123.456.789-00")).isNull();
+        assertThat(PixKeys.normalize(PixKeyType.CNPJ, "12.345.678/0001-95")).isEqualTo("12345678000195");
+        assertThat(PixKeys.normalize(PixKeyType.CNPJ, "12.345678/0001-95")).isNull();
+    }
+
+    @Test
+    void emailKeysAreLowerCasedAndLimitedTo77Characters() {
+        assertThat(PixKeys.normalize(PixKeyType.EMAIL, " Foo.Bar@Example.COM ")).isEqualTo("foo.bar@example.com");
+        assertThat(PixKeys.normalize(PixKeyType.EMAIL, "a".repeat(64) + "@example.com")).hasSize(76);
+        assertThat(PixKeys.normalize(PixKeyType.EMAIL, "a".repeat(64) + "@example.comm")).hasSize(77);
+        assertThat(PixKeys.normalize(PixKeyType.EMAIL, "a".repeat(64) + "@example.commm")).isNull();
+        assertThat(PixKeys.normalize(PixKeyType.EMAIL, "")).isNull();
+    }
+
+    @Test
+    void phoneKeysAreConvertedToE164() {
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "(11) 99999-9999")).isEqualTo("+5511999999999");
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "11 3333.4444")).isEqualTo("+551133334444");
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "+55 11 99999-9999")).isEqualTo("+5511999999999");
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "+1 415 555 2671")).isEqualTo("+14155552671");
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "(11) 89999-9999")).isNull();
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "(01) 99999-9999")).isNull();
+        assertThat(PixKeys.normalize(PixKeyType.PHONE, "11 99999-9999 ramal 2")).isNull();
+    }
+
+    @Test
+    void evpKeysAreLowerCaseUuids() {
+        assertThat(PixKeys.normalize(PixKeyType.EVP, "123E4567-E89B-12D3-A456-426614174000"))
+                .isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(PixKeys.normalize(PixKeyType.EVP, "123e4567e89b12d3a456426614174000")).isNull();
+        assertThat(PixKeys.normalize(PixKeyType.EVP, "123e4567-e89b-12d3-a456-42661417400g")).isNull();
+    }
+
+    @Test
+    void emailCheckMatchesHibernateForUsualAddresses() {
+        List<String> values = List.of("", "user@example.com", "first.last@sub.example.com.br",
+                "user+tag@example.com", "o'reilly@example.com", "user@localhost", "user@123.example",
+                "user@example-site.com", ".user@example.com", "user.@example.com", "us..er@example.com",
+                "@example.com", "user@", "user", "user@@example.com", "user name@example.com",
+                "a".repeat(64) + "@example.com", "a".repeat(65) + "@example.com");
+        RequestValidator<Address> requestValidator = RequestValidator.compile(Address.class, "Address is required");
+
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            for (String value : values) {
+                Address address = new Address(value);
+                assertThat(requestValidator.validate(address).isEmpty())
+                        .as("e-mail %s", value)
+                        .isEqualTo(validatorFactory.getValidator().validate(address).isEmpty());
+            }
+        }
+    }
+
+    private record Address(@Email String email) { }
+}
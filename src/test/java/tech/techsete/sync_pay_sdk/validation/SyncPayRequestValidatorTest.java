@@ -0,0 +1,76 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import org.junit.jupiter.api.Test;
+import tech.techsete.sync_pay_sdk.dtos.request.CashOutRequest;
+import tech.techsete.sync_pay_sdk.enums.DocumentType;
+import tech.techsete.sync_pay_sdk.enums.PixKeyType;
+import tech.techsete.sync_pay_sdk.exceptions.InvalidCashOutRequestException;
+import tech.techsete.sync_pay_sdk.properties.SyncPayValidationProperties;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class SyncPayRequestValidatorTest {
+
+    private final SyncPayRequestValidator validator = new SyncPayRequestValidator(new SyncPayValidationProperties());
+
+    @Test
+    void cashOutWithNonNormalizedKeyIsCopiedWithoutChangingTheRequest() {
+        CashOutRequest request = cashOut(PixKeyType.PHONE, "(11) 99999-9999");
+
+        CashOutRequest sent = validator.requireValid(request);
+
+        assertThat(sent).isNotSameAs(request);
+        assertThat(sent.getPixKey()).isEqualTo("+5511999999999");
+        assertThat(request.getPixKey()).isEqualTo("(11) 99999-9999");
+        assertThat(sent).usingRecursiveComparison().ignoringFields("pixKey").isEqualTo(request);
+    }
+
+    @Test
+    void cashOutWithNormalizedKeyIsSentAsIs() {
+        CashOutRequest request = cashOut(PixKeyType.CPF, "12345678909");
+
+        assertThat(validator.requireValid(request)).isSameAs(request);
+    }
+
+    @Test
+    void cashOutKeyIsKeptWhenNormalizationIsDisabled() {
+        SyncPayValidationProperties properties = new SyncPayValidationProperties();
+        properties.setNormalizePixKeys(false);
+        CashOutRequest request = cashOut(PixKeyType.EMAIL, "User@Example.com");
+
+        CashOutRequest sent = new SyncPayRequestValidator(properties).requireValid(request);
+
+        assertThat(sent).isSameAs(request);
+        assertThat(sent.getPixKey()).isEqualTo("User@Example.com");
+    }
+
+    @Test
+    void invalidCashOutReportsEveryViolation() {
+        CashOutRequest request = cashOut(PixKeyType.CPF, "123.456.789-00");
+        request.getDocument().setNumber("11111111111");
+        request.setAmount(null);
+
+        InvalidCashOutRequestException exception = catchThrowableOfType(
+                () -> validator.requireValid(request), InvalidCashOutRequestException.class);
+
+        assertThat(exception.getViolations()).extracting(Violation::path)
+                .containsExactlyInAnyOrder("amount", "pixKey", "document.number");
+        assertThat(request.getPixKey()).isEqualTo("123.456.789-00");
+    }
+
+    private static CashOutRequest cashOut(PixKeyType pixKeyType, String pixKey) {
+        return CashOutRequest.builder()
+                .amount(new BigDecimal("10.00"))
+                .description("Saque")
+                .pixKeyType(pixKeyType)
+                .pixKey(pixKey)
+                .document(CashOutRequest.Document.builder()
+                        .type(DocumentType.CPF)
+                        .number("123.456.789-09")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package tech.techsete.sync_pay_sdk.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxIdsTest {
+
+    private static final int[] CPF_FIRST_WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] CPF_SECOND_WEIGHTS = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] CNPJ_FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] CNPJ_SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void cpfMatchesHibernateForEveryPunctuation() {
+        Random random = new Random(1);
+        List<String> mismatches = new ArrayList<>();
+        for (int sample = 0; sample < 2_000; sample++) {
+            int[] digits = new int[11];
+            for (int i = 0; i < 9; i++) {
+                digits[i] = random.nextInt(10);
+            }
+            digits[9] = checkDigit(digits, CPF_FIRST_WEIGHTS);
+            digits[10] = checkDigit(digits, CPF_SECOND_WEIGHTS);
+            if (sample % 4 == 0) {
+                digits[10] = (digits[10] + 1) % 10;
+            }
+
+            for (int mask = 0; mask < 8; mask++) {
+                String cpf = format(digits, mask, new int[]{3, 6, 9}, "..-");
+                if (new Cpf(cpf).isValid() != TaxIds.isValidCpf(cpf)) {
+                    mismatches.add(cpf);
+                }
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void cnpjMatchesHibernateForEveryPunctuation() {
+        Random random = new Random(2);
+        List<String> mismatches = new ArrayList<>();
+        for (int sample = 0; sample < 2_000; sample++) {
+            int[] digits = new int[14];
+            for (int i = 0; i < 12; i++) {
+                digits[i] = random.nextInt(10);
+            }
+            digits[12] = checkDigit(digits, CNPJ_FIRST_WEIGHTS);
+            digits[13] = checkDigit(digits, CNPJ_SECOND_WEIGHTS);
+            if (sample % 4 == 0) {
+                digits[13] = (digits[13] + 1) % 10;
+            }
+
+            for (int mask = 0; mask < 16; mask++) {
+                String cnpj = format(digits, mask, new int[]{2, 5, 8, 12}, "../-");
+                if (new Cnpj(cnpj).isValid() != TaxIds.isValidCnpj(cnpj)) {
+                    mismatches.add(cnpj);
+                }
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void repeatedDigitsAndMalformedValuesMatchHibernate() {
+        List<String> values = new ArrayList<>(List.of("", "123", "123.456.789-0", "abc.def.ghi-jk",
+                "123.456.789/09", "12.345.678/0001-9", "12345678000195 ", " 12345678000195"));
+        for (char digit = '0'; digit <= '9'; digit++) {
+            values.add(String.valueOf(digit).repeat(11));
+            values.add(String.valueOf(digit).repeat(14));
+        }
+
+        for (String value : values) {
+            assertThat(TaxIds.isValidCpf(value)).as("CPF %s", value).isEqualTo(new Cpf(value).isValid());
+            assertThat(TaxIds.isValidCnpj(value)).as("CNPJ %s", value).isEqualTo(new Cnpj(value).isValid());
+        }
+    }
+
+    private static int checkDigit(int[] digits, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += digits[i] * weights[i];
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    /**
+     * Insere antes de cada posição de {@code positions} o separador correspondente, se o bit
+     * respectivo de {@code mask} estiver ligado.
+     */
+    private static String format(int[] digits, int mask, int[] positions, String separators) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < digits.length; i++) {
+            for (int s = 0; s < positions.length; s++) {
+                if (positions[s] == i && (mask & (1 << s)) != 0) {
+                    value.append(separators.charAt(s));
+                }
+            }
+            value.append(digits[i]);
+        }
+        return value.toString();
+    }
+
+    private record Cpf(@CPF String value) {
+
+        boolean isValid() {
+            return validator.validate(this).isEmpty();
+        }
+    }
+
+    private record Cnpj(@CNPJ String value) {
+
+        boolean isValid() {
+            return validator.validate(this).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package tech.techsete.sync_pay_sdk.watchers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import tech.techsete.sync_pay_sdk.dtos.response.TransactionResponse;
+import tech.techsete.sync_pay_sdk.enums.TransactionStatus;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWatcherProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class TransactionWatcherTest {
+
+    @Test
+    void slowPollsHoldTheirSlotsAcrossTicks() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        TransactionWatcher watcher = new TransactionWatcher(id -> Mono.defer(() -> {
+            calls.incrementAndGet();
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return Mono.<TransactionResponse>empty()
+                    .delaySubscription(Duration.ofMillis(200))
+                    .doFinally(signal -> running.decrementAndGet());
+        }), properties(3));
+
+        List<Disposable> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            subscriptions.add(watcher.watch("tx-" + i).subscribe());
+        }
+        Thread.sleep(1_000);
+        subscriptions.forEach(Disposable::dispose);
+
+        assertThat(peak).hasValue(3);
+        assertThat(calls.get()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    void fetcherThrowingBeforeSubscriptionReleasesItsSlot() {
+        AtomicInteger calls = new AtomicInteger();
+        TransactionWatcher watcher = new TransactionWatcher(id -> {
+            if (calls.incrementAndGet() <= 3) {
+                throw new IllegalStateException("fetcher failure");
+            }
+            return Mono.just(response(TransactionStatus.COMPLETED));
+        }, properties(1));
+
+        TransactionResponse last = watcher.watch("tx").blockLast(Duration.ofSeconds(5));
+
+        assertThat(last.getData().getStatus()).isEqualTo(TransactionStatus.COMPLETED);
+        assertThat(calls).hasValue(4);
+        await().atMost(Duration.ofSeconds(5)).until(() -> watcher.getWatchedCount() == 0);
+    }
+
+    private static SyncPayWatcherProperties properties(int maxConcurrency) {
+        SyncPayWatcherProperties properties = new SyncPayWatcherProperties();
+        properties.setTickInterval(Duration.ofMillis(10));
+        properties.setMinPollInterval(Duration.ofMillis(10));
+        properties.setMaxRequestsPerSecond(10_000);
+        properties.setMaxConcurrency(maxConcurrency);
+        return properties;
+    }
+
+    private static TransactionResponse response(TransactionStatus status) {
+        TransactionResponse.Data data = new TransactionResponse.Data();
+        data.setStatus(status);
+        return new TransactionResponse(data);
+    }
+}
@@ -0,0 +1,94 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import org.junit.jupiter.api.Test;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookDedupProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookDeduplicatorTest {
+
+    @Test
+    void repeatedPairIsDetectedAndOtherStatusesAreNew() {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMinutes(10), 1_000);
+
+        assertThat(deduplicator.register("tx-1", "PENDING")).isTrue();
+        assertThat(deduplicator.register("tx-1", "PENDING")).isFalse();
+        assertThat(deduplicator.register("tx-1", "COMPLETED")).isTrue();
+        assertThat(deduplicator.register("tx-2", "PENDING")).isTrue();
+        assertThat(deduplicator.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pairIsRememberedAcrossRotationsWithinRetention() throws InterruptedException {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMillis(900), 1_000);
+        assertThat(deduplicator.register("tx", "PENDING")).isTrue();
+
+        Thread.sleep(400);
+        assertThat(deduplicator.register("other", "PENDING")).isTrue();
+        assertThat(deduplicator.register("tx", "PENDING")).isFalse();
+    }
+
+    @Test
+    void pairIsForgottenAfterAllGenerationsRotate() throws InterruptedException {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMillis(30), 1_000);
+        assertThat(deduplicator.register("tx", "PENDING")).isTrue();
+
+        Thread.sleep(200);
+        assertThat(deduplicator.register("tx", "PENDING")).isTrue();
+    }
+
+    @Test
+    void forgottenPairIsNewAgainInAnyGeneration() throws InterruptedException {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMillis(900), 1_000);
+        deduplicator.register("old", "PENDING");
+        Thread.sleep(400);
+        deduplicator.register("current", "PENDING");
+
+        deduplicator.forget("old", "PENDING");
+        deduplicator.forget("current", "PENDING");
+
+        assertThat(deduplicator.register("old", "PENDING")).isTrue();
+        assertThat(deduplicator.register("current", "PENDING")).isTrue();
+    }
+
+    @Test
+    void forgettingKeepsTheRemainingPairsReachable() {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMinutes(10), 3_000);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(deduplicator.register("tx-" + i, "PENDING")).isTrue();
+        }
+        for (int i = 0; i < 1_000; i += 2) {
+            deduplicator.forget("tx-" + i, "PENDING");
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(deduplicator.register("tx-" + i, "PENDING")).as("tx-%d", i).isEqualTo(i % 2 == 0);
+        }
+    }
+
+    @Test
+    void fullGenerationAcceptsNewPairsAndCountsOverflows() {
+        WebhookDeduplicator deduplicator = deduplicator(Duration.ofMinutes(10), 3);
+        for (int i = 0; i < 200; i++) {
+            assertThat(deduplicator.register("tx-" + i, "PENDING")).isTrue();
+        }
+        assertThat(deduplicator.getOverflowCount()).isPositive();
+    }
+
+    @Test
+    void invalidPropertiesAreRejected() {
+        SyncPayWebhookDedupProperties properties = new SyncPayWebhookDedupProperties();
+        properties.setFalsePositiveRate(1);
+        assertThatThrownBy(() -> new WebhookDeduplicator(properties)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static WebhookDeduplicator deduplicator(Duration retention, long expectedInsertions) {
+        SyncPayWebhookDedupProperties properties = new SyncPayWebhookDedupProperties();
+        properties.setRetention(retention);
+        properties.setExpectedInsertions(expectedInsertions);
+        return new WebhookDeduplicator(properties);
+    }
+}
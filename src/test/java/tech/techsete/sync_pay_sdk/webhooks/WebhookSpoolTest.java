@@ -0,0 +1,124 @@
+package tech.techsete.sync_pay_sdk.webhooks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import tech.techsete.sync_pay_sdk.codecs.SyncPayJsonCodecs;
+import tech.techsete.sync_pay_sdk.dtos.request.WebhookEventRequest;
+import tech.techsete.sync_pay_sdk.enums.WebhookOverflowPolicy;
+import tech.techsete.sync_pay_sdk.journal.WebhookJournal;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookJournalProperties;
+import tech.techsete.sync_pay_sdk.properties.SyncPayWebhookReceiverProperties;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WebhookSpoolTest {
+
+    private final SyncPayJsonCodecs codecs = new SyncPayJsonCodecs();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    private Path directory;
+
+    private WebhookJournal journal;
+    private WebhookSpool spool;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    @Test
+    void droppedNewestIsAcknowledgedOnlyAfterSync() throws Exception {
+        open(WebhookOverflowPolicy.DROP_NEWEST);
+        offer("t1").get(5, TimeUnit.SECONDS);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        offer("t2").get(5, TimeUnit.SECONDS);
+
+        long offset = journal.getEndOffset();
+        long durableAtAck = offer("t3").thenApply(accepted -> {
+            assertThat(accepted).isFalse();
+            return journal.getDurableOffset();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(durableAtAck).isGreaterThan(offset);
+    }
+
+    @Test
+    void droppedEventIsRedeliveredAndReleasesTheCommittedOffset() throws Exception {
+        open(WebhookOverflowPolicy.DROP_NEWEST);
+        offer("t1").get(5, TimeUnit.SECONDS);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        offer("t2").get(5, TimeUnit.SECONDS);
+
+        long offset = journal.getEndOffset();
+        assertThat(offer("t3").get(5, TimeUnit.SECONDS)).isFalse();
+        offer("t4").get(5, TimeUnit.SECONDS);
+        assertThat(spool.getDroppedPendingCount()).isEqualTo(2);
+        assertThat(journal.getCommittedOffset(WebhookSpool.CONSUMER)).isLessThanOrEqualTo(offset);
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> handled.size() == 4);
+        assertThat(handled).containsExactly("t1", "t2", "t3", "t4");
+        assertThat(spool.getDroppedPendingCount()).isZero();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> journal.getCommittedOffset(WebhookSpool.CONSUMER) == journal.getEndOffset());
+    }
+
+    @Test
+    void rejectedIsAnsweredWithoutWaitingForSync() throws Exception {
+        open(WebhookOverflowPolicy.REJECT);
+        offer("t1").get(5, TimeUnit.SECONDS);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        offer("t2").get(5, TimeUnit.SECONDS);
+
+        assertThat(offer("t3").isDone()).isTrue();
+        assertThat(offer("t4").get()).isFalse();
+    }
+
+    private void open(WebhookOverflowPolicy overflowPolicy) {
+        SyncPayWebhookJournalProperties journalProperties = new SyncPayWebhookJournalProperties();
+        journalProperties.setDirectory(directory);
+        journalProperties.setCommitDelay(Duration.ofMillis(50));
+        journal = new WebhookJournal(journalProperties);
+
+        SyncPayWebhookReceiverProperties receiverProperties = new SyncPayWebhookReceiverProperties();
+        receiverProperties.setWorkers(1);
+        receiverProperties.setQueueCapacity(1);
+        receiverProperties.setOverflowPolicy(overflowPolicy);
+        SyncPayWebhookHandler handler = event -> {
+            handled.add(event.getData().getIdTransaction());
+            started.countDown();
+            release.await();
+        };
+        spool = new WebhookSpool(journal, new WebhookDispatcher(List.of(handler), receiverProperties), codecs.getDecoder());
+    }
+
+    private CompletableFuture<Boolean> offer(String id) {
+        byte[] json = ("{\"data\":{\"idtransaction\":\"" + id + "\",\"status\":\"pending\"}}").getBytes(StandardCharsets.UTF_8);
+        WebhookEventRequest event = (WebhookEventRequest) codecs.getDecoder().decode(
+                DefaultDataBufferFactory.sharedInstance.wrap(json), ResolvableType.forClass(WebhookEventRequest.class),
+                MediaType.APPLICATION_JSON, Map.of());
+        return spool.offer(id, event, ByteBuffer.wrap(json));
+    }
+}